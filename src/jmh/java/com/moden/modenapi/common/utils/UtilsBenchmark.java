@@ -0,0 +1,80 @@
+package com.moden.modenapi.common.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로에서 자주 호출되는 유틸 (serviceIds JSON 변환, 업로드 파일명, 표시 이름).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UtilsBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int serviceCount;
+
+    private final UuidListJsonConverter converter = new UuidListJsonConverter();
+    private List<UUID> serviceIds;
+    private String serviceIdsJson;
+    private Instant now;
+
+    // DisplayNameUtil 은 getter 이름을 순서대로 reflection 으로 찾음 → 앞/뒤 후보 각각 측정
+    private final Object nickNameEntity = new NickNameEntity("홍길동");
+    private final Object titleEntity = new TitleEntity("모던 헤어");
+
+    public static class NickNameEntity {
+        private final String nickName;
+        public NickNameEntity(String nickName) { this.nickName = nickName; }
+        public String getNickName() { return nickName; }
+    }
+
+    public static class TitleEntity {
+        private final String title;
+        public TitleEntity(String title) { this.title = title; }
+        public String getTitle() { return title; }
+    }
+
+    @Setup
+    public void setup() {
+        serviceIds = new ArrayList<>();
+        for (int i = 0; i < serviceCount; i++) {
+            serviceIds.add(UUID.randomUUID());
+        }
+        serviceIdsJson = converter.convertToDatabaseColumn(serviceIds);
+        now = Instant.now();
+    }
+
+    @Benchmark
+    public String uuidListToJson() {
+        return converter.convertToDatabaseColumn(serviceIds);
+    }
+
+    @Benchmark
+    public List<UUID> uuidListFromJson() {
+        return converter.convertToEntityAttribute(serviceIdsJson);
+    }
+
+    @Benchmark
+    public String fileNameGenerate() {
+        return FileNameUtil.generate("profile-photo.final.png", now);
+    }
+
+    @Benchmark
+    public String displayNameFirstCandidate() {
+        return DisplayNameUtil.extract(nickNameEntity);
+    }
+
+    @Benchmark
+    public String displayNameLastCandidate() {
+        return DisplayNameUtil.extract(titleEntity);
+    }
+}
@@ -0,0 +1,110 @@
+package com.moden.modenapi.modules.payment.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * confirmPayment 의 금액 계산 (쿠폰 할인 + 서비스/제품 tip).
+ * bigDecimal* : Money 도입 전 BigDecimal 계산 (BigDecimalPaymentCalculator, test 소스)
+ * money*      : 현재 Money (long) 계산
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentCalculatorBenchmark {
+
+    private BigDecimal base;
+    private BigDecimal rate;
+    private BigDecimal amount;
+    private BigDecimal[] servicePrices;
+    private BigDecimal[] tipPercents;
+
+    private Money baseMoney;
+    private long rateBp;
+    private Money amountMoney;
+    private Money[] servicePriceMoney;
+    private long[] tipBps;
+
+    @Setup
+    public void setup() {
+        base = new BigDecimal("87500");
+        rate = new BigDecimal("15");
+        amount = new BigDecimal("3000");
+        servicePrices = new BigDecimal[]{
+                new BigDecimal("35000"), new BigDecimal("52500"), new BigDecimal("12000")
+        };
+        tipPercents = new BigDecimal[]{
+                new BigDecimal("10"), new BigDecimal("7.5"), BigDecimal.ZERO
+        };
+
+        baseMoney = Money.of(base);
+        rateBp = PaymentCalculator.basisPoints(rate);
+        amountMoney = Money.of(amount);
+        servicePriceMoney = new Money[servicePrices.length];
+        tipBps = new long[tipPercents.length];
+        for (int i = 0; i < servicePrices.length; i++) {
+            servicePriceMoney[i] = Money.of(servicePrices[i]);
+            tipBps[i] = PaymentCalculator.basisPoints(tipPercents[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalCouponDiscount() {
+        return BigDecimalPaymentCalculator.couponDiscount(base, rate, amount);
+    }
+
+    @Benchmark
+    public Money moneyCouponDiscount() {
+        return PaymentCalculator.couponDiscount(baseMoney, rateBp, amountMoney);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalServiceTips() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < servicePrices.length; i++) {
+            total = total.add(BigDecimalPaymentCalculator.serviceTip(servicePrices[i], tipPercents[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyServiceTips() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < servicePriceMoney.length; i++) {
+            total = total.plus(PaymentCalculator.serviceTip(servicePriceMoney[i], tipBps[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void bigDecimalFullCheckoutArithmetic(Blackhole bh) {
+        BigDecimal subTotal = BigDecimal.ZERO;
+        BigDecimal tip = BigDecimal.ZERO;
+        for (int i = 0; i < servicePrices.length; i++) {
+            subTotal = subTotal.add(servicePrices[i]);
+            tip = tip.add(BigDecimalPaymentCalculator.serviceTip(servicePrices[i], tipPercents[i]));
+        }
+        BigDecimal discount = BigDecimalPaymentCalculator.couponDiscount(subTotal, rate, amount);
+        bh.consume(subTotal.subtract(discount));
+        bh.consume(tip);
+    }
+
+    @Benchmark
+    public void moneyFullCheckoutArithmetic(Blackhole bh) {
+        Money subTotal = Money.ZERO;
+        Money tip = Money.ZERO;
+        for (int i = 0; i < servicePriceMoney.length; i++) {
+            subTotal = subTotal.plus(servicePriceMoney[i]);
+            tip = tip.plus(PaymentCalculator.serviceTip(servicePriceMoney[i], tipBps[i]));
+        }
+        Money discount = PaymentCalculator.couponDiscount(subTotal, rateBp, amountMoney);
+        bh.consume(subTotal.minus(discount));
+        bh.consume(tip);
+    }
+}
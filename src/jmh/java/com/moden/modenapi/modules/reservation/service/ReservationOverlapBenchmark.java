@@ -0,0 +1,71 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 겹침 판정: in-memory 일정(bitset) vs 예약 목록 선형 비교.
+ * (선형 비교는 existsOverlappingForDesigner 와 같은 start < otherEnd && end > otherStart)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationOverlapBenchmark {
+
+    @Param({"8", "32"})
+    public int reservationsPerDay;
+
+    private DesignerDaySchedule schedule;
+    private int[][] reservations;
+    private int probeStart;
+    private int probeEnd;
+
+    @Setup
+    public void setup() {
+        BitSet open = new BitSet(DesignerDaySchedule.MINUTES_PER_DAY);
+        open.set(10 * 60, 20 * 60);
+        schedule = new DesignerDaySchedule(open, UUID.randomUUID());
+
+        // 10:00 ~ 20:00 사이에 균등하게 배치
+        reservations = new int[reservationsPerDay][2];
+        int slot = (10 * 60) / reservationsPerDay;
+        for (int i = 0; i < reservationsPerDay; i++) {
+            int start = 10 * 60 + i * slot;
+            int end = start + Math.max(1, slot / 2);
+            reservations[i][0] = start;
+            reservations[i][1] = end;
+            schedule.occupy(start, end);
+        }
+
+        probeStart = 10 * 60 + ThreadLocalRandom.current().nextInt(9 * 60);
+        probeEnd = probeStart + 45;
+    }
+
+    @Benchmark
+    public boolean bitsetIsFree() {
+        return schedule.isFree(probeStart, probeEnd);
+    }
+
+    @Benchmark
+    public boolean linearScanIsFree() {
+        for (int[] r : reservations) {
+            if (probeStart < r[1] && probeEnd > r[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public List<Integer> freeStarts() {
+        return schedule.freeStarts(45, 10);
+    }
+}
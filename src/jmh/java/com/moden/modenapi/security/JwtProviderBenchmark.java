@@ -0,0 +1,50 @@
+package com.moden.modenapi.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthenticationFilter 에서 실행되는 토큰 검증/파싱.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtProperties props = new JwtProperties();
+        // signWith(alg, String) 는 base64 인코딩된 key 를 기대함
+        props.setSecret("a2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tr");
+        props.setAccessExpirationMs(3_600_000L);
+        props.setRefreshExpirationMs(86_400_000L);
+
+        jwtProvider = new JwtProvider(props);
+        token = jwtProvider.generateAccessToken(UUID.randomUUID().toString(), List.of("HAIR_STUDIO"));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public List<String> getRoles() {
+        return jwtProvider.getRoles(token);
+    }
+}
@@ -0,0 +1,6 @@
+package com.moden.modenapi.common.enums;
+
+public enum OutboxEventType {
+    PAYMENT_CONFIRMED,     // 결제 확정 / 재확정 (payload: PaymentConfirmedMessage)
+    RESERVATION_CHANGED    // 예약 생성 / 수정 / 취소 (payload: ReservationChangedEvent)
+}
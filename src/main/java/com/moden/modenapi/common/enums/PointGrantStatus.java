@@ -0,0 +1,8 @@
+package com.moden.modenapi.common.enums;
+
+public enum PointGrantStatus {
+    QUEUED,     // 생성됨, worker 가 아직 시작 전
+    RUNNING,    // 지급 진행 중 (중단되면 cursor 부터 이어서)
+    COMPLETED,  // 모든 대상 지급 완료
+    FAILED      // 재시도 한도 초과 (그때까지 지급분은 유지)
+}
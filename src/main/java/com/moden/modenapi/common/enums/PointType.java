@@ -1,5 +1,5 @@
 package com.moden.modenapi.common.enums;
 
 public enum PointType {
-    EARNED, USED
+    EARNED, USED, EXPIRED
 }
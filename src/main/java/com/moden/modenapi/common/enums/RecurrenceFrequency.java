@@ -0,0 +1,5 @@
+package com.moden.modenapi.common.enums;
+
+public enum RecurrenceFrequency {
+    WEEKLY, BIWEEKLY, MONTHLY
+}
@@ -0,0 +1,6 @@
+package com.moden.modenapi.common.enums;
+
+public enum SettlementStatus {
+    RUNNING,    // 정산 진행 중 (중단되면 다음 실행에서 이어서)
+    COMPLETED   // 모든 스튜디오 정산 완료
+}
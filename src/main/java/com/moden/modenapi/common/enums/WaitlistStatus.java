@@ -0,0 +1,8 @@
+package com.moden.modenapi.common.enums;
+
+public enum WaitlistStatus {
+    WAITING,   // 빈자리 대기 중
+    OFFERED,   // 빈자리 제안됨 (autoBook = false, 기한 내 수락 시 BOOKED)
+    BOOKED,    // 예약 완료 (자동 예약 또는 제안 수락)
+    CANCELED   // 대기 취소
+}
@@ -0,0 +1,57 @@
+package com.moden.modenapi.common.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 로 처리한 요청의 첫 응답 저장.
+ * (scope, user_id, idem_key) 가 같으면 같은 요청으로 보고 저장된 응답을 그대로 돌려준다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "idempotency_record",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_idempotency_scope_user_key",
+                columnNames = {"scope", "user_id", "idem_key"}
+        ),
+        indexes = @Index(name = "ix_idempotency_expires_at", columnList = "expires_at")
+)
+public class IdempotencyRecord extends BaseEntity {
+
+    // RESERVATION_CREATE / PAYMENT_CONFIRM ...
+    @Column(name = "scope", length = 40, nullable = false)
+    private String scope;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID userId;
+
+    @Column(name = "idem_key", length = 100, nullable = false)
+    private String idemKey;
+
+    // 같은 key 로 다른 요청 body 를 보내는 경우를 막기 위한 SHA-256 (hex)
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    // false = 처리 중, true = 응답 저장 완료
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    // 처리 중(completed = false) lease — 지나면 작업하던 프로세스가 죽은 것으로 보고 다음 요청이 이어받음
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    // 첫 응답 data (JSON)
+    @Column(name = "response_body", columnDefinition = "nvarchar(max)")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
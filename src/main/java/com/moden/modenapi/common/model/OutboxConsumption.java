@@ -0,0 +1,33 @@
+package com.moden.modenapi.common.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 리스너별 처리 기록 (dedupe).
+ * 리스너의 작업과 같은 트랜잭션에서 INSERT 되므로, 같은 이벤트가 다시 전달돼도 (at-least-once)
+ * 이미 처리한 리스너는 건너뛴다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "outbox_consumption",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_outbox_consumption",
+                columnNames = {"event_id", "consumer"}
+        )
+)
+public class OutboxConsumption extends BaseEntity {
+
+    @Column(name = "event_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "consumer", length = 60, nullable = false)
+    private String consumer;
+}
@@ -0,0 +1,54 @@
+package com.moden.modenapi.common.model;
+
+import com.moden.modenapi.common.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Transactional outbox.
+ * 결제 / 예약 변경과 같은 트랜잭션에서 INSERT 되고, OutboxRelay 가 커밋된 row 를 읽어 리스너에 전달한다.
+ * 모든 리스너가 처리하면 published_at 이 채워진다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "outbox_event",
+        indexes = @Index(name = "ix_outbox_event_pending", columnList = "published_at, next_attempt_at")
+)
+public class OutboxEvent extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 40, nullable = false)
+    private OutboxEventType eventType;
+
+    // paymentId / reservationId ...
+    @Column(name = "aggregate_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID aggregateId;
+
+    // 이벤트 내용 (JSON)
+    @Column(name = "payload", columnDefinition = "nvarchar(max)", nullable = false)
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    // relay 인스턴스가 처리 중인 동안 다른 인스턴스가 가져가지 않도록
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
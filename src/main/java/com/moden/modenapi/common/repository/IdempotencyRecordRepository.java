@@ -0,0 +1,48 @@
+package com.moden.modenapi.common.repository;
+
+import com.moden.modenapi.common.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends BaseRepository<IdempotencyRecord, UUID> {
+
+    Optional<IdempotencyRecord> findByScopeAndUserIdAndIdemKey(String scope, UUID userId, String idemKey);
+
+    /**
+     * lease 가 지난 처리 중 row 를 이어받음 (동시에 여러 요청이 와도 1건만 성공)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE IdempotencyRecord r
+        SET r.lockedUntil = :lockedUntil
+        WHERE r.id = :id
+          AND r.completed = false
+          AND (r.lockedUntil IS NULL OR r.lockedUntil < :now)
+        """)
+    int takeOver(@Param("id") UUID id, @Param("now") Instant now, @Param("lockedUntil") Instant lockedUntil);
+
+    /**
+     * 응답 저장 — 선점할 때 받은 lease 가 그대로일 때만 (다른 요청이 이어받았으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE IdempotencyRecord r
+        SET r.completed = true, r.lockedUntil = NULL, r.responseBody = :responseBody
+        WHERE r.id = :id
+          AND r.completed = false
+          AND r.lockedUntil = :lockedUntil
+        """)
+    int complete(@Param("id") UUID id, @Param("lockedUntil") Instant lockedUntil,
+                 @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
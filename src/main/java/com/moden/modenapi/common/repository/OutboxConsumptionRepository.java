@@ -0,0 +1,20 @@
+package com.moden.modenapi.common.repository;
+
+import com.moden.modenapi.common.model.OutboxConsumption;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface OutboxConsumptionRepository extends BaseRepository<OutboxConsumption, UUID> {
+
+    boolean existsByEventIdAndConsumer(UUID eventId, String consumer);
+
+    @Modifying
+    @Query("DELETE FROM OutboxConsumption c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,65 @@
+package com.moden.modenapi.common.repository;
+
+import com.moden.modenapi.common.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends BaseRepository<OutboxEvent, UUID> {
+
+    /** 전달할 이벤트 (오래된 순) */
+    @Query("""
+        select e.id
+        from OutboxEvent e
+        where e.publishedAt is null
+          and e.nextAttemptAt <= :now
+          and (e.lockedUntil is null or e.lockedUntil < :now)
+        order by e.createdAt asc
+        """)
+    List<UUID> findDispatchable(@Param("now") Instant now, Pageable pageable);
+
+    /** 처리 선점 (1 = 이 인스턴스가 가져감) */
+    @Modifying
+    @Query("""
+        update OutboxEvent e
+           set e.lockedUntil = :until
+         where e.id = :id
+           and e.publishedAt is null
+           and (e.lockedUntil is null or e.lockedUntil < :now)
+        """)
+    int claim(@Param("id") UUID id, @Param("now") Instant now, @Param("until") Instant until);
+
+    @Modifying
+    @Query("""
+        update OutboxEvent e
+           set e.publishedAt = :now,
+               e.lockedUntil = null,
+               e.lastError   = null
+         where e.id = :id
+        """)
+    int markPublished(@Param("id") UUID id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        update OutboxEvent e
+           set e.attempts      = e.attempts + 1,
+               e.nextAttemptAt = :nextAttemptAt,
+               e.lockedUntil   = null,
+               e.lastError     = :error
+         where e.id = :id
+        """)
+    int markRetry(@Param("id") UUID id,
+                  @Param("nextAttemptAt") Instant nextAttemptAt,
+                  @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,30 @@
+package com.moden.modenapi.common.service;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 in-memory 캐시 무효화 전달 (확장 지점).
+ *
+ * 기본 bean 은 아무것도 전달하지 않는 NO_OP (CacheInvalidationConfig) → 각 캐시는 자기 인스턴스만 무효화 + TTL 로 따라잡는다.
+ * 여러 인스턴스를 즉시 맞추려면 이 인터페이스를 구현한 bean (Redis pub/sub, DB polling 등) 을 등록하면
+ * 기본 bean 대신 쓰이고, 캐시들이 커밋 후 publish / 수신 시 evict 한다.
+ */
+public interface CacheInvalidationBus {
+
+    CacheInvalidationBus NO_OP = new CacheInvalidationBus() {
+        @Override
+        public void publish(String cacheName, UUID key) {
+        }
+
+        @Override
+        public void subscribe(String cacheName, Consumer<UUID> handler) {
+        }
+    };
+
+    /** 다른 인스턴스들에 key 무효화를 알림 (커밋 이후 호출됨) */
+    void publish(String cacheName, UUID key);
+
+    /** 다른 인스턴스에서 온 무효화 수신 (자기 publish 가 되돌아와도 무방해야 함) */
+    void subscribe(String cacheName, Consumer<UUID> handler);
+}
@@ -0,0 +1,251 @@
+package com.moden.modenapi.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moden.modenapi.common.model.IdempotencyRecord;
+import com.moden.modenapi.common.repository.IdempotencyRecordRepository;
+import com.moden.modenapi.common.utils.CurrentUserUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 (재시도 시 같은 작업을 두 번 실행하지 않음).
+ *
+ * 1) key 선점: IN_PROGRESS row 를 별도 트랜잭션으로 INSERT (unique 위반 = 이미 받은 요청)
+ * 2) 실제 작업 + 응답 저장을 같은 트랜잭션에서 실행 → 작업이 커밋되면 응답도 반드시 남음
+ * 3) 작업 실패 시 선점 row 삭제 → 클라이언트가 같은 key 로 다시 시도 가능
+ * 4) 선점 row 에는 짧은 lease(lockedUntil) — 프로세스가 죽어 IN_PROGRESS 로 남아도 lease 가 지나면
+ *    같은 key 의 다음 요청이 이어받음 (완료 저장 시 lease 가 자기 것인지 확인 → 이어받긴 쪽만 커밋)
+ *
+ * 완료된 응답은 in-memory LRU 에도 올려 두어 재시도는 DB 를 거치지 않는다.
+ * header 가 없으면 기존과 동일하게 그냥 실행.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_CACHE_ENTRIES = 10_000;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNew;
+    private final TransactionTemplate required;
+
+    private record Cached(String requestHash, String responseBody, Instant expiresAt) {}
+
+    private final Map<String, Cached> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+                    return size() > MAX_CACHE_ENTRIES;
+                }
+            }
+    );
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.required = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param scope   엔드포인트 구분 (RESERVATION_CREATE, PAYMENT_CONFIRM ...)
+     * @param key     Idempotency-Key header (null/blank 이면 그냥 실행)
+     * @param request 요청 내용 (같은 key 로 다른 요청이 오면 422)
+     * @param type    응답 타입 (저장된 JSON 복원용)
+     * @param action  실제 작업
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> type, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    HEADER + " 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다."
+            );
+        }
+
+        UUID userId = CurrentUserUtil.currentUserId();
+        String cacheKey = scope + "|" + userId + "|" + key;
+        String requestHash = hash(request);
+        Instant now = Instant.now();
+
+        // 1) in-memory 재시도 응답
+        Cached cached = cache.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return replay(cached.requestHash(), cached.responseBody(), requestHash, type);
+        }
+
+        // 2) key 선점 (이미 있으면 저장된 응답 재사용)
+        IdempotencyRecord claimed = claim(scope, userId, key, requestHash, now);
+        if (claimed == null) {
+            IdempotencyRecord existing = recordRepository
+                    .findByScopeAndUserIdAndIdemKey(scope, userId, key)
+                    .orElseThrow(() -> new ResponseStatusException(
+                            HttpStatus.CONFLICT,
+                            "같은 " + HEADER + " 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요."
+                    ));
+            if (!existing.isCompleted()) {
+                throw new ResponseStatusException(
+                        HttpStatus.CONFLICT,
+                        "같은 " + HEADER + " 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요."
+                );
+            }
+            cache.put(cacheKey, new Cached(existing.getRequestHash(), existing.getResponseBody(), existing.getExpiresAt()));
+            return replay(existing.getRequestHash(), existing.getResponseBody(), requestHash, type);
+        }
+
+        // 3) 작업 + 응답 저장 (같은 트랜잭션)
+        T result;
+        try {
+            result = required.execute(status -> {
+                T r = action.get();
+                if (recordRepository.complete(claimed.getId(), claimed.getLockedUntil(), toJson(r)) == 0) {
+                    // lease 가 지나 다른 요청이 이어받음 → 이 작업은 롤백
+                    throw new ResponseStatusException(
+                            HttpStatus.CONFLICT,
+                            "같은 " + HEADER + " 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요."
+                    );
+                }
+                return r;
+            });
+        } catch (RuntimeException e) {
+            release(claimed.getId(), claimed.getLockedUntil());
+            throw e;
+        }
+
+        cache.put(cacheKey, new Cached(requestHash, toJson(result), claimed.getExpiresAt()));
+        return result;
+    }
+
+    // ----------------------------------------------------------------------
+    // PURGE (만료 row / 캐시 정리)
+    // ----------------------------------------------------------------------
+    @Scheduled(initialDelay = 300_000, fixedDelay = 3_600_000)
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        Integer deleted = requiresNew.execute(status -> recordRepository.deleteExpired(now));
+        synchronized (cache) {
+            cache.values().removeIf(c -> !c.expiresAt().isAfter(now));
+        }
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // helpers
+    // ----------------------------------------------------------------------
+    private IdempotencyRecord claim(String scope, UUID userId, String key, String requestHash, Instant now) {
+        // DB 정밀도와 상관없이 비교할 수 있도록 ms 단위 (lease 가 선점 token 역할)
+        Instant lockedUntil = now.plus(LEASE).truncatedTo(ChronoUnit.MILLIS);
+        try {
+            return requiresNew.execute(status -> {
+                IdempotencyRecord existing = recordRepository.findByScopeAndUserIdAndIdemKey(scope, userId, key)
+                        .orElse(null);
+
+                if (existing != null && !existing.getExpiresAt().isAfter(now)) {
+                    // 만료됐지만 아직 purge 안 된 row 는 지우고 새로 선점
+                    recordRepository.delete(existing);
+                    recordRepository.flush();
+                } else if (existing != null && !existing.isCompleted()) {
+                    // 처리 중인데 lease 가 지났으면 (작업하던 프로세스 중단) 이어받음, 아니면 409
+                    if (!existing.getRequestHash().equals(requestHash)) {
+                        return null;
+                    }
+                    if (recordRepository.takeOver(existing.getId(), now, lockedUntil) == 0) {
+                        return null;
+                    }
+                    return recordRepository.findById(existing.getId()).orElse(null);
+                }
+
+                return recordRepository.saveAndFlush(
+                        IdempotencyRecord.builder()
+                                .scope(scope)
+                                .userId(userId)
+                                .idemKey(key)
+                                .requestHash(requestHash)
+                                .completed(false)
+                                .lockedUntil(lockedUntil)
+                                .expiresAt(now.plus(TTL))
+                                .build()
+                );
+            });
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    private void release(UUID recordId, Instant lockedUntil) {
+        try {
+            // 이미 다른 요청이 이어받은 row 는 지우지 않음
+            requiresNew.executeWithoutResult(status -> recordRepository.findById(recordId)
+                    .filter(r -> !r.isCompleted() && lockedUntil.equals(r.getLockedUntil()))
+                    .ifPresent(recordRepository::delete));
+        } catch (RuntimeException e) {
+            // 남아 있어도 TTL 이후 purge 됨
+            log.warn("Failed to release idempotency record {}", recordId, e);
+        }
+    }
+
+    private <T> T replay(String storedHash, String body, String requestHash, Class<T> type) {
+        if (!storedHash.equals(requestHash)) {
+            throw new ResponseStatusException(
+                    HttpStatus.UNPROCESSABLE_ENTITY,
+                    "같은 " + HEADER + " 로 다른 요청을 보낼 수 없습니다."
+            );
+        }
+        try {
+            return body == null ? null : objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(toJson(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
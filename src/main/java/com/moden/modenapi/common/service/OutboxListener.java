@@ -0,0 +1,19 @@
+package com.moden.modenapi.common.service;
+
+import com.moden.modenapi.common.enums.OutboxEventType;
+import com.moden.modenapi.common.model.OutboxEvent;
+
+/**
+ * OutboxRelay 가 호출하는 리스너.
+ * handle 은 리스너별 트랜잭션(처리 기록 INSERT 와 같은 트랜잭션) 안에서 실행된다.
+ * 예외를 던지면 롤백되고 나중에 다시 전달된다.
+ */
+public interface OutboxListener {
+
+    /** 처리 기록(dedupe) key — 바꾸면 이미 처리한 이벤트도 다시 받게 되므로 고정 값 사용 */
+    String name();
+
+    boolean supports(OutboxEventType type);
+
+    void handle(OutboxEvent event);
+}
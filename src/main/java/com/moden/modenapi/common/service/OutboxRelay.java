@@ -0,0 +1,144 @@
+package com.moden.modenapi.common.service;
+
+import com.moden.modenapi.common.model.OutboxConsumption;
+import com.moden.modenapi.common.model.OutboxEvent;
+import com.moden.modenapi.common.repository.OutboxConsumptionRepository;
+import com.moden.modenapi.common.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * outbox → in-process 리스너 전달 (at-least-once).
+ *
+ *  - 1초마다 커밋된 미전달 이벤트를 배치로 읽어서, 이벤트마다 선점(locked_until) 후 처리
+ *  - 리스너마다 별도 트랜잭션: 처리 기록(outbox_consumption) INSERT + handle → 중복 전달돼도 한 번만 반영
+ *  - 하나라도 실패하면 지수 backoff 후 재시도 (성공한 리스너는 처리 기록으로 건너뜀)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int BATCH_SIZE = 100;
+    private static final Duration LOCK_DURATION = Duration.ofMinutes(2);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final OutboxEventRepository eventRepository;
+    private final OutboxConsumptionRepository consumptionRepository;
+    private final List<OutboxListener> listeners;
+    private final TransactionTemplate requiresNew;
+
+    public OutboxRelay(OutboxEventRepository eventRepository,
+                       OutboxConsumptionRepository consumptionRepository,
+                       List<OutboxListener> listeners,
+                       PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.consumptionRepository = consumptionRepository;
+        this.listeners = listeners;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(initialDelay = 10_000, fixedDelay = 1_000)
+    public void drain() {
+        List<UUID> ids;
+        do {
+            Instant now = Instant.now();
+            ids = eventRepository.findDispatchable(now, PageRequest.of(0, BATCH_SIZE));
+            for (UUID id : ids) {
+                dispatch(id);
+            }
+        } while (ids.size() == BATCH_SIZE);
+    }
+
+    // ----------------------------------------------------------------------
+    // PURGE
+    // ----------------------------------------------------------------------
+    @Scheduled(cron = "0 40 3 * * *")
+    public void purgePublished() {
+        Instant before = Instant.now().minus(RETENTION);
+        Integer events = requiresNew.execute(status -> eventRepository.deletePublishedBefore(before));
+        Integer consumptions = requiresNew.execute(status -> consumptionRepository.deleteCreatedBefore(before));
+        log.info("Purged outbox: {} events, {} consumption records", events, consumptions);
+    }
+
+    // ----------------------------------------------------------------------
+    // 내부
+    // ----------------------------------------------------------------------
+    private void dispatch(UUID eventId) {
+        Instant now = Instant.now();
+        Integer claimed = requiresNew.execute(status ->
+                eventRepository.claim(eventId, now, now.plus(LOCK_DURATION)));
+        if (claimed == null || claimed == 0) {
+            return;   // 다른 인스턴스가 처리 중
+        }
+
+        OutboxEvent event = eventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        String error = null;
+        for (OutboxListener listener : listeners) {
+            if (!listener.supports(event.getEventType())) {
+                continue;
+            }
+            try {
+                deliver(listener, event);
+            } catch (RuntimeException e) {
+                log.warn("Outbox listener {} failed. eventId={}, type={}, attempt={}",
+                        listener.name(), eventId, event.getEventType(), event.getAttempts() + 1, e);
+                if (error == null) {
+                    error = listener.name() + ": " + e;
+                }
+            }
+        }
+
+        if (error == null) {
+            requiresNew.executeWithoutResult(status -> eventRepository.markPublished(eventId, Instant.now()));
+        } else {
+            String message = error.length() > 1000 ? error.substring(0, 1000) : error;
+            Instant next = Instant.now().plus(backoff(event.getAttempts() + 1));
+            requiresNew.executeWithoutResult(status -> eventRepository.markRetry(eventId, next, message));
+        }
+    }
+
+    private void deliver(OutboxListener listener, OutboxEvent event) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (consumptionRepository.existsByEventIdAndConsumer(event.getId(), listener.name())) {
+                    return;
+                }
+                consumptionRepository.saveAndFlush(
+                        OutboxConsumption.builder()
+                                .eventId(event.getId())
+                                .consumer(listener.name())
+                                .build()
+                );
+                listener.handle(event);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 다른 인스턴스가 같은 리스너 처리를 끝냈으면 정상, 아니면 실패로 다시 던짐
+            if (!consumptionRepository.existsByEventIdAndConsumer(event.getId(), listener.name())) {
+                throw e;
+            }
+        }
+    }
+
+    private static Duration backoff(int attempts) {
+        long seconds = 1L << Math.min(attempts, 12);   // 2s, 4s, 8s ... 최대 약 1시간
+        Duration d = Duration.ofSeconds(seconds);
+        return d.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : d;
+    }
+}
@@ -0,0 +1,55 @@
+package com.moden.modenapi.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moden.modenapi.common.enums.OutboxEventType;
+import com.moden.modenapi.common.model.OutboxEvent;
+import com.moden.modenapi.common.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * outbox 기록 / payload 복원.
+ * append 는 반드시 도메인 변경과 같은 트랜잭션에서 호출 (같이 커밋 / 롤백).
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, UUID aggregateId, Object payload) {
+        outboxEventRepository.save(
+                OutboxEvent.builder()
+                        .eventType(type)
+                        .aggregateId(aggregateId)
+                        .payload(toJson(payload))
+                        .attempts(0)
+                        .nextAttemptAt(Instant.now())
+                        .build()
+        );
+    }
+
+    public <T> T payload(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid outbox payload. eventId=" + event.getId(), e);
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.moden.modenapi.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 인스턴스 로컬 캐시 (크기 제한 LRU + TTL).
+ *
+ *  - null 값도 캐시 (조회 결과 "없음" 을 negative 로 저장)
+ *  - invalidate 는 즉시 + 트랜잭션 커밋/롤백 후에 한 번 더 제거 (커밋 전 상태가 다시 캐시되지 않도록)
+ *  - 로딩 중에 같은 key 가 invalidate 되면 그 로딩 결과는 캐시에 넣지 않음 (key 별 version)
+ *  - 다른 인스턴스의 변경은 TTL 로 반영 (DB 가 최종 기준)
+ */
+public final class LocalTtlCache<K, V> {
+
+    private record Entry<V>(V value, long loadedAtMillis) {}
+
+    /** 로딩 중인 key 의 version (invalidate 마다 +1) / 로딩 중인 요청 수 */
+    private static final class Loading {
+        long version;
+        int loaders;
+    }
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Map<K, Loading> loading = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public LocalTtlCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        // access-order → 가장 오래 안 쓴 key 부터 제거
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalTtlCache.this.maxSize;
+            }
+        };
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return get(key, loader, v -> true);
+    }
+
+    /**
+     * TTL 안이고 stillValid 를 통과하면 캐시 값, 아니면 loader 로 다시 로딩.
+     * loader 가 예외를 던지면 캐시하지 않고 그대로 전달.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader, Predicate<? super V> stillValid) {
+        long now = System.currentTimeMillis();
+        Loading ticket;
+        long version;
+        synchronized (lock) {
+            Entry<V> cached = entries.get(key);
+            if (cached != null && now - cached.loadedAtMillis() < ttlMillis && stillValid.test(cached.value())) {
+                (cached.value() != null ? hits : negativeHits).increment();
+                return cached.value();
+            }
+            ticket = loading.computeIfAbsent(key, k -> new Loading());
+            ticket.loaders++;
+            version = ticket.version;
+        }
+
+        misses.increment();
+        V loaded = null;
+        boolean ok = false;
+        try {
+            loaded = loader.apply(key);
+            ok = true;
+            return loaded;
+        } finally {
+            synchronized (lock) {
+                if (ok && ticket.version == version) {
+                    entries.put(key, new Entry<>(loaded, now));
+                }
+                if (--ticket.loaders == 0) {
+                    loading.remove(key);
+                }
+            }
+        }
+    }
+
+    /** 로딩하지 않고 캐시에 있는 값만 (TTL 지난 값은 null) */
+    public V getIfPresent(K key) {
+        synchronized (lock) {
+            Entry<V> cached = entries.get(key);
+            if (cached == null || System.currentTimeMillis() - cached.loadedAtMillis() >= ttlMillis) {
+                return null;
+            }
+            return cached.value();
+        }
+    }
+
+    /** 즉시 제거 + 트랜잭션 안이면 커밋/롤백 후에도 제거 */
+    public void invalidate(K key) {
+        evict(key);
+        afterCompletion(() -> evict(key));
+    }
+
+    public void invalidateAll() {
+        evictAll();
+        afterCompletion(this::evictAll);
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    public long hits()          { return hits.sum(); }
+    public long negativeHits()  { return negativeHits.sum(); }
+    public long misses()        { return misses.sum(); }
+    public long invalidations() { return invalidations.sum(); }
+
+    private void evict(K key) {
+        synchronized (lock) {
+            entries.remove(key);
+            Loading l = loading.get(key);
+            if (l != null) {
+                l.version++;
+            }
+        }
+        invalidations.increment();
+    }
+
+    private void evictAll() {
+        synchronized (lock) {
+            entries.clear();
+            loading.values().forEach(l -> l.version++);
+        }
+        invalidations.increment();
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
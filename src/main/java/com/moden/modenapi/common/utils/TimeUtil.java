@@ -0,0 +1,47 @@
+package com.moden.modenapi.common.utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * API 에서 주고받는 "HH:mm" 문자열 ↔ LocalTime 변환.
+ */
+public class TimeUtil {
+
+    private static final DateTimeFormatter HH_MM = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter LEGACY_H_MM = DateTimeFormatter.ofPattern("H:mm[:ss]");
+
+    public static LocalTime parseHhMm(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "시간 형식은 HH:mm 이어야 합니다: " + value);
+        }
+    }
+
+    /**
+     * DB 에 저장된 예전 "HH:mm" 문자열 (백필 전 row) → LocalTime.
+     * "9:00" 같은 한 자리 시도 허용, 읽을 수 없으면 null (예외 없음).
+     */
+    public static LocalTime parseLegacy(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(value.trim(), LEGACY_H_MM);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public static String formatHhMm(LocalTime value) {
+        return (value == null) ? null : value.format(HH_MM);
+    }
+}
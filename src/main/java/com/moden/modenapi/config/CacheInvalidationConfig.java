@@ -0,0 +1,17 @@
+package com.moden.modenapi.config;
+
+import com.moden.modenapi.common.service.CacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    /** 구현 bean 이 없으면 인스턴스 로컬 무효화만 (다른 인스턴스는 TTL) */
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationBus.class)
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return CacheInvalidationBus.NO_OP;
+    }
+}
@@ -2,6 +2,10 @@ package com.moden.modenapi.modules.admin;
 
 import com.moden.modenapi.common.response.ResponseMessage;
 import com.moden.modenapi.modules.auth.repository.UserRepository;
+import com.moden.modenapi.modules.payment.service.DesignerSettlementService;
+import com.moden.modenapi.modules.payment.service.SalesRollupService;
+import com.moden.modenapi.modules.point.dto.StudioPointPolicyCacheStatsRes;
+import com.moden.modenapi.modules.point.service.StudioPointPolicyService;
 import com.moden.modenapi.modules.studio.dto.StudioCreateReq;
 import com.moden.modenapi.modules.studio.dto.StudioRes;
 import com.moden.modenapi.modules.studio.dto.StudioUpdateReq;
@@ -10,12 +14,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,6 +35,9 @@ public class AdminController {
     private final AdminService adminService;
     private final HairStudioDetailRepository  hairStudioDetailRepository;
     private final UserRepository userRepository;
+    private final StudioPointPolicyService studioPointPolicyService;
+    private final SalesRollupService salesRollupService;
+    private final DesignerSettlementService designerSettlementService;
 
 
 
@@ -94,4 +104,36 @@ public class AdminController {
         adminService.deleteStudio(studioId);
         return ResponseEntity.ok(ResponseMessage.success("Studio deleted successfully"));
     }
+
+    // ------------------------- Sales rollup ---------------------------------------
+    @Operation(summary = "Rebuild sales rollup for a date range", description = "Recomputes sales_daily_rollup from payments for [from, to], one transaction per day (ADMIN only).")
+    @PostMapping("/admin/sales-rollup/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseMessage<Integer>> reconcileSalesRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        int failedDays = salesRollupService.reconcile(from, to);
+        return ResponseEntity.ok(ResponseMessage.success("Sales rollup reconciled (failed days)", failedDays));
+    }
+
+    // ------------------------- Designer settlement --------------------------------
+    @Operation(summary = "Run designer settlement for a month range", description = "Settles every month in [from, to] (yyyy-MM, before the current month). Completed months are skipped, interrupted ones resume (ADMIN only).")
+    @PostMapping("/admin/settlements/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseMessage<?>> runDesignerSettlement(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to
+    ) {
+        designerSettlementService.settleRange(from, to);
+        return ResponseEntity.ok(ResponseMessage.success("Designer settlement finished"));
+    }
+
+    // ------------------------- Cache stats ----------------------------------------
+    @Operation(summary = "Point policy cache stats", description = "Hit / miss counters of the studio point policy cache on this instance (ADMIN only).")
+    @GetMapping("/admin/cache/point-policy/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseMessage<StudioPointPolicyCacheStatsRes>> pointPolicyCacheStats() {
+        return ResponseEntity.ok(ResponseMessage.success(studioPointPolicyService.cacheStats()));
+    }
 }
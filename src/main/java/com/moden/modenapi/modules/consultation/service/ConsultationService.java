@@ -5,6 +5,7 @@ import com.moden.modenapi.common.enums.PaymentStatus;
 import com.moden.modenapi.common.dto.FilterParams;
 import com.moden.modenapi.common.service.BaseService;
 import com.moden.modenapi.common.utils.CurrentUserUtil;
+import com.moden.modenapi.common.utils.TimeUtil;
 import com.moden.modenapi.modules.consultation.dto.*;
 import com.moden.modenapi.modules.consultation.model.Consultation;
 import com.moden.modenapi.modules.consultation.repository.ConsultationRepository;
@@ -54,6 +55,20 @@ public class ConsultationService extends BaseService<Consultation> {
         return consultationRepository.save(entity);
     }
 
+    // --------------------------------------------------------------------
+    // 🔹 여러 예약(정기 예약) 상담 일괄 생성 – saveAll 로 JDBC batch insert
+    // --------------------------------------------------------------------
+    public List<Consultation> createPendingForReservations(List<Reservation> reservations) {
+        List<Consultation> entities = reservations.stream()
+                .map(r -> Consultation.builder()
+                        .reservationId(r.getId())
+                        .designerId(null)
+                        .status(ConsultationStatus.PENDING)
+                        .build())
+                .toList();
+        return consultationRepository.saveAll(entities);
+    }
+
     // --------------------------------------------------------------------
     // 🔹 상담 단건 조회
     // --------------------------------------------------------------------
@@ -249,8 +264,8 @@ public class ConsultationService extends BaseService<Consultation> {
                 studioName,
                 totalAmount,
                 r.getReservationDate(),
-                r.getStartTime(),
-                r.getEndTime(),
+                TimeUtil.formatHhMm(r.getStartTime()),
+                TimeUtil.formatHhMm(r.getEndTime()),
                 c.getStatus(),
                 paymentStatus,
                 c.getWantedImageUrl(),
@@ -300,8 +315,8 @@ public class ConsultationService extends BaseService<Consultation> {
                 studioName,
                 totalAmount,
                 r.getReservationDate(),
-                r.getStartTime(),
-                r.getEndTime(),
+                TimeUtil.formatHhMm(r.getStartTime()),
+                TimeUtil.formatHhMm(r.getEndTime()),
                 c.getStatus(),
                 paymentStatus,
                 c.getWantedImageUrl(),
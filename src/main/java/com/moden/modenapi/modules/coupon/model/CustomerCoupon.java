@@ -15,7 +15,13 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "customer_coupon")
+@Table(
+        name = "customer_coupon",
+        indexes = {
+                @Index(name = "ix_customer_coupon_customer", columnList = "customer_id, deleted_at, created_at"),
+                @Index(name = "ix_customer_coupon_coupon", columnList = "coupon_id")
+        }
+)
 public class CustomerCoupon extends BaseEntity {
 
     @Column(name = "studio_id", columnDefinition = "uniqueidentifier", nullable = false)
@@ -3,10 +3,12 @@ package com.moden.modenapi.modules.coupon.repository;
 import com.moden.modenapi.common.enums.CouponStatus;
 import com.moden.modenapi.common.repository.BaseRepository;
 import com.moden.modenapi.modules.coupon.model.Coupon;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -78,4 +80,27 @@ public interface CouponRepository extends BaseRepository<Coupon, UUID> {
             @Param("userId") UUID userId,
             @Param("status") CouponStatus status
     );
+
+    /**
+     * 쿠폰 사용 처리 (AVAILABLE → USED) 를 UPDATE 한 번으로.
+     *  - 상태 / 기간 조건을 WHERE 에 넣어서, 동시에 여러 결제가 같은 쿠폰을 써도 1건만 성공
+     *  - 반환값 0 = 이미 사용됨 / 기간 밖 / 삭제됨
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Coupon c
+           set c.status    = com.moden.modenapi.common.enums.CouponStatus.USED,
+               c.usedDate  = :today,
+               c.updatedAt = :now
+         where c.id = :couponId
+           and c.deletedAt is null
+           and c.status = com.moden.modenapi.common.enums.CouponStatus.AVAILABLE
+           and (c.startDate is null or c.startDate <= :today)
+           and (c.expiryDate is null or c.expiryDate >= :today)
+    """)
+    int redeemIfAvailable(
+            @Param("couponId") UUID couponId,
+            @Param("today") LocalDate today,
+            @Param("now") Instant now
+    );
 }
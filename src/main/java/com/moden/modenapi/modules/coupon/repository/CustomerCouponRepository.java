@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.*;
 
 @Repository
@@ -31,8 +33,39 @@ public interface CustomerCouponRepository extends BaseRepository<CustomerCoupon,
     boolean existsByCouponIdAndCustomerIdAndDeletedAtIsNull(UUID couponId, UUID customerId);
 
     /**
-     * soft delete 고려한 단건 조회
+     * 사용 가능한 쿠폰 개수 (customer_coupon × coupon 한 번의 COUNT).
+     * 조건은 PaymentService.validateCouponForCustomer / redeemIfAvailable 과 같음.
      */
+    @Query("""
+        select count(cc)
+        from CustomerCoupon cc
+        join Coupon c on c.id = cc.couponId
+        where cc.customerId = :customerId
+          and cc.deletedAt is null
+          and c.deletedAt is null
+          and c.status = com.moden.modenapi.common.enums.CouponStatus.AVAILABLE
+          and (c.startDate is null or c.startDate <= :today)
+          and (c.expiryDate is null or c.expiryDate >= :today)
+    """)
+    long countAvailableByCustomerId(@Param("customerId") UUID customerId, @Param("today") LocalDate today);
 
-
+    /**
+     * 고객 쿠폰 + 쿠폰 정책 한 번에 (row = [CustomerCoupon, Coupon]).
+     * 정책이 삭제된 row 는 Coupon 이 null. status / from 이 null 이면 조건 없음.
+     */
+    @Query("""
+        select cc, c
+        from CustomerCoupon cc
+        left join Coupon c on c.id = cc.couponId and c.deletedAt is null
+        where cc.customerId = :customerId
+          and cc.deletedAt is null
+          and (:status is null or c.status = :status)
+          and (:from is null or cc.createdAt >= :from)
+        order by cc.createdAt desc
+    """)
+    List<Object[]> findAllWithCouponByCustomerId(
+            @Param("customerId") UUID customerId,
+            @Param("status") CouponStatus status,
+            @Param("from") Instant from
+    );
 }
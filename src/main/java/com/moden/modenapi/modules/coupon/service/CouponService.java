@@ -31,6 +31,7 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final HairStudioDetailRepository hairStudioDetailRepository;
     private final DesignerDetailRepository designerDetailRepository;
+    private final CustomerCouponCountCache couponCountCache;
 
     // ----------------------------------------------------------------------
     // 1) 일반 쿠폰 생성
@@ -217,6 +218,7 @@ public class CouponService {
         validateDateRange(start, end);
 
         Coupon saved = couponRepository.save(entity);
+        couponCountCache.invalidateAll();
         return toResponse(saved);
     }
 
@@ -290,6 +292,7 @@ public class CouponService {
 
         entity.setDeletedAt(Instant.now());
         couponRepository.save(entity);
+        couponCountCache.invalidateAll();
     }
 
     // ----------------------------------------------------------------------
@@ -0,0 +1,53 @@
+package com.moden.modenapi.modules.coupon.service;
+
+import com.moden.modenapi.common.utils.LocalTtlCache;
+import com.moden.modenapi.modules.coupon.repository.CustomerCouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * 고객별 사용 가능 쿠폰 개수 캐시 (홈 화면 badge, in-memory).
+ *
+ *  - 개수는 날짜(시작일 / 만료일)에 따라 바뀌므로 계산한 날이 지나면 다시 계산
+ *  - 발급(assign) / 사용(결제) 시 해당 고객만 invalidate
+ *    (사용된 쿠폰을 함께 가진 다른 고객은 TTL 로 반영 — 결제 트랜잭션 안에서 보유자 전체를 돌지 않음)
+ *  - 쿠폰 정책 수정 / 삭제 시 캐시 전체를 비움 (보유자 조회 없이 O(1))
+ *  - 다른 인스턴스의 변경은 TTL 로 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class CustomerCouponCountCache {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Tashkent");
+
+    private record Count(long count, LocalDate day) {}
+
+    private final CustomerCouponRepository customerCouponRepository;
+
+    private final LocalTtlCache<UUID, Count> cache = new LocalTtlCache<>(50_000, Duration.ofMinutes(5));
+
+    /** customerId (= 고객 User.id) 의 오늘 기준 사용 가능 쿠폰 개수 */
+    public long countAvailable(UUID customerId) {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        return cache.get(
+                customerId,
+                id -> new Count(customerCouponRepository.countAvailableByCustomerId(id, today), today),
+                c -> c.day().equals(today)
+        ).count();
+    }
+
+    /** 고객에게 쿠폰 발급 / 회수 / 사용 시 */
+    public void invalidate(UUID customerId) {
+        cache.invalidate(customerId);
+    }
+
+    /** 쿠폰 정책이 바뀌었을 때 (수정 / 삭제) — 보유자를 찾지 않고 전체를 비움 */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
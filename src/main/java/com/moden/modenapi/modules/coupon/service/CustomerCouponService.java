@@ -27,6 +27,7 @@ public class CustomerCouponService {
     private final CustomerCouponRepository customerCouponRepository;
     private final CouponRepository couponRepository;
     private final CustomerDetailRepository customerDetailRepository;
+    private final CustomerCouponCountCache couponCountCache;
 
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Tashkent");
 
@@ -55,14 +56,10 @@ public class CustomerCouponService {
             String period,
             List<String> serviceNames
     ) {
-        // 1) customerId(=userId) bo‘yicha barcha CustomerCoupon
-        List<CustomerCoupon> base = customerCouponRepository
-                .findAllByCustomerIdAndDeletedAtIsNullOrderByCreatedAtDesc(customerId);
-
-        // 2) period → from Instant
+        // 1) period → from Instant
         Instant from = resolveFromForPeriod(period);
 
-        // 3) serviceNames filter set
+        // 2) serviceNames filter set
         Set<String> serviceNameFilter = null;
         if (serviceNames != null && !serviceNames.isEmpty()) {
             serviceNameFilter = serviceNames.stream()
@@ -75,30 +72,14 @@ public class CustomerCouponService {
             }
         }
 
+        // 3) CustomerCoupon + Coupon 한 번에 (status / period 는 DB 에서)
         Set<String> finalServiceNameFilter = serviceNameFilter;
-        CouponStatus finalStatus = status;
-
-        return base.stream()
-                .filter(cc -> {
-                    // ⏰ period filter: createdAt 기준
-                    if (from != null) {
-                        Instant created = cc.getCreatedAt();
-                        if (created == null || created.isBefore(from)) {
-                            return false;
-                        }
-                    }
-
-                    // 🔹 Coupon 로드 (status & name filter)
-                    Coupon coupon = couponRepository
-                            .findByIdAndDeletedAtIsNull(cc.getCouponId())
-                            .orElse(null);
+        return customerCouponRepository.findAllWithCouponByCustomerId(customerId, status, from)
+                .stream()
+                .filter(row -> {
+                    Coupon coupon = (Coupon) row[1];
                     if (coupon == null) return false;
 
-                    // status filter
-                    if (finalStatus != null && coupon.getStatus() != finalStatus) {
-                        return false;
-                    }
-
                     // serviceName filter: Coupon.name
                     if (finalServiceNameFilter != null) {
                         String couponName = coupon.getName();
@@ -111,7 +92,7 @@ public class CustomerCouponService {
 
                     return true;
                 })
-                .map(this::toCustomerCouponRes)
+                .map(row -> toCustomerCouponRes((CustomerCoupon) row[0], (Coupon) row[1]))
                 .toList();
     }
 
@@ -122,18 +103,9 @@ public class CustomerCouponService {
     @Transactional(readOnly = true)
     public List<CustomerCouponRes> getCouponsForCustomer(UUID customerId, CouponStatus status) {
 
-        List<CustomerCoupon> list = customerCouponRepository
-                .findAllByCustomerIdAndDeletedAtIsNullOrderByCreatedAtDesc(customerId);
-
-        return list.stream()
-                .filter(cc -> {
-                    if (status == null) return true;
-                    Coupon coupon = couponRepository
-                            .findByIdAndDeletedAtIsNull(cc.getCouponId())
-                            .orElse(null);
-                    return coupon != null && coupon.getStatus() == status;
-                })
-                .map(this::toCustomerCouponRes)
+        return customerCouponRepository.findAllWithCouponByCustomerId(customerId, status, null)
+                .stream()
+                .map(row -> toCustomerCouponRes((CustomerCoupon) row[0], (Coupon) row[1]))
                 .toList();
     }
 
@@ -204,6 +176,7 @@ public class CustomerCouponService {
                 .build();
 
         customerCouponRepository.save(cc);
+        couponCountCache.invalidate(customerUserId);
     }
 
     // ----------------------------------------------------------------------
@@ -214,22 +187,10 @@ public class CustomerCouponService {
         // 1) user → customerId (=userId)
         UUID customerId = resolveCustomerIdForUser(userId);
 
-        var list = customerCouponRepository
-                .findAllByCustomerIdAndDeletedAtIsNull(customerId);
+        // 2) 고객별 캐시 (miss 면 customer_coupon × coupon COUNT 한 번)
+        long count = couponCountCache.countAvailable(customerId);
 
-        LocalDate today = LocalDate.now(ZONE_ID);
-
-        long count = list.stream()
-                .map(cc -> couponRepository.findByIdAndDeletedAtIsNull(cc.getCouponId()).orElse(null))
-                .filter(Objects::nonNull)
-                .filter(c -> c.getStatus() == CouponStatus.AVAILABLE)
-                .filter(c ->
-                        (c.getStartDate() == null || !c.getStartDate().isAfter(today)) &&
-                                (c.getExpiryDate() == null || !c.getExpiryDate().isBefore(today))
-                )
-                .count();
-
-        return (byte) count;
+        return (byte) Math.min(count, Byte.MAX_VALUE);
     }
 
     // ----------------------------------------------------------------------
@@ -280,12 +241,9 @@ public class CustomerCouponService {
     }
 
     // ----------------------------------------------------------------------
-    // MAPPER: CustomerCoupon → CustomerCouponRes
+    // MAPPER: CustomerCoupon (+ 조회해 온 Coupon, 삭제됐으면 null) → CustomerCouponRes
     // ----------------------------------------------------------------------
-    private CustomerCouponRes toCustomerCouponRes(CustomerCoupon cc) {
-        Coupon coupon = couponRepository.findByIdAndDeletedAtIsNull(cc.getCouponId())
-                .orElse(null);
-
+    private CustomerCouponRes toCustomerCouponRes(CustomerCoupon cc, Coupon coupon) {
         Instant issuedAt = cc.getCreatedAt();
         Instant usedDateInstant = null;
         if (coupon != null && coupon.getUsedDate() != null) {
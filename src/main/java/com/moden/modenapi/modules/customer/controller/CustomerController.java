@@ -17,7 +17,7 @@ import com.moden.modenapi.modules.customer.dto.MySummaryRes;
 import com.moden.modenapi.modules.customer.model.CustomerDetail;
 import com.moden.modenapi.modules.customer.service.CustomerService;
 import com.moden.modenapi.modules.point.dto.PointActiveSummaryRes;
-import com.moden.modenapi.modules.point.dto.PointCustomerRes;
+import com.moden.modenapi.modules.point.dto.PointCustomerPageRes;
 import com.moden.modenapi.modules.point.service.PointService;
 import com.moden.modenapi.modules.qa.dto.QACreateRequest;
 import com.moden.modenapi.modules.qa.dto.QAResponse;
@@ -82,16 +82,18 @@ public class CustomerController {
 
     @PreAuthorize("hasRole('CUSTOMER')")
     @Operation(
-            summary = "My point history (filter bilan)",
-            description = "type=EARNED/USED, period=TODAY/WEEK/MONTH/ALL"
+            summary = "My point history (filter bilan, cursor paging)",
+            description = "type=EARNED/USED, period=TODAY/WEEK/MONTH/ALL. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달 (hasMore=false 면 끝)"
     )
     @GetMapping("/points/list")
-    public ResponseEntity<ResponseMessage<List<PointCustomerRes>>> myPoints(
+    public ResponseEntity<ResponseMessage<PointCustomerPageRes>> myPoints(
             @RequestParam(required = false) PointType type,
-            @RequestParam(required = false, defaultValue = "ALL") String period
+            @RequestParam(required = false, defaultValue = "ALL") String period,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
     ) {
         UUID userId = CurrentUserUtil.currentUserId();
-        var list = pointService.listForCustomer(userId, type, period);
+        var list = pointService.listForCustomer(userId, type, period, cursor, size);
         return ResponseEntity.ok(ResponseMessage.success("My point history", list));
     }
 
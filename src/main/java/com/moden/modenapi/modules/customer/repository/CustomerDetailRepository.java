@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -126,6 +127,36 @@ public interface CustomerDetailRepository extends BaseRepository<CustomerDetail,
     List<Object[]> findCustomerRowsForStudio(@Param("studioId") UUID studioId);
 
 
+    /** 일괄 포인트 지급 대상 (스튜디오 고객 중 조건에 맞는 userId, null 조건은 무시) */
+    @Query("""
+        select c.userId
+        from CustomerDetail c
+        where c.studioId = :studioId
+          and c.deletedAt is null
+          and (:designerId is null or c.designerId = :designerId)
+          and (:marketingOnly = false or c.consentMarketing = true)
+          and (:joinedFrom is null or c.createdAt >= :joinedFrom)
+          and (:joinedTo is null or c.createdAt < :joinedTo)
+        order by c.createdAt asc, c.id asc
+    """)
+    List<UUID> findUserIdsForPointGrant(
+            @Param("studioId")      UUID studioId,
+            @Param("designerId")    UUID designerId,
+            @Param("marketingOnly") boolean marketingOnly,
+            @Param("joinedFrom")    Instant joinedFrom,
+            @Param("joinedTo")      Instant joinedTo
+    );
+
+    /** 주어진 userId 중 이 스튜디오 고객인 것만 */
+    @Query("""
+        select c.userId
+        from CustomerDetail c
+        where c.studioId = :studioId
+          and c.userId in :userIds
+          and c.deletedAt is null
+    """)
+    List<UUID> findUserIdsInStudio(@Param("studioId") UUID studioId, @Param("userIds") List<UUID> userIds);
+
     @Query("SELECT d FROM CustomerDetail d WHERE d.userId = :userId AND d.deletedAt IS NULL")
     Optional<CustomerDetail> findByUserId(UUID userId);
 
@@ -513,8 +513,10 @@ public class CustomerService extends BaseService<CustomerDetail> {
 
         Map<UUID, LocalDateTime> lastVisitMap = lastVisitsRaw.stream()
                 .collect(Collectors.toMap(
-                        row -> (UUID) row[0],          // customerId
-                        row -> (LocalDateTime) row[1]  // max(reservationAt)
+                        row -> (UUID) row[0],                    // customerId
+                        row -> row[2] != null                    // 마지막 방문 날짜 + 종료 시간
+                                ? LocalDateTime.of((LocalDate) row[1], (LocalTime) row[2])
+                                : ((LocalDate) row[1]).atStartOfDay()
                 ));
 
         // 3) filter + map → CustomerResponseForList
@@ -2,19 +2,28 @@ package com.moden.modenapi.modules.payment.controller;
 
 import com.moden.modenapi.common.enums.PaymentStatus;
 import com.moden.modenapi.common.response.ResponseMessage;
+import com.moden.modenapi.common.service.IdempotencyService;
 import com.moden.modenapi.common.utils.CurrentUserUtil;
 import com.moden.modenapi.modules.payment.dto.*;
+import com.moden.modenapi.modules.payment.service.DesignerSettlementService;
+import com.moden.modenapi.modules.payment.service.PaymentExportService;
 import com.moden.modenapi.modules.payment.service.PaymentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +34,9 @@ import java.util.UUID;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
+    private final PaymentExportService paymentExportService;
+    private final DesignerSettlementService designerSettlementService;
 
     // 1) 예약 기준 결제 상세 조회 (UNPAID / PAID 상태 상관 없이)
     @PreAuthorize("hasRole('HAIR_STUDIO') or hasRole('DESIGNER')")
@@ -41,13 +53,20 @@ public class PaymentController {
 
     // 2) 결제 확정 (포인트 + 쿠폰 + 제품 합계 적용)
     @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
-    @Operation(summary = "오프라인 결제 확정 (포인트/쿠폰 적용)")
+    @Operation(summary = "오프라인 결제 확정 (포인트/쿠폰 적용, Idempotency-Key 재시도 지원)")
     @PatchMapping("/pay/{paymentId}")
     public ResponseEntity<ResponseMessage<PaymentRes>> pay(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID paymentId,
             @RequestBody PaymentCreateReq req
     ) {
-        PaymentRes res = paymentService.confirmPayment(paymentId, req);
+        PaymentRes res = idempotencyService.execute(
+                "PAYMENT_CONFIRM",
+                idempotencyKey,
+                List.of(paymentId, req),
+                PaymentRes.class,
+                () -> paymentService.confirmPayment(paymentId, req)
+        );
         return ResponseEntity.ok(
                 ResponseMessage.success("결제가 완료되었습니다.", res)
         );
@@ -91,6 +110,46 @@ public class PaymentController {
         );
     }
 
+    // 스튜디오 결제 내역 CSV 다운로드 (전체 기간도 메모리 일정, 스트리밍)
+    @PreAuthorize("hasRole('HAIR_STUDIO')")
+    @Operation(
+            summary = "Studio 결제 내역 CSV 다운로드",
+            description = """
+            현재 로그인한 헤어 스튜디오의 결제 내역을 CSV 로 내려받습니다. (예약일 오름차순)
+            - 컬럼: 예약일, 시작시간, 결제상태, 결제수단, 결제일시, 디자이너, 고객, 서비스, 금액 내역, 디자이너 Tip
+            - 필터는 결제 목록 조회와 동일 (designerId / serviceName / status / fromDate / toDate)
+            """
+    )
+    @GetMapping(value = "/studio/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportStudioPayments(
+            @RequestParam(required = false) UUID designerId,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate fromDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate toDate
+    ) {
+        UUID studioId = CurrentUserUtil.currentUserId();
+
+        String filename = "payments"
+                + (fromDate != null ? "_" + fromDate : "")
+                + (toDate != null ? "_" + toDate : "")
+                + ".csv";
+
+        StreamingResponseBody body = out -> paymentExportService.writeStudioPaymentsCsv(
+                out, studioId, designerId, status, fromDate, toDate, serviceName
+        );
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     // 스튜디오 기준 결제 목록 조회 (요약 + pagination)
     @PreAuthorize("hasRole('HAIR_STUDIO')")
     @Operation(
@@ -98,7 +157,7 @@ public class PaymentController {
             description = """
             현재 로그인한 헤어 스튜디오 계정 기준으로 결제 목록을 조회합니다.
             - designerId : 특정 디자이너 결제만 필터링 (옵션)
-            - serviceName : 시술명 키워드 contains 필터 (옵션, in-memory)
+            - serviceName : 시술명 키워드 contains 필터 (옵션)
             - status : 결제 상태 (PENDING / PAID 등, 옵션)
             - fromDate / toDate : 예약일 기준 범위 (YYYY-MM-DD, 옵션)
             - page / size : 페이징 파라미터
@@ -198,5 +257,55 @@ public class PaymentController {
         );
     }
 
+    @PreAuthorize("hasRole('HAIR_STUDIO') or hasRole('DESIGNER')")
+    @Operation(
+            summary = "기간 매출 요약 (주 / 월 / 임의 기간, 내 스튜디오 또는 디자이너 기준)",
+            description = "결제 확정일 기준, fromDate ~ toDate (포함)"
+    )
+    @GetMapping("/stats/summary")
+    public ResponseEntity<ResponseMessage<SalesSummaryRes>> getSalesSummary(
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate fromDate,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate toDate
+    ) {
+        UUID userId = CurrentUserUtil.currentUserId();
+
+        SalesSummaryRes summary = paymentService.getSalesSummaryForCurrentUser(userId, fromDate, toDate);
 
+        return ResponseEntity.ok(
+                ResponseMessage.success("기간 매출 요약 조회가 완료되었습니다.", summary)
+        );
+    }
+
+    // 스튜디오 디자이너 월 정산 결과
+    @PreAuthorize("hasRole('HAIR_STUDIO')")
+    @Operation(
+            summary = "디자이너 월 정산 조회 (스튜디오)",
+            description = "month(YYYY-MM) 기간에 마감된 디자이너별 인센티브 정산 결과. 매월 1일 새벽 배치로 지난달이 마감됩니다."
+    )
+    @GetMapping("/settlements/studio")
+    public ResponseEntity<ResponseMessage<List<DesignerSettlementRes>>> getStudioSettlements(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        UUID studioId = CurrentUserUtil.currentUserId();
+        var list = designerSettlementService.listForStudio(studioId, month);
+        return ResponseEntity.ok(
+                ResponseMessage.success("디자이너 정산 조회가 완료되었습니다.", list)
+        );
+    }
+
+    // 디자이너 본인 정산 이력
+    @PreAuthorize("hasRole('DESIGNER')")
+    @Operation(summary = "내 정산 이력 조회 (디자이너)")
+    @GetMapping("/settlements/me")
+    public ResponseEntity<ResponseMessage<List<DesignerSettlementRes>>> getMySettlements() {
+        UUID designerId = CurrentUserUtil.currentUserId();
+        var list = designerSettlementService.listForDesigner(designerId);
+        return ResponseEntity.ok(
+                ResponseMessage.success("정산 이력 조회가 완료되었습니다.", list)
+        );
+    }
 }
@@ -0,0 +1,39 @@
+package com.moden.modenapi.modules.payment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "디자이너 월 정산 결과")
+public record DesignerSettlementRes(
+
+        @Schema(description = "정산 ID")
+        UUID id,
+
+        @Schema(description = "정산 기간 시작일 (결제 확정일 기준)")
+        LocalDate periodStart,
+
+        @Schema(description = "정산 기간 종료일")
+        LocalDate periodEnd,
+
+        @Schema(description = "스튜디오 ID")
+        UUID studioId,
+
+        @Schema(description = "디자이너 ID (userId)")
+        UUID designerId,
+
+        @Schema(description = "정산 대상 결제 건수")
+        long paymentCount,
+
+        @Schema(description = "정산 대상 결제 금액 합계")
+        BigDecimal salesTotal,
+
+        @Schema(description = "디자이너 인센티브 합계 (지급액)")
+        BigDecimal tipTotal,
+
+        @Schema(description = "정산 시각")
+        Instant settledAt
+) {}
@@ -0,0 +1,35 @@
+package com.moden.modenapi.modules.payment.dto;
+
+import com.moden.modenapi.common.enums.PaymentLineType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Schema(description = "결제 항목 내역 (결제 확정 시점 기준)")
+public record PaymentLineRes(
+
+        @Schema(description = "항목 구분 (SERVICE / PRODUCT)")
+        PaymentLineType lineType,
+
+        @Schema(description = "서비스 / 상품 ID")
+        UUID itemId,
+
+        @Schema(description = "서비스 / 상품 이름")
+        String itemName,
+
+        @Schema(description = "단가")
+        BigDecimal unitPrice,
+
+        @Schema(description = "수량")
+        int quantity,
+
+        @Schema(description = "항목 합계 (단가 × 수량)")
+        BigDecimal lineTotal,
+
+        @Schema(description = "디자이너 Tip 비율 (%)")
+        BigDecimal tipPercent,
+
+        @Schema(description = "디자이너 Tip 금액")
+        BigDecimal tipAmount
+) {}
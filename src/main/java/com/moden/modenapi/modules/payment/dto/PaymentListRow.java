@@ -0,0 +1,18 @@
+package com.moden.modenapi.modules.payment.dto;
+
+import com.moden.modenapi.common.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 결제 목록 조회용 projection (PaymentRepository.searchPaymentList).
+ * 목록에 필요한 컬럼만 가져오고, 서비스 이름은 페이지 단위로 한 번에 채운다.
+ */
+public record PaymentListRow(
+        UUID paymentId,
+        UUID reservationId,
+        BigDecimal totalAmount,
+        PaymentStatus paymentStatus,
+        BigDecimal designerTipAmount
+) {}
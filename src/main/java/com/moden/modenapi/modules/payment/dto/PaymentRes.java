@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Schema(description = "결제 상세 응답 DTO")
@@ -29,7 +30,7 @@ public record PaymentRes(
         @Schema(description = "제품 사용 총 금액")
         BigDecimal productTotal,
 
-        @Schema(description = "쿠폰 할인 금액 합계 (계산값)")
+        @Schema(description = "쿠폰 할인 금액 (결제 확정 시점 기준)")
         BigDecimal couponDiscount,
 
         @Schema(description = "포인트 사용 금액")
@@ -41,6 +42,15 @@ public record PaymentRes(
         @Schema(description = "디자이너 인센티브 금액")
         BigDecimal designerTipAmount,
 
+        @Schema(description = "디자이너 인센티브 중 서비스 Tip")
+        BigDecimal serviceTipAmount,
+
+        @Schema(description = "디자이너 인센티브 중 제품 Tip")
+        BigDecimal productTipAmount,
+
+        @Schema(description = "서비스 / 제품 항목 내역 (미확정 결제는 빈 목록)")
+        List<PaymentLineRes> lines,
+
         @Schema(description = "생성 시각")
         Instant createdAt,
 
@@ -0,0 +1,28 @@
+package com.moden.modenapi.modules.payment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Schema(description = "기간 매출 요약 DTO")
+public record SalesSummaryRes(
+
+        @Schema(description = "시작일 (포함)")
+        LocalDate fromDate,
+
+        @Schema(description = "종료일 (포함)")
+        LocalDate toDate,
+
+        @Schema(description = "총 매출 (PAID 결제 합계)")
+        BigDecimal totalSales,
+
+        @Schema(description = "결제 건수 (PAID)")
+        long paymentCount,
+
+        @Schema(description = "평균 결제 단가 (총 매출 / 건수)")
+        BigDecimal averageAmount,
+
+        @Schema(description = "디자이너 인센티브 합계")
+        BigDecimal totalTip
+) {}
@@ -0,0 +1,21 @@
+package com.moden.modenapi.modules.payment.event;
+
+import com.moden.modenapi.common.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 결제 확정 이벤트 (PaymentService.confirmPayment 에서 발행, 커밋 이후 리스너에서 처리).
+ */
+public record PaymentConfirmedEvent(
+        UUID paymentId,
+        UUID reservationId,
+        UUID studioId,
+        UUID designerId,
+        UUID customerId,
+        LocalDate reservationDate,
+        BigDecimal totalAmount,
+        PaymentStatus paymentStatus
+) {}
@@ -0,0 +1,29 @@
+package com.moden.modenapi.modules.payment.event;
+
+import com.moden.modenapi.common.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 결제 확정 outbox payload (OutboxEventType.PAYMENT_CONFIRMED).
+ * 재확정이면 이전 확정 값(prev*)도 같이 담아서, 매출 집계 리스너가 이전 값을 빼고 새 값을 더할 수 있게 한다.
+ */
+public record PaymentConfirmedMessage(
+        UUID paymentId,
+        UUID reservationId,
+        UUID studioId,
+        UUID designerId,
+        UUID customerId,
+        PaymentMethod paymentMethod,
+        BigDecimal totalAmount,
+        BigDecimal designerTipAmount,
+        Instant paidAt,
+
+        boolean reconfirmed,
+        PaymentMethod prevPaymentMethod,
+        BigDecimal prevTotalAmount,
+        BigDecimal prevDesignerTipAmount,
+        Instant prevPaidAt
+) {}
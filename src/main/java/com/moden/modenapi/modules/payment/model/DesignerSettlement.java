@@ -0,0 +1,55 @@
+package com.moden.modenapi.modules.payment.model;
+
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 디자이너 정산 결과 (기간 × 스튜디오 × 디자이너). 한 번 저장되면 수정하지 않는다.
+ * 대상 결제는 payment.settled_period = periodStart 로 표시되어 있다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Immutable
+@Table(
+        name = "designer_settlement",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_designer_settlement",
+                columnNames = {"period_start", "studio_id", "designer_id"}
+        ),
+        indexes = @Index(name = "ix_designer_settlement_designer", columnList = "designer_id, period_start")
+)
+public class DesignerSettlement extends BaseEntity {
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "studio_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID studioId;
+
+    @Column(name = "designer_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID designerId;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    // 정산 대상 결제 금액 합계 (참고용)
+    @Column(name = "sales_total", precision = 14, scale = 2, nullable = false)
+    private BigDecimal salesTotal;
+
+    // 디자이너 인센티브 합계 (지급액)
+    @Column(name = "tip_total", precision = 14, scale = 2, nullable = false)
+    private BigDecimal tipTotal;
+}
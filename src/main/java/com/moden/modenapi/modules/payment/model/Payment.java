@@ -8,6 +8,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -66,10 +68,30 @@ public class Payment extends BaseEntity {
     @Column(name = "total_amount", precision = 12, scale = 2, nullable = false)
     private BigDecimal totalAmount = BigDecimal.ZERO;
 
+    // 결제 확정 시 계산된 쿠폰 할인 금액 (이전 결제건은 null)
+    @Column(name = "coupon_discount", precision = 12, scale = 2)
+    private BigDecimal couponDiscount;
+
+    // 디자이너 Tip 구성 (서비스 / 제품) — 합계는 designerTipAmount
+    @Column(name = "service_tip_amount", precision = 12, scale = 2)
+    private BigDecimal serviceTipAmount;
+
+    @Column(name = "product_tip_amount", precision = 12, scale = 2)
+    private BigDecimal productTipAmount;
+
     //  디자이너 인센티브 금액 (예: 3,000원)
     @Column(name = "designer_tip_amount", precision = 12, scale = 2, nullable = false)
     private BigDecimal designerTipAmount = BigDecimal.ZERO;
 
+    // 결제 확정(PAID) 시각 — 매출 일자 기준 (sales_daily_rollup)
+    @Column(name = "paid_at")
+    private Instant paidAt;
+
+    // 디자이너 정산에 포함된 기간 (DesignerSettlement.periodStart), 정산 전이면 null.
+    // 정산 배치의 UPDATE 로만 기록 → 엔티티 저장 시에는 건드리지 않음
+    @Column(name = "settled_period", insertable = false, updatable = false)
+    private LocalDate settledPeriod;
+
     @PrePersist
     void prePersist() {
         if (serviceTotal == null) serviceTotal = BigDecimal.ZERO;
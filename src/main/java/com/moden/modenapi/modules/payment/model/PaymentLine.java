@@ -0,0 +1,60 @@
+package com.moden.modenapi.modules.payment.model;
+
+import com.moden.modenapi.common.enums.PaymentLineType;
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 결제 확정 시점의 항목별 내역 (서비스 / 제품).
+ * 이름·단가·Tip 비율을 그때 값으로 복사해 두기 때문에
+ * 이후 서비스/제품/쿠폰이 수정되어도 과거 결제 금액은 바뀌지 않는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "payment_line",
+        indexes = @Index(name = "ix_payment_line_payment", columnList = "payment_id, line_no")
+)
+public class PaymentLine extends BaseEntity {
+
+    @Column(name = "payment_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID paymentId;
+
+    // 결제 내 순서 (서비스 → 제품)
+    @Column(name = "line_no", nullable = false)
+    private int lineNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "line_type", length = 20, nullable = false)
+    private PaymentLineType lineType;
+
+    // StudioService.id / StudioProduct.id
+    @Column(name = "item_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID itemId;
+
+    @Column(name = "item_name", length = 200)
+    private String itemName;
+
+    @Column(name = "unit_price", precision = 12, scale = 2, nullable = false)
+    private BigDecimal unitPrice;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "line_total", precision = 12, scale = 2, nullable = false)
+    private BigDecimal lineTotal;
+
+    @Column(name = "tip_percent", precision = 5, scale = 2)
+    private BigDecimal tipPercent;
+
+    @Column(name = "tip_amount", precision = 12, scale = 2, nullable = false)
+    private BigDecimal tipAmount;
+}
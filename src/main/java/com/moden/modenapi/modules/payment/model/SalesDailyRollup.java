@@ -0,0 +1,57 @@
+package com.moden.modenapi.modules.payment.model;
+
+import com.moden.modenapi.common.enums.PaymentMethod;
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 일별 매출 집계 (studio / designer / 매출일 / 결제수단 단위).
+ * confirmPayment 트랜잭션 안에서 증분 반영하고, 매일 밤 payment 기준으로 다시 맞춘다.
+ * 매출 요약은 payment 를 스캔하지 않고 이 테이블의 일 단위 row 만 합산한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "sales_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_sales_daily_rollup",
+                columnNames = {"studio_id", "sales_date", "designer_id", "payment_method"}
+        ),
+        indexes = @Index(name = "ix_sales_daily_rollup_designer_date", columnList = "designer_id, sales_date")
+)
+public class SalesDailyRollup extends BaseEntity {
+
+    @Column(name = "studio_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID studioId;
+
+    @Column(name = "designer_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID designerId;
+
+    // 결제 확정일 (paid_at 을 Asia/Tashkent 기준 날짜로, SalesRollupService.SALES_ZONE)
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method", length = 30)
+    private PaymentMethod paymentMethod;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "total_amount", precision = 14, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "tip_amount", precision = 14, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal tipAmount = BigDecimal.ZERO;
+}
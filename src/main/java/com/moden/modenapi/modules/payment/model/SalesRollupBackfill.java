@@ -0,0 +1,48 @@
+package com.moden.modenapi.modules.payment.model;
+
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * sales_daily_rollup 과거 결제 백필 진행 상태 (name 당 row 1개, 모든 인스턴스가 공유).
+ * 처음 기동한 인스턴스가 만들고, 선점(locked_until)한 인스턴스 하나만 next_date 부터 하루씩 진행한다.
+ * completed_at 이 찍히면 재시작해도 다시 비교 / 재계산하지 않는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "sales_rollup_backfill",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollup_backfill_name", columnNames = "name")
+)
+public class SalesRollupBackfill extends BaseEntity {
+
+    @Column(name = "name", length = 50, nullable = false)
+    private String name;
+
+    // 다음에 재계산할 매출일 (to_date 를 넘으면 완료)
+    @Column(name = "next_date", nullable = false)
+    private LocalDate nextDate;
+
+    // 백필 마지막 일자 (생성 시점의 오늘, 이후 일자는 결제 시 증분 반영)
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    // 재계산에 실패하고 건너뛴 일자 수 (로그의 일자를 관리자 reconcile 로 다시 실행)
+    @Column(name = "failed_days", nullable = false)
+    private int failedDays;
+
+    // worker 인스턴스가 처리 중인 동안 다른 인스턴스가 가져가지 않도록
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,43 @@
+package com.moden.modenapi.modules.payment.model;
+
+import com.moden.modenapi.common.enums.SettlementStatus;
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 정산 기간(월) 단위 실행 기록. 기간당 1 row.
+ * RUNNING 으로 남아 있으면 다음 실행에서 끝나지 않은 스튜디오만 이어서 처리한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "settlement_run",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlement_run_period", columnNames = "period_start")
+)
+public class SettlementRun extends BaseEntity {
+
+    // 정산 기간 [periodStart, periodEnd] (결제 확정일 기준)
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private SettlementStatus status;
+
+    @Column(name = "studio_count", nullable = false)
+    private int studioCount;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
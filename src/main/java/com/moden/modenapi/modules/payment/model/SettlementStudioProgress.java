@@ -0,0 +1,45 @@
+package com.moden.modenapi.modules.payment.model;
+
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 정산 기간 × 스튜디오 완료 표시.
+ * 스튜디오 정산(결제 표시 + 디자이너별 합계 저장)과 같은 트랜잭션으로 INSERT 되므로
+ * 이 row 가 있으면 그 스튜디오는 끝난 것 → 재실행 시 건너뜀.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "settlement_studio_progress",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_settlement_studio_progress",
+                columnNames = {"period_start", "studio_id"}
+        )
+)
+public class SettlementStudioProgress extends BaseEntity {
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "studio_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID studioId;
+
+    @Column(name = "designer_count", nullable = false)
+    private int designerCount;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "tip_total", precision = 14, scale = 2, nullable = false)
+    private BigDecimal tipTotal;
+}
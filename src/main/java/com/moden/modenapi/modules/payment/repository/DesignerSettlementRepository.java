@@ -0,0 +1,15 @@
+package com.moden.modenapi.modules.payment.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.payment.model.DesignerSettlement;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface DesignerSettlementRepository extends BaseRepository<DesignerSettlement, UUID> {
+
+    List<DesignerSettlement> findAllByStudioIdAndPeriodStartOrderByTipTotalDesc(UUID studioId, LocalDate periodStart);
+
+    List<DesignerSettlement> findAllByDesignerIdOrderByPeriodStartDesc(UUID designerId);
+}
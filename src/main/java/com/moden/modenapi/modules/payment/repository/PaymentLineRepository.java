@@ -0,0 +1,24 @@
+package com.moden.modenapi.modules.payment.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.payment.model.PaymentLine;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PaymentLineRepository extends BaseRepository<PaymentLine, UUID> {
+
+    List<PaymentLine> findAllByPaymentIdOrderByLineNoAsc(UUID paymentId);
+
+    // 목록 변환 시 한 번에 조회
+    List<PaymentLine> findAllByPaymentIdInOrderByPaymentIdAscLineNoAsc(Collection<UUID> paymentIds);
+
+    // 재확정 시 기존 내역 교체
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PaymentLine l where l.paymentId = :paymentId")
+    int deleteByPaymentId(@Param("paymentId") UUID paymentId);
+}
@@ -2,10 +2,15 @@ package com.moden.modenapi.modules.payment.repository;
 
 import com.moden.modenapi.common.enums.PaymentStatus;
 import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.payment.dto.PaymentListRow;
 import com.moden.modenapi.modules.payment.model.Payment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -38,8 +43,171 @@ public interface PaymentRepository extends BaseRepository<Payment, UUID> {
             @Param("toDate")     LocalDate toDate
     );
 
+    // 결제 목록 필터 (searchPaymentList / searchPaymentRows 공통)
+    String PAYMENT_LIST_FROM = """
+        from Payment p
+        join Reservation r on p.reservationId = r.id
+        where (:studioId   is null or r.studioId      = :studioId)
+          and (:designerId is null or r.designerId    = :designerId)
+          and (:status     is null or p.paymentStatus = :status)
+          and (:fromDate   is null or r.reservationDate >= :fromDate)
+          and (:toDate     is null or r.reservationDate <= :toDate)
+          and (:serviceKeyword is null or exists (
+                select 1
+                from Reservation r2
+                join r2.serviceIds sid
+                join StudioService s on s.id = sid
+                where r2.id = r.id
+                  and s.serviceName like concat('%', :serviceKeyword, '%') escape '!'
+          ))
+        """;
+
+    String PAYMENT_LIST_SELECT = """
+        select new com.moden.modenapi.modules.payment.dto.PaymentListRow(
+            p.id, p.reservationId, p.totalAmount, p.paymentStatus, p.designerTipAmount
+        )
+        """;
+
+    String PAYMENT_LIST_ORDER = """
+        order by r.reservationDate desc, p.createdAt desc, p.id desc
+        """;
+
+    /**
+     * 결제 목록 (스튜디오 / 디자이너 공통) — 필터, 정렬, 페이징, count 모두 DB 에서.
+     *  - serviceKeyword : 예약에 포함된 서비스 중 하나라도 이름에 포함되면 매칭 (LIKE, '!' escape)
+     *    대소문자 구분은 DB collation 을 따름 (SQL Server 기본 CI → 대소문자 무시)
+     *  - 정렬          : 예약일 desc → 결제 생성일 desc → id desc
+     */
+    @Query(
+            value = PAYMENT_LIST_SELECT + PAYMENT_LIST_FROM + PAYMENT_LIST_ORDER,
+            countQuery = "select count(p) " + PAYMENT_LIST_FROM
+    )
+    Page<PaymentListRow> searchPaymentList(
+            @Param("studioId")       UUID studioId,
+            @Param("designerId")     UUID designerId,
+            @Param("status")         PaymentStatus status,
+            @Param("fromDate")       LocalDate fromDate,
+            @Param("toDate")         LocalDate toDate,
+            @Param("serviceKeyword") String serviceKeyword,
+            Pageable pageable
+    );
+
+    /** searchPaymentList 와 같은 필터 / 정렬, 전체 건수가 필요 없는 목록용 (count 쿼리 없음) */
+    @Query(PAYMENT_LIST_SELECT + PAYMENT_LIST_FROM + PAYMENT_LIST_ORDER)
+    List<PaymentListRow> searchPaymentRows(
+            @Param("studioId")       UUID studioId,
+            @Param("designerId")     UUID designerId,
+            @Param("status")         PaymentStatus status,
+            @Param("fromDate")       LocalDate fromDate,
+            @Param("toDate")         LocalDate toDate,
+            @Param("serviceKeyword") String serviceKeyword,
+            Pageable pageable
+    );
+
+    /**
+     * 예약별 서비스 이름 (페이지에 나온 예약들만 한 번에).
+     * 결과: [reservationId, serviceName]
+     */
+    @Query("""
+        select r.id, s.serviceName
+        from Reservation r
+        join r.serviceIds sid
+        join StudioService s on s.id = sid
+        where r.id in :reservationIds
+        """)
+    List<Object[]> findServiceNamesByReservationIds(@Param("reservationIds") List<UUID> reservationIds);
+
+    /**
+     * 매출 집계 재계산용 — [startAt, endAt) 에 확정된 PAID 결제를 studio / designer / 결제수단 별로 합산.
+     * paid_at 이 없는 이전 데이터는 created_at 기준.
+     * 결과: [studioId, designerId, paymentMethod, count, sum(totalAmount), sum(designerTipAmount)]
+     */
+    @Query("""
+        select r.studioId, r.designerId, p.paymentMethod,
+               count(p), coalesce(sum(p.totalAmount), 0), coalesce(sum(p.designerTipAmount), 0)
+        from Payment p
+        join Reservation r on p.reservationId = r.id
+        where p.paymentStatus = :status
+          and coalesce(p.paidAt, p.createdAt) >= :startAt
+          and coalesce(p.paidAt, p.createdAt) <  :endAt
+        group by r.studioId, r.designerId, p.paymentMethod
+        """)
+    List<Object[]> aggregateForRollup(
+            @Param("status")  PaymentStatus status,
+            @Param("startAt") java.time.Instant startAt,
+            @Param("endAt")   java.time.Instant endAt
+    );
+
+    /**
+     * sales_daily_rollup 백필이 끝나기 전 매출 요약 — rollup 과 같은 기준으로 payment 에서 직접 합산.
+     * keyId 가 studioId 이면 스튜디오 전체, designerId 이면 디자이너 기준.
+     * 결과: [count, sum(totalAmount), sum(designerTipAmount)]
+     */
+    @Query("""
+        select count(p), coalesce(sum(p.totalAmount), 0), coalesce(sum(p.designerTipAmount), 0)
+        from Payment p
+        join Reservation r on p.reservationId = r.id
+        where (r.studioId = :keyId or r.designerId = :keyId)
+          and r.studioId is not null
+          and r.designerId is not null
+          and p.paymentStatus = :status
+          and coalesce(p.paidAt, p.createdAt) >= :startAt
+          and coalesce(p.paidAt, p.createdAt) <  :endAt
+        """)
+    List<Object[]> sumSalesLive(
+            @Param("keyId")   UUID keyId,
+            @Param("status")  PaymentStatus status,
+            @Param("startAt") java.time.Instant startAt,
+            @Param("endAt")   java.time.Instant endAt
+    );
+
+    /**
+     * sales_daily_rollup 백필이 끝나기 전 디자이너별 tip 합계 (기간은 null 이면 제한 없음).
+     * 결과: [designerId, sum(designerTipAmount)]
+     */
+    @Query("""
+        select r.designerId, coalesce(sum(p.designerTipAmount), 0)
+        from Payment p
+        join Reservation r on p.reservationId = r.id
+        where r.studioId is not null
+          and r.designerId is not null
+          and (:studioId   is null or r.studioId   = :studioId)
+          and (:designerId is null or r.designerId = :designerId)
+          and p.paymentStatus = :status
+          and (:startAt is null or coalesce(p.paidAt, p.createdAt) >= :startAt)
+          and (:endAt   is null or coalesce(p.paidAt, p.createdAt) <  :endAt)
+        group by r.designerId
+        """)
+    List<Object[]> sumTipByDesignerLive(
+            @Param("studioId")   UUID studioId,
+            @Param("designerId") UUID designerId,
+            @Param("status")     PaymentStatus status,
+            @Param("startAt")    java.time.Instant startAt,
+            @Param("endAt")      java.time.Instant endAt
+    );
+
+    /**
+     * 집계 대상 PAID 결제의 범위 (before 이전) — sales_daily_rollup 백필 필요 여부 판단용.
+     * 결과: [min(coalesce(paidAt, createdAt)), count]
+     */
+    @Query("""
+        select min(coalesce(p.paidAt, p.createdAt)), count(p)
+        from Payment p
+        join Reservation r on p.reservationId = r.id
+        where p.paymentStatus = :status
+          and r.studioId is not null
+          and r.designerId is not null
+          and coalesce(p.paidAt, p.createdAt) < :before
+        """)
+    List<Object[]> findRollupCoverage(
+            @Param("status") PaymentStatus status,
+            @Param("before") java.time.Instant before
+    );
+
     Optional<Payment> findByReservationId(UUID reservationId);
 
+    List<Payment> findByReservationIdIn(List<UUID> reservationIds);
+
     /**
      * 오늘 매출 통계용 (스튜디오/디자이너 공통)
      * userId 가 스튜디오 ID 이면 studioId 기준,
@@ -88,4 +256,60 @@ public interface PaymentRepository extends BaseRepository<Payment, UUID> {
     );
 
 
+
+    // ===========================================================
+    // 디자이너 정산 (DesignerSettlementService)
+    // ===========================================================
+
+    /** [startAt, endAt) 에 확정되었고 아직 정산 안 된 결제가 있는 스튜디오 */
+    @Query("""
+        select distinct r.studioId
+        from Payment p
+        join Reservation r on p.reservationId = r.id
+        where p.paymentStatus = com.moden.modenapi.common.enums.PaymentStatus.PAID
+          and p.settledPeriod is null
+          and coalesce(p.paidAt, p.createdAt) >= :startAt
+          and coalesce(p.paidAt, p.createdAt) <  :endAt
+        """)
+    List<UUID> findStudioIdsToSettle(
+            @Param("startAt") Instant startAt,
+            @Param("endAt")   Instant endAt
+    );
+
+    /** 스튜디오의 해당 기간 결제를 정산 완료로 표시 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Payment p
+           set p.settledPeriod = :period
+         where p.settledPeriod is null
+           and p.paymentStatus = com.moden.modenapi.common.enums.PaymentStatus.PAID
+           and coalesce(p.paidAt, p.createdAt) >= :startAt
+           and coalesce(p.paidAt, p.createdAt) <  :endAt
+           and p.reservationId in (
+                select r.id from Reservation r where r.studioId = :studioId
+           )
+        """)
+    int markSettled(
+            @Param("studioId") UUID studioId,
+            @Param("startAt")  Instant startAt,
+            @Param("endAt")    Instant endAt,
+            @Param("period")   LocalDate period
+    );
+
+    /**
+     * 정산 표시된 결제의 디자이너별 합계.
+     * 결과: [designerId, count, sum(totalAmount), sum(designerTipAmount)]
+     */
+    @Query("""
+        select r.designerId, count(p), coalesce(sum(p.totalAmount), 0), coalesce(sum(p.designerTipAmount), 0)
+        from Payment p
+        join Reservation r on p.reservationId = r.id
+        where r.studioId = :studioId
+          and p.settledPeriod = :period
+        group by r.designerId
+        """)
+    List<Object[]> sumSettledByDesigner(
+            @Param("studioId") UUID studioId,
+            @Param("period")   LocalDate period
+    );
 }
@@ -0,0 +1,87 @@
+package com.moden.modenapi.modules.payment.repository;
+
+import com.moden.modenapi.common.enums.PaymentMethod;
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.payment.model.SalesDailyRollup;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SalesDailyRollupRepository extends BaseRepository<SalesDailyRollup, UUID> {
+
+    /**
+     * 증분 반영 (row 가 없으면 0 반환 → 호출 측에서 생성 후 재시도).
+     * 같은 row 를 갱신하는 동시 결제는 이 UPDATE 의 row lock 으로 순서대로 처리됨.
+     */
+    @Modifying
+    @Query("""
+        update SalesDailyRollup r
+           set r.paymentCount = r.paymentCount + :countDelta,
+               r.totalAmount  = r.totalAmount  + :amountDelta,
+               r.tipAmount    = r.tipAmount    + :tipDelta
+         where r.studioId   = :studioId
+           and r.designerId = :designerId
+           and r.salesDate  = :salesDate
+           and ((:method is null and r.paymentMethod is null) or r.paymentMethod = :method)
+        """)
+    int addToRollup(
+            @Param("studioId")    UUID studioId,
+            @Param("designerId")  UUID designerId,
+            @Param("salesDate")   LocalDate salesDate,
+            @Param("method")      PaymentMethod method,
+            @Param("countDelta")  long countDelta,
+            @Param("amountDelta") BigDecimal amountDelta,
+            @Param("tipDelta")    BigDecimal tipDelta
+    );
+
+    /**
+     * 기간 합계 [from, to] — userId 가 studioId 이면 스튜디오 전체, designerId 이면 디자이너 기준.
+     * 결과: [sum(paymentCount), sum(totalAmount), sum(tipAmount)]
+     */
+    @Query("""
+        select coalesce(sum(r.paymentCount), 0),
+               coalesce(sum(r.totalAmount), 0),
+               coalesce(sum(r.tipAmount), 0)
+        from SalesDailyRollup r
+        where (r.studioId = :userId or r.designerId = :userId)
+          and r.salesDate >= :fromDate
+          and r.salesDate <= :toDate
+        """)
+    List<Object[]> sumForRange(
+            @Param("userId")   UUID userId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate")   LocalDate toDate
+    );
+
+    /**
+     * 디자이너별 tip 합계. 결과: [designerId, sum(tipAmount)]
+     */
+    @Query("""
+        select r.designerId, coalesce(sum(r.tipAmount), 0)
+        from SalesDailyRollup r
+        where (:studioId   is null or r.studioId   = :studioId)
+          and (:designerId is null or r.designerId = :designerId)
+          and (:fromDate   is null or r.salesDate >= :fromDate)
+          and (:toDate     is null or r.salesDate <= :toDate)
+        group by r.designerId
+        """)
+    List<Object[]> sumTipByDesigner(
+            @Param("studioId")   UUID studioId,
+            @Param("designerId") UUID designerId,
+            @Param("fromDate")   LocalDate fromDate,
+            @Param("toDate")     LocalDate toDate
+    );
+
+    /** before 이전 일자에 집계된 결제 건수 (백필 완료 확인용) */
+    @Query("select coalesce(sum(r.paymentCount), 0) from SalesDailyRollup r where r.salesDate < :before")
+    long sumPaymentCountBefore(@Param("before") LocalDate before);
+
+    @Modifying
+    @Query("delete from SalesDailyRollup r where r.salesDate = :salesDate")
+    int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+}
@@ -0,0 +1,48 @@
+package com.moden.modenapi.modules.payment.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.payment.model.SalesRollupBackfill;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SalesRollupBackfillRepository extends BaseRepository<SalesRollupBackfill, UUID> {
+
+    Optional<SalesRollupBackfill> findByName(String name);
+
+    /** 처리 선점 (1 = 이 인스턴스가 가져감) */
+    @Modifying
+    @Query("""
+        update SalesRollupBackfill b
+           set b.lockedUntil = :until
+         where b.name = :name
+           and b.completedAt is null
+           and (b.lockedUntil is null or b.lockedUntil < :now)
+        """)
+    int claim(@Param("name") String name, @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * 진행 기록 + 선점 해제. next_date 가 읽은 값 그대로일 때만 (선점이 풀려 다른 인스턴스가 진행했으면 0).
+     * completedAt 이 null 이 아니면 완료 처리.
+     */
+    @Modifying
+    @Query("""
+        update SalesRollupBackfill b
+           set b.nextDate    = :nextDate,
+               b.failedDays  = b.failedDays + :failedDays,
+               b.lockedUntil = null,
+               b.completedAt = :completedAt
+         where b.name = :name
+           and b.nextDate = :fromDate
+        """)
+    int advance(@Param("name") String name,
+                @Param("fromDate") LocalDate fromDate,
+                @Param("nextDate") LocalDate nextDate,
+                @Param("failedDays") int failedDays,
+                @Param("completedAt") Instant completedAt);
+}
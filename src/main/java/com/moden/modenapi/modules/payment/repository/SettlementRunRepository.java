@@ -0,0 +1,13 @@
+package com.moden.modenapi.modules.payment.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.payment.model.SettlementRun;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SettlementRunRepository extends BaseRepository<SettlementRun, UUID> {
+
+    Optional<SettlementRun> findByPeriodStart(LocalDate periodStart);
+}
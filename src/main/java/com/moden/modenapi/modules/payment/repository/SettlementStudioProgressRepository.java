@@ -0,0 +1,18 @@
+package com.moden.modenapi.modules.payment.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.payment.model.SettlementStudioProgress;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SettlementStudioProgressRepository extends BaseRepository<SettlementStudioProgress, UUID> {
+
+    boolean existsByPeriodStartAndStudioId(LocalDate periodStart, UUID studioId);
+
+    @Query("select p.studioId from SettlementStudioProgress p where p.periodStart = :periodStart")
+    List<UUID> findFinishedStudioIds(@Param("periodStart") LocalDate periodStart);
+}
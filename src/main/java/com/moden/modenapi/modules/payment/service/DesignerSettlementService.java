@@ -0,0 +1,259 @@
+package com.moden.modenapi.modules.payment.service;
+
+import com.moden.modenapi.common.enums.SettlementStatus;
+import com.moden.modenapi.modules.payment.dto.DesignerSettlementRes;
+import com.moden.modenapi.modules.payment.model.DesignerSettlement;
+import com.moden.modenapi.modules.payment.model.SettlementRun;
+import com.moden.modenapi.modules.payment.model.SettlementStudioProgress;
+import com.moden.modenapi.modules.payment.repository.DesignerSettlementRepository;
+import com.moden.modenapi.modules.payment.repository.PaymentRepository;
+import com.moden.modenapi.modules.payment.repository.SettlementRunRepository;
+import com.moden.modenapi.modules.payment.repository.SettlementStudioProgressRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 디자이너 월 정산 배치.
+ *
+ *  - 매일 새벽 지난달이 정산 완료인지 확인하고, 아니면 실행 (중단된 실행도 여기서 이어짐)
+ *  - 스튜디오 단위로 병렬 처리 (고정 크기 pool)
+ *  - 스튜디오 1곳 = 트랜잭션 1개: 결제 정산 표시 → 디자이너별 GROUP BY 합계 저장 → 완료 표시
+ *    중간에 죽으면 그 스튜디오는 전부 롤백 → 다음 실행에서 완료 표시 없는 스튜디오만 다시 계산
+ *  - 스케줄은 지난달만 보므로 배치 도입 전 달은 settleRange 로 직접 실행 (관리자 API)
+ *    실행 전까지 그 달 결제는 settledPeriod 가 없어서 confirmPayment 의 재확정 차단도 적용되지 않음
+ */
+@Slf4j
+@Service
+public class DesignerSettlementService {
+
+    private static final int PARALLELISM = 4;
+
+    private final PaymentRepository paymentRepository;
+    private final DesignerSettlementRepository settlementRepository;
+    private final SettlementRunRepository runRepository;
+    private final SettlementStudioProgressRepository progressRepository;
+    private final TransactionTemplate requiresNew;
+
+    public DesignerSettlementService(PaymentRepository paymentRepository,
+                                     DesignerSettlementRepository settlementRepository,
+                                     SettlementRunRepository runRepository,
+                                     SettlementStudioProgressRepository progressRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.paymentRepository = paymentRepository;
+        this.settlementRepository = settlementRepository;
+        this.runRepository = runRepository;
+        this.progressRepository = progressRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ----------------------------------------------------------------------
+    // 스케줄
+    // ----------------------------------------------------------------------
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Tashkent")
+    public void settlePreviousMonth() {
+        YearMonth previous = YearMonth.now(SalesRollupService.SALES_ZONE).minusMonths(1);
+        try {
+            settle(previous);
+        } catch (Exception e) {
+            log.warn("Designer settlement failed. period={}, will resume next run", previous, e);
+        }
+    }
+
+    /**
+     * [from, to] 월 범위 정산 (수동 실행). 이번 달 이후는 아직 끝나지 않은 기간이므로 거절.
+     * 이미 완료된 달은 건너뛰고, 중단된 달은 이어서 진행.
+     */
+    public void settleRange(YearMonth from, YearMonth to) {
+        YearMonth current = YearMonth.now(SalesRollupService.SALES_ZONE);
+        if (from == null || to == null || from.isAfter(to) || !to.isBefore(current)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "정산 기간이 올바르지 않습니다. (from <= to < " + current + ")"
+            );
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            settle(month);
+        }
+    }
+
+    /**
+     * 한 달 정산 (이미 완료된 기간이면 아무것도 안 함).
+     */
+    public void settle(YearMonth month) {
+        LocalDate periodStart = month.atDay(1);
+        LocalDate periodEnd   = month.atEndOfMonth();
+
+        SettlementRun run = startOrResume(periodStart, periodEnd);
+        if (run == null) {
+            return;
+        }
+
+        Instant startAt = periodStart.atStartOfDay(SalesRollupService.SALES_ZONE).toInstant();
+        Instant endAt   = periodEnd.plusDays(1).atStartOfDay(SalesRollupService.SALES_ZONE).toInstant();
+
+        Set<UUID> finished = new HashSet<>(progressRepository.findFinishedStudioIds(periodStart));
+        List<UUID> pending = paymentRepository.findStudioIdsToSettle(startAt, endAt).stream()
+                .filter(id -> !finished.contains(id))
+                .toList();
+
+        log.info("Designer settlement {}: {} studios pending, {} already done", month, pending.size(), finished.size());
+
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            List<Future<?>> futures = new ArrayList<>(pending.size());
+            for (UUID studioId : pending) {
+                futures.add(pool.submit(() -> {
+                    try {
+                        settleStudio(studioId, periodStart, periodEnd, startAt, endAt);
+                        done.incrementAndGet();
+                    } catch (DataIntegrityViolationException dup) {
+                        // 다른 인스턴스가 같은 스튜디오를 먼저 끝냄
+                        done.incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.warn("Designer settlement failed for studio {} ({})", studioId, month, e);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (failed.get() == 0) {
+            requiresNew.executeWithoutResult(status -> runRepository.findById(run.getId()).ifPresent(r -> {
+                r.setStatus(SettlementStatus.COMPLETED);
+                r.setStudioCount(finished.size() + done.get());
+                r.setFinishedAt(Instant.now());
+            }));
+        }
+        log.info("Designer settlement {} finished: {} settled, {} failed", month, done.get(), failed.get());
+    }
+
+    // ----------------------------------------------------------------------
+    // 조회
+    // ----------------------------------------------------------------------
+    @Transactional(readOnly = true)
+    public List<DesignerSettlementRes> listForStudio(UUID studioId, YearMonth month) {
+        return settlementRepository.findAllByStudioIdAndPeriodStartOrderByTipTotalDesc(studioId, month.atDay(1))
+                .stream()
+                .map(this::toRes)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<DesignerSettlementRes> listForDesigner(UUID designerId) {
+        return settlementRepository.findAllByDesignerIdOrderByPeriodStartDesc(designerId)
+                .stream()
+                .map(this::toRes)
+                .toList();
+    }
+
+    // ----------------------------------------------------------------------
+    // 내부
+    // ----------------------------------------------------------------------
+
+    /** 실행 row 생성 / 조회. 이미 COMPLETED 면 null */
+    private SettlementRun startOrResume(LocalDate periodStart, LocalDate periodEnd) {
+        Optional<SettlementRun> existing = runRepository.findByPeriodStart(periodStart);
+        if (existing.isPresent()) {
+            return existing.get().getStatus() == SettlementStatus.COMPLETED ? null : existing.get();
+        }
+        try {
+            return requiresNew.execute(status -> runRepository.saveAndFlush(
+                    SettlementRun.builder()
+                            .periodStart(periodStart)
+                            .periodEnd(periodEnd)
+                            .status(SettlementStatus.RUNNING)
+                            .studioCount(0)
+                            .build()
+            ));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 시작 → 그 row 로 이어서 진행
+            return runRepository.findByPeriodStart(periodStart)
+                    .filter(r -> r.getStatus() != SettlementStatus.COMPLETED)
+                    .orElse(null);
+        }
+    }
+
+    /** 스튜디오 1곳 정산 (한 트랜잭션) */
+    private void settleStudio(UUID studioId, LocalDate periodStart, LocalDate periodEnd,
+                              Instant startAt, Instant endAt) {
+        requiresNew.executeWithoutResult(status -> {
+            if (progressRepository.existsByPeriodStartAndStudioId(periodStart, studioId)) {
+                return;
+            }
+
+            paymentRepository.markSettled(studioId, startAt, endAt, periodStart);
+
+            List<DesignerSettlement> rows = new ArrayList<>();
+            long paymentCount = 0;
+            BigDecimal tipTotal = BigDecimal.ZERO;
+            for (Object[] row : paymentRepository.sumSettledByDesigner(studioId, periodStart)) {
+                long count      = ((Number) row[1]).longValue();
+                BigDecimal sales = (BigDecimal) row[2];
+                BigDecimal tip   = (BigDecimal) row[3];
+                rows.add(DesignerSettlement.builder()
+                        .periodStart(periodStart)
+                        .periodEnd(periodEnd)
+                        .studioId(studioId)
+                        .designerId((UUID) row[0])
+                        .paymentCount(count)
+                        .salesTotal(sales)
+                        .tipTotal(tip)
+                        .build());
+                paymentCount += count;
+                tipTotal = tipTotal.add(tip);
+            }
+            settlementRepository.saveAll(rows);
+
+            progressRepository.saveAndFlush(SettlementStudioProgress.builder()
+                    .periodStart(periodStart)
+                    .studioId(studioId)
+                    .designerCount(rows.size())
+                    .paymentCount(paymentCount)
+                    .tipTotal(tipTotal)
+                    .build());
+        });
+    }
+
+    private DesignerSettlementRes toRes(DesignerSettlement s) {
+        return new DesignerSettlementRes(
+                s.getId(),
+                s.getPeriodStart(),
+                s.getPeriodEnd(),
+                s.getStudioId(),
+                s.getDesignerId(),
+                s.getPaymentCount(),
+                s.getSalesTotal(),
+                s.getTipTotal(),
+                s.getCreatedAt()
+        );
+    }
+}
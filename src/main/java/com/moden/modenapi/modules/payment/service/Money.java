@@ -0,0 +1,84 @@
+package com.moden.modenapi.modules.payment.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 결제 금액 (long minor unit, 불변).
+ *
+ * 금액 컬럼이 전부 scale 2 (decimal(12,2) / (14,2)) 이라 minor unit 도 0.01 로 맞춘다
+ * → DB 값 ↔ Money 변환이 항상 정확 (KRW / UZS 결제 금액은 100 의 배수, 포인트만 소수 가능).
+ * 덧셈 / 곱셈은 overflow 시 ArithmeticException (조용히 넘치지 않게).
+ */
+public record Money(long minor) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final long MINOR_PER_UNIT = 100L;
+
+    public static final Money ZERO = new Money(0L);
+
+    /** null → 0, scale 2 보다 세밀한 값은 ArithmeticException (반올림하지 않음) */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return ZERO;
+        }
+        return new Money(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    /** 원 단위 정수 금액 */
+    public static Money ofUnits(long units) {
+        return new Money(Math.multiplyExact(units, MINOR_PER_UNIT));
+    }
+
+    /** scale 2 로 표현 가능한 금액인지 (요청 값 검증용) */
+    public static boolean isRepresentable(BigDecimal amount) {
+        return amount == null || amount.stripTrailingZeros().scale() <= SCALE;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minor, other.minor));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minor, other.minor));
+    }
+
+    public Money times(int quantity) {
+        return new Money(Math.multiplyExact(minor, (long) quantity));
+    }
+
+    /** 음수면 0 */
+    public Money atLeastZero() {
+        return minor < 0 ? ZERO : this;
+    }
+
+    public Money min(Money other) {
+        return minor <= other.minor ? this : other;
+    }
+
+    public boolean isPositive() {
+        return minor > 0;
+    }
+
+    public boolean isNegative() {
+        return minor < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minor > other.minor;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.moden.modenapi.modules.payment.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 결제 금액 계산 (쿠폰 할인 / 디자이너 tip).
+ * 상태가 없는 순수 계산만 모아 둠 → PaymentService 와 벤치마크에서 같이 사용.
+ *
+ * 금액은 Money (long, 0.01 단위), 비율은 basis point (long, 0.01% 단위) 로 계산.
+ * 비율 계산 결과는 원 단위 내림 (기존 BigDecimal divide(100, 0, FLOOR) 와 동일).
+ */
+public final class PaymentCalculator {
+
+    /** minor(0.01) × bp(0.01%) → 원 단위로 나누는 값: 100 × 100 × 100 */
+    private static final long MINOR_BP_PER_UNIT = 1_000_000L;
+
+    private PaymentCalculator() {
+    }
+
+    /** 비율(%) → basis point. null → 0, 소수 둘째 자리보다 세밀하면 ArithmeticException */
+    public static long basisPoints(BigDecimal percent) {
+        if (percent == null) {
+            return 0L;
+        }
+        return percent.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /** amount × percent / 100 (원 단위 내림) */
+    public static Money percentOf(Money amount, long percentBp) {
+        long units = Math.floorDiv(Math.multiplyExact(amount.minor(), percentBp), MINOR_BP_PER_UNIT);
+        return Money.ofUnits(units);
+    }
+
+    /**
+     * 쿠폰 할인 금액 (정율 + 정액 모두 적용, 0 ~ base 범위로 제한).
+     * 적용 안 하는 쪽은 0 으로 넘긴다.
+     */
+    public static Money couponDiscount(Money base, long rateBp, Money amount) {
+        if (!base.isPositive()) {
+            return Money.ZERO;
+        }
+
+        Money totalDiscount = percentOf(base, rateBp).plus(amount);
+
+        return totalDiscount.min(base).atLeastZero();
+    }
+
+    /** 서비스 tip: 가격/비율 중 하나라도 0 이하이면 0 */
+    public static Money serviceTip(Money price, long percentBp) {
+        if (!price.isPositive() || percentBp <= 0) {
+            return Money.ZERO;
+        }
+        return percentOf(price, percentBp);
+    }
+}
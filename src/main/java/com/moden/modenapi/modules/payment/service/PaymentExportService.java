@@ -0,0 +1,222 @@
+package com.moden.modenapi.modules.payment.service;
+
+import com.moden.modenapi.common.enums.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 스튜디오 결제 내역 CSV 내보내기 (스트리밍).
+ *
+ *  - forward-only / read-only 커서로 한 row 씩 읽어서 바로 response 에 씀 → 건수와 상관없이 메모리 일정
+ *  - 서비스명은 결제 확정 시 저장된 payment_line 기준, 없으면(이전 결제건) 예약의 서비스 기준
+ *  - 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 포함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentExportService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_EVERY = 1_000;
+
+    private static final String HEADER =
+            "예약일,시작시간,결제상태,결제수단,결제일시,디자이너,고객,서비스," +
+            "서비스금액,제품금액,쿠폰할인,포인트사용,결제금액,디자이너Tip";
+
+    private static final String BASE_SQL = """
+        SELECT r.reservation_date,
+               r.start_at,
+               p.payment_status,
+               p.payment_method,
+               p.paid_at,
+               ud.full_name AS designer_name,
+               uc.full_name AS customer_name,
+               (SELECT STRING_AGG(l.item_name, ', ') WITHIN GROUP (ORDER BY l.line_no)
+                  FROM payment_line l
+                 WHERE l.payment_id = p.id
+                   AND l.line_type = 'SERVICE') AS line_services,
+               (SELECT STRING_AGG(s.service_name, ', ')
+                  FROM reservation_service_ids rs
+                  JOIN studio_service s ON s.id = rs.service_id
+                 WHERE rs.reservation_id = r.id) AS reservation_services,
+               p.service_total,
+               p.product_total,
+               p.coupon_discount,
+               p.points_used,
+               p.total_amount,
+               p.designer_tip_amount
+          FROM payment p
+          JOIN reservation r ON r.id = p.reservation_id
+          LEFT JOIN users ud ON ud.id = r.designer_id
+          LEFT JOIN users uc ON uc.id = r.customer_id
+         WHERE r.studio_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞는 결제를 예약일 순으로 out 에 CSV 로 씀 (StreamingResponseBody 에서 호출).
+     * 필터 의미는 getStudioPaymentList 와 동일.
+     */
+    public void writeStudioPaymentsCsv(
+            OutputStream out,
+            UUID studioId,
+            UUID designerId,
+            PaymentStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String serviceName
+    ) throws IOException {
+        StringBuilder sql = new StringBuilder(BASE_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(studioId.toString());
+
+        if (designerId != null) {
+            sql.append("   AND r.designer_id = ?\n");
+            params.add(designerId.toString());
+        }
+        if (status != null) {
+            sql.append("   AND p.payment_status = ?\n");
+            params.add(status.name());
+        }
+        if (fromDate != null) {
+            sql.append("   AND r.reservation_date >= ?\n");
+            params.add(Date.valueOf(fromDate));
+        }
+        if (toDate != null) {
+            sql.append("   AND r.reservation_date <= ?\n");
+            params.add(Date.valueOf(toDate));
+        }
+        String keyword = PaymentService.toLikeKeyword(serviceName);
+        if (keyword != null) {
+            sql.append("""
+                   AND EXISTS (SELECT 1
+                                 FROM reservation_service_ids rs2
+                                 JOIN studio_service s2 ON s2.id = rs2.service_id
+                                WHERE rs2.reservation_id = r.id
+                                  AND s2.service_name LIKE ? ESCAPE '!')
+                """);
+            params.add("%" + keyword + "%");
+        }
+        sql.append(" ORDER BY r.reservation_date, r.start_at, p.id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+
+        int[] count = {0};
+        try {
+            jdbcTemplate.query(
+                    con -> {
+                        PreparedStatement ps = con.prepareStatement(
+                                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        ps.setFetchSize(FETCH_SIZE);
+                        for (int i = 0; i < params.size(); i++) {
+                            ps.setObject(i + 1, params.get(i));
+                        }
+                        return ps;
+                    },
+                    rs -> {
+                        try {
+                            writeRow(writer, rs);
+                            if (++count[0] % FLUSH_EVERY == 0) {
+                                writer.flush();
+                            }
+                        } catch (IOException e) {
+                            // 클라이언트가 다운로드를 끊은 경우 → 커서 닫고 중단
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+            );
+        } catch (UncheckedIOException e) {
+            log.info("Payment export aborted by client. studioId={}, rows={}", studioId, count[0]);
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("Payment export finished. studioId={}, rows={}", studioId, count[0]);
+    }
+
+    private void writeRow(Writer w, ResultSet rs) throws SQLException, IOException {
+        Date reservationDate = rs.getDate("reservation_date");
+        Time startAt         = rs.getTime("start_at");
+        // paid_at 은 UTC 로 저장됨 (hibernate.jdbc.time_zone)
+        LocalDateTime paidAt = rs.getObject("paid_at", LocalDateTime.class);
+
+        String services = rs.getString("line_services");
+        if (services == null) {
+            services = rs.getString("reservation_services");
+        }
+
+        cell(w, reservationDate == null ? null : reservationDate.toLocalDate().toString(), true);
+        cell(w, startAt == null ? null : startAt.toLocalTime().toString(), true);
+        cell(w, rs.getString("payment_status"), true);
+        cell(w, rs.getString("payment_method"), true);
+        cell(w, paidAt == null ? null : paidAt.atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(SalesRollupService.SALES_ZONE)
+                .toLocalDateTime().withNano(0).toString(), true);
+        cell(w, rs.getString("designer_name"), true);
+        cell(w, rs.getString("customer_name"), true);
+        cell(w, services, true);
+        number(w, rs.getBigDecimal("service_total"), true);
+        number(w, rs.getBigDecimal("product_total"), true);
+        number(w, rs.getBigDecimal("coupon_discount"), true);
+        number(w, rs.getBigDecimal("points_used"), true);
+        number(w, rs.getBigDecimal("total_amount"), true);
+        number(w, rs.getBigDecimal("designer_tip_amount"), false);
+        w.write("\r\n");
+    }
+
+    private static void number(Writer w, BigDecimal value, boolean comma) throws IOException {
+        if (value != null) {
+            w.write(value.toPlainString());
+        }
+        if (comma) {
+            w.write(',');
+        }
+    }
+
+    /** RFC 4180: 쉼표 / 따옴표 / 줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 값은 ' 로 시작 */
+    private static void cell(Writer w, String value, boolean comma) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            String v = value;
+            char first = v.charAt(0);
+            if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+                v = "'" + v;
+            }
+            if (v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0 || v.indexOf('\r') >= 0) {
+                w.write('"');
+                w.write(v.replace("\"", "\"\""));
+                w.write('"');
+            } else {
+                w.write(v);
+            }
+        }
+        if (comma) {
+            w.write(',');
+        }
+    }
+}
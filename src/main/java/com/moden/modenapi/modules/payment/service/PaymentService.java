@@ -1,27 +1,40 @@
 package com.moden.modenapi.modules.payment.service;
 
 import com.moden.modenapi.common.enums.CouponStatus;
+import com.moden.modenapi.common.enums.OutboxEventType;
+import com.moden.modenapi.common.enums.PaymentLineType;
+import com.moden.modenapi.common.enums.PaymentMethod;
 import com.moden.modenapi.common.enums.PaymentStatus;
 import com.moden.modenapi.common.enums.PointType;
 import com.moden.modenapi.common.service.BaseService;
+import com.moden.modenapi.common.service.OutboxService;
 import com.moden.modenapi.modules.coupon.model.Coupon;
 import com.moden.modenapi.modules.coupon.model.CustomerCoupon;
 import com.moden.modenapi.modules.coupon.repository.CouponRepository;
 import com.moden.modenapi.modules.coupon.repository.CustomerCouponRepository;
+import com.moden.modenapi.modules.coupon.service.CustomerCouponCountCache;
 import com.moden.modenapi.modules.payment.dto.*;
+import com.moden.modenapi.modules.payment.event.PaymentConfirmedEvent;
+import com.moden.modenapi.modules.payment.event.PaymentConfirmedMessage;
 import com.moden.modenapi.modules.payment.model.Payment;
+import com.moden.modenapi.modules.payment.model.PaymentLine;
+import com.moden.modenapi.modules.payment.repository.PaymentLineRepository;
 import com.moden.modenapi.modules.payment.repository.PaymentRepository;
+import com.moden.modenapi.modules.payment.repository.SalesDailyRollupRepository;
 import com.moden.modenapi.modules.point.model.Point;
 import com.moden.modenapi.modules.point.repository.PointRepository;
-import com.moden.modenapi.modules.product.model.StudioProduct;
-import com.moden.modenapi.modules.product.repository.StudioProductRepository;
+import com.moden.modenapi.modules.point.service.PointBalanceService;
 import com.moden.modenapi.modules.reservation.model.Reservation;
 import com.moden.modenapi.modules.reservation.repository.ReservationRepository;
 import com.moden.modenapi.modules.studio.model.HairStudioDetail;
 import com.moden.modenapi.modules.studio.repository.HairStudioDetailRepository;
 import com.moden.modenapi.modules.studioservice.model.StudioService;
-import com.moden.modenapi.modules.studioservice.repository.StudioServiceRepository;
+import com.moden.modenapi.modules.studioservice.service.StudioPriceTable;
+import com.moden.modenapi.modules.studioservice.service.StudioPriceTableCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -48,13 +61,19 @@ import static org.springframework.security.authorization.AuthorityAuthorizationM
 public class PaymentService extends BaseService<Payment> {
 
     private final PaymentRepository paymentRepository;
+    private final PaymentLineRepository paymentLineRepository;
+    private final StudioPriceTableCache priceTableCache;
     private final ReservationRepository reservationRepository;
-    private final StudioServiceRepository studioServiceRepository;
     private final PointRepository pointRepository;
+    private final PointBalanceService pointBalanceService;
     private final CouponRepository couponRepository;
     private final CustomerCouponRepository customerCouponRepository;
-    private final StudioProductRepository studioProductRepository;
+    private final CustomerCouponCountCache couponCountCache;
     private final HairStudioDetailRepository studioDetailRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final SalesRollupService salesRollupService;
 
 
 
@@ -69,15 +88,15 @@ public class PaymentService extends BaseService<Payment> {
 
     /**
      * Reservation 생성 직후, UNPAID(PENDING) Payment 생성.
-     * totalAmount 파라미터는 현재는 참고용(double),
+     * totalAmount 파라미터는 현재는 참고용,
      * 실제 서비스 가격은 reservation.serviceIds 기반으로 다시 계산.
      */
-    public void createUnpaidPaymentForReservation(Reservation reservation, double totalAmount) {
+    public void createUnpaidPaymentForReservation(Reservation reservation, Money totalAmount) {
 
         List<UUID> serviceIds = reservation.getServiceIds();
         if (serviceIds == null || serviceIds.isEmpty()) {
             // 서비스가 전혀 없는 예약이라면 넘어온 totalAmount 로만 생성
-            BigDecimal serviceTotal = BigDecimal.valueOf(totalAmount);
+            BigDecimal serviceTotal = totalAmount.toBigDecimal();
 
             Payment payment = Payment.builder()
                     .reservationId(reservation.getId())
@@ -92,12 +111,10 @@ public class PaymentService extends BaseService<Payment> {
             return;
         }
 
-        // 여러 서비스 가격 합산
-        List<StudioService> services = studioServiceRepository.findAllById(serviceIds);
-        BigDecimal serviceTotal = services.stream()
-                .map(StudioService::getServicePrice)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 여러 서비스 가격 합산 (스튜디오 가격표 캐시)
+        BigDecimal serviceTotal = StudioPriceTable.totalPrice(
+                priceTableCache.get(reservation.getStudioId()).servicesOf(serviceIds)
+        ).toBigDecimal();
 
         Payment payment = Payment.builder()
                 .reservationId(reservation.getId())
@@ -111,6 +128,31 @@ public class PaymentService extends BaseService<Payment> {
         paymentRepository.save(payment);
     }
 
+    /**
+     * 정기 예약처럼 같은 서비스 구성의 예약 여러 건에 대해 UNPAID Payment 일괄 생성.
+     * 서비스 가격은 이미 조회된 services 로 한 번만 합산하고 saveAll 로 batch insert.
+     */
+    public void createUnpaidPaymentsForReservations(List<Reservation> reservations, List<StudioService> services) {
+        Money sum = Money.ZERO;
+        for (StudioService s : services) {
+            sum = sum.plus(Money.of(s.getServicePrice()));
+        }
+        BigDecimal serviceTotal = sum.toBigDecimal();
+
+        List<Payment> payments = reservations.stream()
+                .map(r -> Payment.builder()
+                        .reservationId(r.getId())
+                        .paymentStatus(PaymentStatus.PENDING)
+                        .serviceTotal(serviceTotal)
+                        .productTotal(BigDecimal.ZERO)
+                        .pointsUsed(BigDecimal.ZERO)
+                        .totalAmount(serviceTotal)
+                        .build())
+                .toList();
+
+        paymentRepository.saveAll(payments);
+    }
+
     // ------------------------------ //
     // 2) 예약 기준 결제 조회 (payment detail)
     // ------------------------------ //
@@ -142,6 +184,14 @@ public class PaymentService extends BaseService<Payment> {
                         "해당 결제 정보를 찾을 수 없습니다. paymentId=" + paymentId
                 ));
 
+        // 정산(DesignerSettlement)에 포함된 결제는 금액을 바꿀 수 없음
+        if (payment.getSettledPeriod() != null) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "이미 정산된 결제입니다. (정산 기간: " + payment.getSettledPeriod() + ")"
+            );
+        }
+
         // 2) 예약 조회
         UUID reservationId = payment.getReservationId();
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -152,6 +202,13 @@ public class PaymentService extends BaseService<Payment> {
 
         UUID customerId = reservation.getCustomerId();
 
+        // 재확정이면 이전 매출 집계 값을 빼기 위해 보관
+        boolean wasPaid              = payment.getPaymentStatus() == PaymentStatus.PAID;
+        PaymentMethod prevMethod     = payment.getPaymentMethod();
+        BigDecimal prevTotalAmount   = payment.getTotalAmount();
+        BigDecimal prevTipAmount     = payment.getDesignerTipAmount();
+        Instant prevPaidAt           = (payment.getPaidAt() != null) ? payment.getPaidAt() : payment.getCreatedAt();
+
         // 3) 서비스 금액 조회 (여러 서비스)
         List<UUID> serviceIds = reservation.getServiceIds();
         if (serviceIds == null || serviceIds.isEmpty()) {
@@ -161,7 +218,8 @@ public class PaymentService extends BaseService<Payment> {
             );
         }
 
-        List<StudioService> services = studioServiceRepository.findAllById(serviceIds);
+        StudioPriceTable priceTable = priceTableCache.get(reservation.getStudioId());
+        List<StudioPriceTable.ServicePrice> services = priceTable.servicesOf(serviceIds);
         if (services.isEmpty()) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
@@ -169,30 +227,21 @@ public class PaymentService extends BaseService<Payment> {
             );
         }
 
-        BigDecimal servicePrice = services.stream()
-                .map(StudioService::getServicePrice)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 금액 계산은 Money (long, 0.01 단위) 로, 저장 / 응답 시에만 BigDecimal 로 변환
+        Money servicePrice = StudioPriceTable.totalPrice(services);
 
         // 3-B) 상품 목록 기반 productTotal / productTip 계산
         List<PaymentProductLineReq> productLines =
                 Optional.ofNullable(req.products()).orElse(List.of());
 
-        BigDecimal productTotal = BigDecimal.ZERO;
-        BigDecimal productTip   = BigDecimal.ZERO;
+        Money productTotal = Money.ZERO;
+        Money productTip   = Money.ZERO;
         List<UUID> productIdsForPayment = new ArrayList<>();
+        List<PaymentLine> productPaymentLines = new ArrayList<>();
 
         if (!productLines.isEmpty()) {
-            List<UUID> productIds = productLines.stream()
-                    .map(PaymentProductLineReq::productId)
-                    .toList();
-
-            List<StudioProduct> products = studioProductRepository.findAllById(productIds);
-            Map<UUID, StudioProduct> productMap = products.stream()
-                    .collect(Collectors.toMap(StudioProduct::getId, p -> p));
-
             for (PaymentProductLineReq line : productLines) {
-                StudioProduct product = productMap.get(line.productId());
+                StudioPriceTable.ProductPrice product = priceTable.product(line.productId());
                 if (product == null) {
                     throw new ResponseStatusException(
                             HttpStatus.BAD_REQUEST,
@@ -205,36 +254,50 @@ public class PaymentService extends BaseService<Payment> {
 
                 productIdsForPayment.add(line.productId());
 
-                BigDecimal qty   = BigDecimal.valueOf(qtyInt);
-                BigDecimal price = defaultZero(product.getPrice());
-                BigDecimal lineTotal = price.multiply(qty);
+                Money price = product.price();
+                Money lineTotal = price.times(qtyInt);
 
-                productTotal = productTotal.add(lineTotal);
+                productTotal = productTotal.plus(lineTotal);
 
-                BigDecimal tipPercent = defaultZero(product.getDesignerTipPercent());
-                if (tipPercent.compareTo(BigDecimal.ZERO) > 0) {
-                    BigDecimal lineTip = lineTotal
-                            .multiply(tipPercent)
-                            .divide(BigDecimal.valueOf(100), 0, RoundingMode.FLOOR);
-                    productTip = productTip.add(lineTip);
+                Money lineTip = Money.ZERO;
+                if (product.tipPercentBp() > 0) {
+                    lineTip = PaymentCalculator.percentOf(lineTotal, product.tipPercentBp());
+                    productTip = productTip.plus(lineTip);
                 }
+
+                productPaymentLines.add(PaymentLine.builder()
+                        .lineType(PaymentLineType.PRODUCT)
+                        .itemId(product.id())
+                        .itemName(product.name())
+                        .unitPrice(price.toBigDecimal())
+                        .quantity(qtyInt)
+                        .lineTotal(lineTotal.toBigDecimal())
+                        .tipPercent(product.tipPercent())
+                        .tipAmount(lineTip.toBigDecimal())
+                        .build());
             }
         }
 
         // 서비스 + 제품 = 기본 합계
-        BigDecimal subTotal = servicePrice.add(productTotal);
+        Money subTotal = servicePrice.plus(productTotal);
 
-        // 4) 현재 활성 포인트 계산
-        BigDecimal activePoint = calcActivePoint(customerId);
-        BigDecimal pointsToUse = defaultZero(req.pointsToUse());
+        // 4) 현재 활성 포인트 (point_balance row)
+        BigDecimal activePoint = pointBalanceService.getBalance(customerId);
+        if (!Money.isRepresentable(req.pointsToUse())) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "사용 포인트는 소수 둘째 자리까지만 입력할 수 있습니다."
+            );
+        }
+        Money pointsToUse = Money.of(req.pointsToUse());
 
-        if (pointsToUse.compareTo(BigDecimal.ZERO) < 0) {
+        if (pointsToUse.isNegative()) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "사용 포인트는 음수가 될 수 없습니다."
             );
         }
-        if (pointsToUse.compareTo(activePoint) > 0) {
+        if (pointsToUse.isGreaterThan(Money.of(activePoint))) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "보유 포인트가 부족합니다. (보유: " + activePoint + ", 요청: " + pointsToUse + ")"
@@ -242,13 +305,10 @@ public class PaymentService extends BaseService<Payment> {
         }
 
         // 포인트 차감 후 금액
-        BigDecimal afterPoint = subTotal.subtract(pointsToUse);
-        if (afterPoint.compareTo(BigDecimal.ZERO) < 0) {
-            afterPoint = BigDecimal.ZERO;
-        }
+        Money afterPoint = subTotal.minus(pointsToUse).atLeastZero();
 
         // 5) 쿠폰 할인 계산 (service + product 기준)
-        BigDecimal couponDiscount = BigDecimal.ZERO;
+        Money couponDiscount = Money.ZERO;
         UUID couponId = req.couponId();
 
         if (couponId != null) {
@@ -261,114 +321,129 @@ public class PaymentService extends BaseService<Payment> {
             validateCouponForCustomer(coupon, customerId);
 
             // 기준: 서비스 + 제품 (포인트 적용 전)
-            BigDecimal base = subTotal;
+            Money base = subTotal;
             couponDiscount = computeCouponDiscount(base, coupon);
 
-            coupon.setStatus(CouponStatus.USED);
-            coupon.setUsedDate(LocalDate.now(ZoneId.of("Asia/Tashkent")));
-            couponRepository.save(coupon);
+            redeemCoupon(couponId, customerId);
         }
 
         // 6) 최종 지불 금액
-        BigDecimal finalAmount = afterPoint.subtract(couponDiscount);
-        if (finalAmount.compareTo(BigDecimal.ZERO) < 0) {
-            finalAmount = BigDecimal.ZERO;
-        }
-
-        // 7-A) 서비스 Tip
-        BigDecimal serviceTip = services.stream()
-                .map(s -> {
-                    BigDecimal price   = defaultZero(s.getServicePrice());
-                    BigDecimal percent = defaultZero(s.getDesignerTipPercent());
-
-                    if (price.compareTo(BigDecimal.ZERO) <= 0 ||
-                            percent.compareTo(BigDecimal.ZERO) <= 0) {
-                        return BigDecimal.ZERO;
-                    }
-
-                    return price
-                            .multiply(percent)
-                            .divide(BigDecimal.valueOf(100), 0, RoundingMode.FLOOR);
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money finalAmount = afterPoint.minus(couponDiscount).atLeastZero();
+
+        // 7-A) 서비스 Tip (가격표에 미리 계산된 값, 서비스별 내역도 같이 만든다)
+        List<PaymentLine> paymentLines = new ArrayList<>();
+        Money serviceTip = StudioPriceTable.totalTip(services);
+        for (StudioPriceTable.ServicePrice s : services) {
+            BigDecimal price = s.price().toBigDecimal();
+            paymentLines.add(PaymentLine.builder()
+                    .lineType(PaymentLineType.SERVICE)
+                    .itemId(s.id())
+                    .itemName(s.name())
+                    .unitPrice(price)
+                    .quantity(1)
+                    .lineTotal(price)
+                    .tipPercent(s.tipPercent())
+                    .tipAmount(s.tip().toBigDecimal())
+                    .build());
+        }
+        paymentLines.addAll(productPaymentLines);
 
         // 7-B) 최종 디자이너 Tip = 서비스 Tip + 상품 Tip
-        BigDecimal designerTip = serviceTip.add(productTip);
+        Money designerTip = serviceTip.plus(productTip);
 
         // 8) Payment 갱신
-        payment.setServiceTotal(servicePrice);
-        payment.setProductTotal(productTotal);
-        payment.setPointsUsed(pointsToUse);
-        payment.setTotalAmount(finalAmount);
+        payment.setServiceTotal(servicePrice.toBigDecimal());
+        payment.setProductTotal(productTotal.toBigDecimal());
+        payment.setPointsUsed(pointsToUse.toBigDecimal());
+        payment.setTotalAmount(finalAmount.toBigDecimal());
         payment.setPaymentMethod(req.paymentMethod());
         payment.setPaymentStatus(PaymentStatus.PAID);
+        payment.setPaidAt(Instant.now());
         payment.setCouponId(couponId);
-        payment.setDesignerTipAmount(designerTip);
+        payment.setDesignerTipAmount(designerTip.toBigDecimal());
+        payment.setCouponDiscount(couponDiscount.toBigDecimal());
+        payment.setServiceTipAmount(serviceTip.toBigDecimal());
+        payment.setProductTipAmount(productTip.toBigDecimal());
         payment.setProductIds(productIdsForPayment);
 
         Payment saved = paymentRepository.save(payment);
 
+        // 8-0) 항목 내역 저장 (재확정이면 교체)
+        paymentLineRepository.deleteByPaymentId(saved.getId());
+        for (int i = 0; i < paymentLines.size(); i++) {
+            PaymentLine line = paymentLines.get(i);
+            line.setPaymentId(saved.getId());
+            line.setLineNo(i + 1);
+        }
+        List<PaymentLine> savedLines = paymentLineRepository.saveAll(paymentLines);
+
+        // 8-1) 후속 처리 (매출 집계, 포인트 적립) 는 outbox 로 — 같은 트랜잭션에 기록, 커밋 후 relay 가 전달
+        outboxService.append(OutboxEventType.PAYMENT_CONFIRMED, saved.getId(), new PaymentConfirmedMessage(
+                saved.getId(),
+                reservation.getId(),
+                reservation.getStudioId(),
+                reservation.getDesignerId(),
+                customerId,
+                saved.getPaymentMethod(),
+                saved.getTotalAmount(),
+                saved.getDesignerTipAmount(),
+                saved.getPaidAt(),
+                wasPaid,
+                prevMethod,
+                prevTotalAmount,
+                prevTipAmount,
+                prevPaidAt
+        ));
+
         // 9) 포인트 USE 기록
-        if (pointsToUse.compareTo(BigDecimal.ZERO) > 0) {
+        if (pointsToUse.isPositive()) {
+            pointBalanceService.ensureRow(customerId);   // 원장 합계는 USED INSERT 전에
             Point usePoint = Point.builder()
                     .userId(customerId)
                     .paymentId(saved.getId())
                     .type(PointType.USED)
-                    .amount(pointsToUse)
+                    .amount(pointsToUse.toBigDecimal())
                     .title("헤어샵 결제 포인트 사용")
                     .build();
             pointRepository.save(usePoint);
+
+            // 동시 결제로 같은 잔액을 두 번 쓰지 않도록 조건부 차감 (부족하면 400 → 롤백)
+            pointBalanceService.debit(customerId, pointsToUse.toBigDecimal());
         }
 
-        return toDto(saved);
+        // 10) 대시보드 실시간 갱신 (커밋 이후 push)
+        eventPublisher.publishEvent(new PaymentConfirmedEvent(
+                saved.getId(),
+                reservation.getId(),
+                reservation.getStudioId(),
+                reservation.getDesignerId(),
+                customerId,
+                reservation.getReservationDate(),
+                saved.getTotalAmount(),
+                saved.getPaymentStatus()
+        ));
+
+        return toDto(saved, savedLines, Map.of());   // 방금 coupon_discount 저장됨
     }
-    private BigDecimal calcCouponDiscountFromPayment(Payment p) {
-        UUID couponId = p.getCouponId();
-        if (couponId == null) {
-            return BigDecimal.ZERO;
-        }
 
-        Coupon coupon = couponRepository.findById(couponId).orElse(null);
+    /** 이 변경 이전에 확정된 결제건 (coupon_discount 없음) 용 — coupon 은 호출 측에서 조회 (목록은 한 번에) */
+    private BigDecimal calcCouponDiscountFromPayment(Payment p, Coupon coupon) {
         if (coupon == null) {
             return BigDecimal.ZERO;
         }
 
         // ✅ 기준: 서비스 + 제품 (포인트는 빼지 않음)
-        BigDecimal base = defaultZero(p.getServiceTotal())
-                .add(defaultZero(p.getProductTotal()));
+        Money base = Money.of(p.getServiceTotal())
+                .plus(Money.of(p.getProductTotal()))
+                .atLeastZero();
 
-        if (base.compareTo(BigDecimal.ZERO) < 0) {
-            base = BigDecimal.ZERO;
-        }
-
-        return computeCouponDiscount(base, coupon);
+        return computeCouponDiscount(base, coupon).toBigDecimal();
     }
 
     // ------------------------------ //
     // 내부 유틸 메서드
     // ------------------------------ //
 
-    private BigDecimal defaultZero(BigDecimal v) {
-        return v == null ? BigDecimal.ZERO : v;
-    }
-
-    /** 현재 유저의 활성 포인트 (EARN - USE) */
-    private BigDecimal calcActivePoint(UUID userId) {
-        List<Point> list = pointRepository.findByUserId(userId);
-
-        return list.stream()
-                .map(p -> {
-                    if (p.getType() == PointType.EARNED) {
-                        return p.getAmount();
-                    } else if (p.getType() == PointType.USED) {
-                        return p.getAmount().negate();
-                    } else {
-                        return BigDecimal.ZERO;
-                    }
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
     /**
      * 쿠폰이 "사용 가능한 상태인지" 간단히 검증
      *  - 상태: AVAILABLE
@@ -450,49 +525,91 @@ public class PaymentService extends BaseService<Payment> {
 
         validateCustomerCanUseCoupon(cc, coupon, currentCustomerId);
 
-        coupon.setStatus(CouponStatus.USED);
-        coupon.setUsedDate(LocalDate.now(ZoneId.of("Asia/Tashkent")));
-        couponRepository.save(coupon);
+        redeemCoupon(coupon.getId(), cc.getCustomerId());
+    }
+
+    /**
+     * 쿠폰 사용 확정 (조건부 UPDATE).
+     * 위의 validate 는 에러 메시지용이고, 실제 판정은 UPDATE 의 WHERE 조건.
+     * 동시에 같은 쿠폰으로 결제하면 한쪽만 1 row → 나머지는 409 (트랜잭션 롤백).
+     * 개수 캐시는 결제한 고객만 무효화 (같은 쿠폰의 다른 보유자는 TTL 로 반영).
+     */
+    private void redeemCoupon(UUID couponId, UUID customerId) {
+        int updated = couponRepository.redeemIfAvailable(
+                couponId,
+                LocalDate.now(ZoneId.of("Asia/Tashkent")),
+                Instant.now()
+        );
+        if (updated == 0) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "이미 사용되었거나 사용할 수 없는 쿠폰입니다."
+            );
+        }
+        couponCountCache.invalidate(customerId);
     }
 
     /**
      * 쿠폰 할인 계산 (정율 + 정액 모두 적용)
      * base: 포인트 적용 후 금액
      */
-    private BigDecimal computeCouponDiscount(BigDecimal base, Coupon coupon) {
-        if (coupon == null || base == null || base.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.ZERO;
+    private Money computeCouponDiscount(Money base, Coupon coupon) {
+        if (coupon == null) {
+            return Money.ZERO;
         }
+        return PaymentCalculator.couponDiscount(
+                base,
+                PaymentCalculator.basisPoints(coupon.getDiscountRate()),
+                Money.of(coupon.getDiscountAmount())
+        );
+    }
 
-        BigDecimal rateDiscount = BigDecimal.ZERO;
-        BigDecimal amountDiscount = BigDecimal.ZERO;
-
-        if (coupon.getDiscountRate() != null) {
-            rateDiscount = base
-                    .multiply(coupon.getDiscountRate())
-                    .divide(BigDecimal.valueOf(100), 0, RoundingMode.FLOOR);
-        }
+    // 🔹 Payment → PaymentRes (저장된 내역 그대로, coupon_discount 가 없는 이전 결제건만 쿠폰 조회)
+    private PaymentRes toDto(Payment p) {
+        Map<UUID, Coupon> coupons = needsCouponLookup(p)
+                ? couponRepository.findById(p.getCouponId()).map(c -> Map.of(c.getId(), c)).orElse(Map.of())
+                : Map.of();
+        return toDto(p, paymentLineRepository.findAllByPaymentIdOrderByLineNoAsc(p.getId()), coupons);
+    }
 
-        if (coupon.getDiscountAmount() != null) {
-            amountDiscount = coupon.getDiscountAmount();
+    private List<PaymentRes> toDtos(List<Payment> payments) {
+        if (payments.isEmpty()) {
+            return List.of();
         }
+        Map<UUID, List<PaymentLine>> linesByPayment = paymentLineRepository
+                .findAllByPaymentIdInOrderByPaymentIdAscLineNoAsc(
+                        payments.stream().map(Payment::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(PaymentLine::getPaymentId));
+
+        // coupon_discount 가 없는 이전 결제건의 쿠폰 (IN 1 query)
+        List<UUID> couponIds = payments.stream()
+                .filter(PaymentService::needsCouponLookup)
+                .map(Payment::getCouponId)
+                .distinct()
+                .toList();
+        Map<UUID, Coupon> coupons = couponIds.isEmpty()
+                ? Map.of()
+                : couponRepository.findAllById(couponIds).stream()
+                        .collect(Collectors.toMap(Coupon::getId, c -> c));
 
-        BigDecimal totalDiscount = rateDiscount.add(amountDiscount);
-
-        if (totalDiscount.compareTo(base) > 0) {
-            totalDiscount = base;
-        }
-        if (totalDiscount.compareTo(BigDecimal.ZERO) < 0) {
-            totalDiscount = BigDecimal.ZERO;
-        }
+        return payments.stream()
+                .map(p -> toDto(p, linesByPayment.getOrDefault(p.getId(), List.of()), coupons))
+                .toList();
+    }
 
-        return totalDiscount;
+    private static boolean needsCouponLookup(Payment p) {
+        return p.getCouponDiscount() == null && p.getCouponId() != null;
     }
 
-    // 🔹 Payment → PaymentRes 변환 시 couponDiscount 는 couponId 기반으로 다시 계산
-    private PaymentRes toDto(Payment p) {
+    private PaymentRes toDto(Payment p, List<PaymentLine> lines, Map<UUID, Coupon> coupons) {
 
-        BigDecimal couponDiscount = calcCouponDiscountFromPayment(p);
+        BigDecimal couponDiscount = p.getCouponDiscount();
+        if (couponDiscount == null) {
+            couponDiscount = (p.getCouponId() == null)
+                    ? BigDecimal.ZERO
+                    : calcCouponDiscountFromPayment(p, coupons.get(p.getCouponId()));
+        }
 
         return new PaymentRes(
                 p.getId(),
@@ -505,11 +622,27 @@ public class PaymentService extends BaseService<Payment> {
                 p.getPointsUsed(),
                 p.getTotalAmount(),
                 p.getDesignerTipAmount(),
+                p.getServiceTipAmount(),
+                p.getProductTipAmount(),
+                lines.stream().map(this::toLineRes).toList(),
                 p.getCreatedAt(),
                 p.getUpdatedAt()
         );
     }
 
+    private PaymentLineRes toLineRes(PaymentLine l) {
+        return new PaymentLineRes(
+                l.getLineType(),
+                l.getItemId(),
+                l.getItemName(),
+                l.getUnitPrice(),
+                l.getQuantity(),
+                l.getLineTotal(),
+                l.getTipPercent(),
+                l.getTipAmount()
+        );
+    }
+
     // ------------------------------
     // Payment list / summary 부분
     // ------------------------------
@@ -536,9 +669,7 @@ public class PaymentService extends BaseService<Payment> {
 
         // 단순 DTO 변환 (serviceName 필터는 여기서도 in-memory로 가능하지만
         // 지금은 getStudioPaymentList / getDesignerPaymentList 에서 처리)
-        return list.stream()
-                .map(this::toDto)
-                .toList();
+        return toDtos(list);
     }
 
     @Transactional(readOnly = true)
@@ -551,74 +682,35 @@ public class PaymentService extends BaseService<Payment> {
         LocalDate fromDate = (from != null) ? from.toLocalDate() : null;
         LocalDate toDate   = (to != null)   ? to.toLocalDate()   : null;
 
-        List<Payment> payments = paymentRepository.searchPayments(
-                studioId,
-                designerId,
-                PaymentStatus.PAID,
-                fromDate,
-                toDate
-        );
-
-        Map<UUID, BigDecimal> tipMap = new HashMap<>();
-
-        for (Payment p : payments) {
-            Reservation r = reservationRepository.findById(p.getReservationId())
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "Payment에 연결된 예약을 찾을 수 없습니다. paymentId=" + p.getId()
-                    ));
-
-            UUID dId = r.getDesignerId();
-            BigDecimal tip = defaultZero(p.getDesignerTipAmount());
-            tipMap.merge(dId, tip, BigDecimal::add);
-        }
-
-        return tipMap.entrySet().stream()
-                .map(e -> new DesignerTipSummaryRes(
-                        e.getKey(),
-                        e.getValue(),
-                        e.getValue()
-                ))
+        // sales_daily_rollup 의 일 단위 row 만 합산 (payment 스캔 없음), 과거 결제 백필 전에는 payment 에서 직접
+        List<Object[]> rows = salesRollupService.isHistoryReady()
+                ? salesDailyRollupRepository.sumTipByDesigner(studioId, designerId, fromDate, toDate)
+                : paymentRepository.sumTipByDesignerLive(
+                        studioId,
+                        designerId,
+                        PaymentStatus.PAID,
+                        fromDate == null ? null : fromDate.atStartOfDay(SalesRollupService.SALES_ZONE).toInstant(),
+                        toDate == null ? null : toDate.plusDays(1).atStartOfDay(SalesRollupService.SALES_ZONE).toInstant()
+                );
+        return rows
+                .stream()
+                .map(row -> {
+                    BigDecimal tip = toBigDecimal(row[1]);
+                    return new DesignerTipSummaryRes((UUID) row[0], tip, tip);
+                })
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public TodaySalesSummaryRes getTodaySummary(UUID userId) {
-
-        LocalDate today = LocalDate.now();
-        ZoneId zone = ZoneId.systemDefault();
-
-        Instant start = today.atStartOfDay(zone).toInstant();
-        Instant end   = today.plusDays(1).atStartOfDay(zone).toInstant();
-
-        List<Object[]> rows = paymentRepository.aggregateSalesForPeriod(
-                userId,
-                PaymentStatus.PAID,
-                start,
-                end
-        );
-
-        Object[] row;
-        if (rows == null || rows.isEmpty()) {
-            row = new Object[]{null, 0L, null};
-        } else {
-            row = rows.get(0);
-        }
-
-        BigDecimal totalSales = toBigDecimal(row[0]);
-        long paymentCount = (row[1] == null) ? 0L : ((Number) row[1]).longValue();
-
-        BigDecimal averageAmount = BigDecimal.ZERO;
-        if (paymentCount > 0) {
-            averageAmount = toBigDecimal(row[2]);
-            averageAmount = averageAmount.setScale(0, RoundingMode.HALF_UP);
-        }
+        LocalDate today = LocalDate.now(SalesRollupService.SALES_ZONE);
+        SalesSummaryRes summary = summarizeRollup(userId, today, today);
 
         return new TodaySalesSummaryRes(
                 today,
-                totalSales,
-                paymentCount,
-                averageAmount
+                summary.totalSales(),
+                summary.paymentCount(),
+                summary.averageAmount()
         );
     }
 
@@ -673,45 +765,22 @@ public class PaymentService extends BaseService<Payment> {
         LocalDate fromDate = (from != null) ? from.toLocalDate() : null;
         LocalDate toDate   = (to   != null) ? to.toLocalDate()   : null;
 
-        // ---- 3) DB 검색 ----
-        List<Payment> payments = paymentRepository.searchPayments(
+        // ---- 3) DB 검색 (필터 + 정렬 + 페이징 + count) ----
+        Page<PaymentListRow> rows = paymentRepository.searchPaymentList(
                 studioId,
                 designerId,
                 status,
                 fromDate,
-                toDate
+                toDate,
+                toLikeKeyword(serviceName),
+                PageRequest.of(pageIndex, safeSize)
         );
 
-        // ---- 4) Payment + Reservation → DTO 매핑 ----
-        List<PaymentListItemRes> all = payments.stream()
-                .map(p -> {
-                    Reservation r = reservationRepository.findById(p.getReservationId())
-                            .orElseThrow(() -> new ResponseStatusException(
-                                    HttpStatus.NOT_FOUND,
-                                    "Payment에 연결된 예약을 찾을 수 없습니다. paymentId=" + p.getId()
-                            ));
-
-                    String serviceNames = buildServiceNames(r);
-                    return toListItemDto(p, r, serviceNames);
-                })
-                .toList();
+        // ---- 4) 현재 페이지 예약들의 서비스 이름 (1 query) → DTO ----
+        List<PaymentListItemRes> pageItems = toListItemDtos(rows.getContent());
+        long totalCount = rows.getTotalElements();
 
-        // ---- 5) serviceName in-memory filter ----
-        if (serviceName != null && !serviceName.isBlank()) {
-            String keyword = serviceName.trim();
-            all = all.stream()
-                    .filter(item -> item.serviceName() != null
-                            && item.serviceName().contains(keyword))
-                    .toList();
-        }
-
-        // ---- 6) 전체 개수 ----
-        long totalCount = all.size();
-
-        // ---- 7) 인메모리 pagination ----
-        List<PaymentListItemRes> pageItems = paginate(all, pageIndex, safeSize);
-
-        // ---- 8) Page DTO 로 감싸서 리턴 ----
+        // ---- 5) Page DTO 로 감싸서 리턴 ----
         return new PaymentListPageRes(
                 totalCount,
                 safeSize,
@@ -720,36 +789,54 @@ public class PaymentService extends BaseService<Payment> {
         );
     }
 
-    /**
-     * 0-based pageIndex, size 개수만큼 잘라주는 인메모리 pagination 헬퍼
-     */
-    private <T> List<T> paginate(List<T> list, int pageIndex, int size) {
-        if (list == null || list.isEmpty()) {
-            return List.of();
-        }
-        if (size <= 0) size = 10;
-        if (pageIndex < 0) pageIndex = 0;
-
-        int fromIndex = pageIndex * size;
-        if (fromIndex >= list.size()) {
-            return List.of();
-        }
 
-        int toIndex = Math.min(fromIndex + size, list.size());
-        return list.subList(fromIndex, toIndex);
+    @Transactional(readOnly = true)
+    public TodaySalesSummaryRes getTodaySummaryForCurrentUser(UUID userId) {
+        return getTodaySummary(resolveSalesKeyId(userId));
     }
 
-
+    /**
+     * 기간 매출 요약 (주 / 월 / 임의 기간) — 현재 로그인한 스튜디오 또는 디자이너 기준.
+     */
     @Transactional(readOnly = true)
-    public TodaySalesSummaryRes getTodaySummaryForCurrentUser(UUID userId) {
+    public SalesSummaryRes getSalesSummaryForCurrentUser(UUID userId, LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null || toDate == null || fromDate.isAfter(toDate)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "조회 기간이 올바르지 않습니다. (fromDate <= toDate)"
+            );
+        }
+        return summarizeRollup(resolveSalesKeyId(userId), fromDate, toDate);
+    }
 
+    private SalesSummaryRes summarizeRollup(UUID keyId, LocalDate fromDate, LocalDate toDate) {
+        // 과거 결제 백필 전에는 rollup 에 빠진 일자가 있으므로 payment 에서 직접 (결과 형식 동일)
+        List<Object[]> rows = salesRollupService.isHistoryReady()
+                ? salesDailyRollupRepository.sumForRange(keyId, fromDate, toDate)
+                : paymentRepository.sumSalesLive(
+                        keyId,
+                        PaymentStatus.PAID,
+                        fromDate.atStartOfDay(SalesRollupService.SALES_ZONE).toInstant(),
+                        toDate.plusDays(1).atStartOfDay(SalesRollupService.SALES_ZONE).toInstant()
+                );
+        Object[] row = (rows == null || rows.isEmpty()) ? new Object[]{0L, null, null} : rows.get(0);
+
+        long paymentCount     = (row[0] == null) ? 0L : ((Number) row[0]).longValue();
+        BigDecimal totalSales = toBigDecimal(row[1]);
+        BigDecimal totalTip   = toBigDecimal(row[2]);
 
-        LocalDate today = LocalDate.now();
-        ZoneId zone = ZoneId.systemDefault();
+        BigDecimal averageAmount = BigDecimal.ZERO;
+        if (paymentCount > 0) {
+            averageAmount = totalSales.divide(BigDecimal.valueOf(paymentCount), 0, RoundingMode.HALF_UP);
+        }
 
-        Instant start = today.atStartOfDay(zone).toInstant();
-        Instant end   = today.plusDays(1).atStartOfDay(zone).toInstant();
+        return new SalesSummaryRes(fromDate, toDate, totalSales, paymentCount, averageAmount, totalTip);
+    }
 
+    /**
+     * 매출 집계 key: 스튜디오 계정이면 studioId(= studio userId), 디자이너면 designer userId.
+     */
+    private UUID resolveSalesKeyId(UUID userId) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
         boolean isStudioOwner = auth.getAuthorities().stream()
@@ -757,11 +844,7 @@ public class PaymentService extends BaseService<Payment> {
         boolean isDesigner = auth.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_DESIGNER"));
 
-        UUID keyId;
-
         if (isStudioOwner) {
-            // 1) userId = studio owner userId deb qabul qilamiz
-            // ownerUserId bo‘yicha studio entitini topamiz
             HairStudioDetail studio = studioDetailRepository
                     .findByOwnerUserId(userId)
                     .orElseThrow(() -> new ResponseStatusException(
@@ -769,53 +852,16 @@ public class PaymentService extends BaseService<Payment> {
                             "Studio not found for current owner"
                     ));
 
-            // ⚠ MUHIM:
-            // Reservation.studioId ga aynan nima saqlaganingga qarab tanlaysan:
-            // Agar studioId = HairStudioDetail.id bo‘lsa:
-            //   keyId = studio.getId();
-            // Agar studioId = ownerUserId bo‘lsa:
-            //   keyId = userId;
-
-            keyId = studio.getUserId();   // yoki keyId = userId; (schema'ingga moslab tanla)
-
-        } else if (isDesigner) {
-            // Designer bo‘lsa, Reservation.designerId = designer userId deb qabul qilamiz
-            keyId = userId;
-        } else {
-            throw new ResponseStatusException(
-                    HttpStatus.FORBIDDEN,
-                    "오늘 매출 요약은 스튜디오 또는 디자이너만 조회할 수 있습니다."
-            );
+            // Reservation.studioId = studio owner userId
+            return studio.getUserId();
         }
-
-
-        List<Object[]> rows = paymentRepository.aggregateSalesForPeriod(
-                keyId,
-                PaymentStatus.PAID,
-                start,
-                end
-        );
-
-        Object[] row;
-        if (rows == null || rows.isEmpty()) {
-            row = new Object[]{null, 0L, null};
-        } else {
-            row = rows.get(0);
-        }
-
-        BigDecimal totalSales = toBigDecimal(row[0]);
-        long paymentCount = (row[1] == null) ? 0L : ((Number) row[1]).longValue();
-
-        BigDecimal averageAmount = BigDecimal.ZERO;
-        if (paymentCount > 0) {
-            averageAmount = toBigDecimal(row[2]).setScale(0, RoundingMode.HALF_UP);
+        if (isDesigner) {
+            // Reservation.designerId = designer userId
+            return userId;
         }
-
-        return new TodaySalesSummaryRes(
-                today,
-                totalSales,
-                paymentCount,
-                averageAmount
+        throw new ResponseStatusException(
+                HttpStatus.FORBIDDEN,
+                "매출 요약은 스튜디오 또는 디자이너만 조회할 수 있습니다."
         );
     }
 
@@ -835,74 +881,67 @@ public class PaymentService extends BaseService<Payment> {
         LocalDate fromDate = (from != null) ? from.toLocalDate() : null;
         LocalDate toDate   = (to != null)   ? to.toLocalDate()   : null;
 
-        List<Payment> payments = paymentRepository.searchPayments(
+        int safeSize  = (size <= 0) ? 10 : size;
+        int pageIndex = (page < 0) ? 0 : page;
+
+        // 응답에 전체 건수가 없으므로 count 쿼리 없이 페이지 row 만
+        List<PaymentListRow> rows = paymentRepository.searchPaymentRows(
                 null,
                 designerId,
                 status,
                 fromDate,
-                toDate
+                toDate,
+                toLikeKeyword(serviceName),
+                PageRequest.of(pageIndex, safeSize)
         );
 
-        List<PaymentListItemRes> all = payments.stream()
-                .map(p -> {
-                    Reservation r = reservationRepository.findById(p.getReservationId())
-                            .orElseThrow(() -> new ResponseStatusException(
-                                    HttpStatus.NOT_FOUND,
-                                    "Payment에 연결된 예약을 찾을 수 없습니다. paymentId=" + p.getId()
-                            ));
-
-                    String serviceNames = buildServiceNames(r);
-
-                    return toListItemDto(p, r, serviceNames);
-                })
-                .toList();
-
-        if (serviceName != null && !serviceName.isBlank()) {
-            String keyword = serviceName.trim();
-            all = all.stream()
-                    .filter(item -> item.serviceName() != null
-                            && item.serviceName().contains(keyword))
-                    .toList();
-        }
-
-        return paginate(all, page, size);
+        return toListItemDtos(rows);
     }
 
-    /**
-     * 예약에 연결된 serviceIds 기준으로 서비스 이름들을 ", " 로 join
-     */
-    private String buildServiceNames(Reservation r) {
-        List<UUID> serviceIds = r.getServiceIds();
-        if (serviceIds == null || serviceIds.isEmpty()) {
-            return "";
+    /** LIKE 검색어: 공백이면 null (필터 없음), 와일드카드 문자는 '!' 로 escape */
+    static String toLikeKeyword(String serviceName) {
+        if (serviceName == null || serviceName.isBlank()) {
+            return null;
         }
-
-        List<StudioService> services = studioServiceRepository.findAllById(serviceIds);
-
-        return services.stream()
-                .map(StudioService::getServiceName)
-                .filter(Objects::nonNull)
-                .collect(Collectors.joining(", "));
+        return serviceName.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_")
+                .replace("[", "![");
     }
 
+    /** 페이지 row → DTO (서비스 이름은 예약 ID IN 조회 1번으로 채움) */
+    private List<PaymentListItemRes> toListItemDtos(List<PaymentListRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
 
-    private PaymentListItemRes toListItemDto(Payment p, Reservation r, String serviceNames) {
-
-        String customerFullName = null;
-        String designerFullName = null;
+        List<UUID> reservationIds = rows.stream()
+                .map(PaymentListRow::reservationId)
+                .distinct()
+                .toList();
 
-        Instant consultCompletedAt = null;
+        Map<UUID, List<String>> namesByReservation = new HashMap<>();
+        for (Object[] row : paymentRepository.findServiceNamesByReservationIds(reservationIds)) {
+            if (row[1] != null) {
+                namesByReservation
+                        .computeIfAbsent((UUID) row[0], k -> new ArrayList<>())
+                        .add((String) row[1]);
+            }
+        }
 
-        return new PaymentListItemRes(
-                p.getId(),
-                p.getReservationId(),
-                consultCompletedAt,
-                customerFullName,
-                designerFullName,
-                serviceNames,
-                p.getTotalAmount(),
-                p.getPaymentStatus(),
-                p.getDesignerTipAmount()
-        );
+        return rows.stream()
+                .map(r -> new PaymentListItemRes(
+                        r.paymentId(),
+                        r.reservationId(),
+                        null,
+                        null,
+                        null,
+                        String.join(", ", namesByReservation.getOrDefault(r.reservationId(), List.of())),
+                        r.totalAmount(),
+                        r.paymentStatus(),
+                        r.designerTipAmount()
+                ))
+                .toList();
     }
 }
@@ -0,0 +1,48 @@
+package com.moden.modenapi.modules.payment.service;
+
+import com.moden.modenapi.common.enums.OutboxEventType;
+import com.moden.modenapi.common.model.OutboxEvent;
+import com.moden.modenapi.common.service.OutboxListener;
+import com.moden.modenapi.common.service.OutboxService;
+import com.moden.modenapi.modules.payment.event.PaymentConfirmedMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 확정 → sales_daily_rollup 증분 반영 (재확정이면 이전 값 제거 후 새 값 추가).
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupOutboxListener implements OutboxListener {
+
+    private final OutboxService outboxService;
+    private final SalesRollupService salesRollupService;
+
+    @Override
+    public String name() {
+        return "sales-rollup";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return type == OutboxEventType.PAYMENT_CONFIRMED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        PaymentConfirmedMessage m = outboxService.payload(event, PaymentConfirmedMessage.class);
+
+        if (m.reconfirmed() && m.prevPaidAt() != null) {
+            salesRollupService.apply(
+                    m.studioId(), m.designerId(),
+                    SalesRollupService.salesDateOf(m.prevPaidAt()), m.prevPaymentMethod(),
+                    m.prevTotalAmount(), m.prevDesignerTipAmount(), -1
+            );
+        }
+        salesRollupService.apply(
+                m.studioId(), m.designerId(),
+                SalesRollupService.salesDateOf(m.paidAt()), m.paymentMethod(),
+                m.totalAmount(), m.designerTipAmount(), +1
+        );
+    }
+}
@@ -0,0 +1,296 @@
+package com.moden.modenapi.modules.payment.service;
+
+import com.moden.modenapi.common.enums.PaymentMethod;
+import com.moden.modenapi.common.enums.PaymentStatus;
+import com.moden.modenapi.modules.payment.model.SalesDailyRollup;
+import com.moden.modenapi.modules.payment.model.SalesRollupBackfill;
+import com.moden.modenapi.modules.payment.repository.PaymentRepository;
+import com.moden.modenapi.modules.payment.repository.SalesDailyRollupRepository;
+import com.moden.modenapi.modules.payment.repository.SalesRollupBackfillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * sales_daily_rollup 관리.
+ *  - apply     : confirmPayment 트랜잭션 안에서 증분 반영 (결제와 같이 커밋/롤백)
+ *  - reconcile : 매일 밤 payment 기준으로 해당 일자 row 를 다시 계산 (증분 누락/중복 보정)
+ *  - backfillHistory : rollup 도입 전 결제 반영. 상태는 sales_rollup_backfill row 에 저장
+ *    (처음 기동한 인스턴스가 한 번만 비교해서 만들고, 선점한 인스턴스 하나가 하루씩 진행 → 재시작해도 이어서)
+ *    실패한 일자는 건너뛰고 로그로 남김 (관리자 reconcile 로 다시 실행)
+ *  - 백필이 끝나기 전에는 isHistoryReady() == false → 매출 요약은 payment 에서 직접 합산 (0 으로 보이지 않도록)
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    // 매출 일자 기준 (호스트 timezone 과 무관하게 고정, PaymentService 의 오늘 기준과 동일)
+    static final ZoneId SALES_ZONE = ZoneId.of("Asia/Tashkent");
+
+    private static final String BACKFILL_NAME = "history";
+    private static final int BACKFILL_DAYS_PER_TICK = 31;
+    private static final Duration BACKFILL_LOCK = Duration.ofMinutes(10);
+
+    private final SalesDailyRollupRepository rollupRepository;
+    private final SalesRollupBackfillRepository backfillRepository;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate requiresNew;
+
+    // sales_rollup_backfill.completed_at 을 본 뒤로는 다시 조회하지 않음 (완료는 되돌아가지 않음)
+    private volatile boolean historyReady = false;
+
+    public SalesRollupService(SalesDailyRollupRepository rollupRepository,
+                              SalesRollupBackfillRepository backfillRepository,
+                              PaymentRepository paymentRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.backfillRepository = backfillRepository;
+        this.paymentRepository = paymentRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public static LocalDate salesDateOf(Instant paidAt) {
+        return paidAt.atZone(SALES_ZONE).toLocalDate();
+    }
+
+    /**
+     * 결제 1건 반영 (sign = +1 추가, -1 취소/재확정 전 값 제거).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(
+            UUID studioId,
+            UUID designerId,
+            LocalDate salesDate,
+            PaymentMethod method,
+            BigDecimal totalAmount,
+            BigDecimal tipAmount,
+            int sign
+    ) {
+        if (studioId == null || designerId == null || salesDate == null) {
+            return;
+        }
+        BigDecimal amount = signed(totalAmount, sign);
+        BigDecimal tip    = signed(tipAmount, sign);
+
+        if (rollupRepository.addToRollup(studioId, designerId, salesDate, method, sign, amount, tip) > 0) {
+            return;
+        }
+
+        // 그 날 첫 결제 → 0 row 를 별도 트랜잭션으로 생성 (동시 생성은 unique 로 흡수)
+        try {
+            requiresNew.executeWithoutResult(status -> rollupRepository.saveAndFlush(
+                    SalesDailyRollup.builder()
+                            .studioId(studioId)
+                            .designerId(designerId)
+                            .salesDate(salesDate)
+                            .paymentMethod(method)
+                            .paymentCount(0L)
+                            .totalAmount(BigDecimal.ZERO)
+                            .tipAmount(BigDecimal.ZERO)
+                            .build()
+            ));
+        } catch (DataIntegrityViolationException ignore) {
+            // 다른 결제가 먼저 만들었음
+        }
+
+        if (rollupRepository.addToRollup(studioId, designerId, salesDate, method, sign, amount, tip) == 0) {
+            throw new IllegalStateException("sales_daily_rollup row 를 찾을 수 없습니다: "
+                    + studioId + " / " + designerId + " / " + salesDate + " / " + method);
+        }
+    }
+
+    /**
+     * 해당 일자 집계를 payment 기준으로 다시 계산.
+     */
+    @Transactional
+    public int reconcile(LocalDate salesDate) {
+        Instant start = salesDate.atStartOfDay(SALES_ZONE).toInstant();
+        Instant end   = salesDate.plusDays(1).atStartOfDay(SALES_ZONE).toInstant();
+
+        List<Object[]> rows = paymentRepository.aggregateForRollup(PaymentStatus.PAID, start, end);
+
+        rollupRepository.deleteBySalesDate(salesDate);
+        rollupRepository.flush();
+
+        List<SalesDailyRollup> rebuilt = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[0] == null || row[1] == null) {
+                continue;
+            }
+            rebuilt.add(SalesDailyRollup.builder()
+                    .studioId((UUID) row[0])
+                    .designerId((UUID) row[1])
+                    .salesDate(salesDate)
+                    .paymentMethod((PaymentMethod) row[2])
+                    .paymentCount(((Number) row[3]).longValue())
+                    .totalAmount((BigDecimal) row[4])
+                    .tipAmount((BigDecimal) row[5])
+                    .build());
+        }
+        rollupRepository.saveAll(rebuilt);
+        return rebuilt.size();
+    }
+
+    /**
+     * [from, to] 일자 범위 재계산 (하루 = 트랜잭션 1개). 실패한 일자는 건너뛰고 개수만 반환.
+     *
+     * @return 실패한 일자 수
+     */
+    public int reconcile(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다. (from <= to)");
+        }
+        int failed = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate d = day;
+            try {
+                requiresNew.execute(status -> reconcile(d));
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Sales rollup reconcile failed for {}", d, e);
+            }
+        }
+        log.info("Sales rollup reconciled {} ~ {} ({} days, {} failed)",
+                from, to, ChronoUnit.DAYS.between(from, to) + 1, failed);
+        return failed;
+    }
+
+    /**
+     * 기동 시 — 백필 상태 row 가 없을 때만 (= 처음 한 번) 어제까지의 PAID 결제 수와 rollup 건수를 비교해서 만든다.
+     * 이미 맞으면 완료 상태로, 다르면 첫 결제일 ~ 오늘을 backfillStep 이 진행하도록.
+     * 동시에 기동한 인스턴스끼리는 name unique 로 한 row 만 남음.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillHistory() {
+        try {
+            if (isHistoryReady() || backfillRepository.findByName(BACKFILL_NAME).isPresent()) {
+                return;
+            }
+
+            // 오늘 분은 outbox 반영이 늦을 수 있으므로 어제까지만 비교
+            LocalDate today = LocalDate.now(SALES_ZONE);
+            List<Object[]> coverage = paymentRepository.findRollupCoverage(
+                    PaymentStatus.PAID, today.atStartOfDay(SALES_ZONE).toInstant());
+            Object[] row = coverage.isEmpty() ? new Object[]{null, 0L} : coverage.get(0);
+            long paidCount = (row[1] == null) ? 0L : ((Number) row[1]).longValue();
+            boolean upToDate = row[0] == null || paidCount == rollupRepository.sumPaymentCountBefore(today);
+
+            requiresNew.executeWithoutResult(status -> backfillRepository.saveAndFlush(
+                    SalesRollupBackfill.builder()
+                            .name(BACKFILL_NAME)
+                            .nextDate(upToDate ? today.plusDays(1) : salesDateOf((Instant) row[0]))
+                            .toDate(today)
+                            .failedDays(0)
+                            .completedAt(upToDate ? Instant.now() : null)
+                            .build()
+            ));
+            if (!upToDate) {
+                log.info("Sales rollup backfill queued: {} ~ {} (paid={})", salesDateOf((Instant) row[0]), today, paidCount);
+            }
+        } catch (DataIntegrityViolationException ignore) {
+            // 다른 인스턴스가 먼저 만들었음
+        } catch (RuntimeException e) {
+            log.warn("Sales rollup backfill setup failed, will retry on next nightly reconcile", e);
+        }
+    }
+
+    /**
+     * 백필 진행 — 선점한 인스턴스 하나가 tick 당 최대 BACKFILL_DAYS_PER_TICK 일 (하루 = 트랜잭션 1개).
+     * 실패한 일자는 건너뛰고 개수만 남김 → 한 일자가 계속 실패해도 백필은 끝까지 진행됨.
+     */
+    @Scheduled(initialDelay = 30_000, fixedDelay = 10_000)
+    public void backfillStep() {
+        if (isHistoryReady()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Integer claimed = requiresNew.execute(status ->
+                backfillRepository.claim(BACKFILL_NAME, now, now.plus(BACKFILL_LOCK)));
+        if (claimed == null || claimed == 0) {
+            return;   // 상태 row 없음 / 완료 / 다른 인스턴스가 처리 중
+        }
+
+        SalesRollupBackfill state = backfillRepository.findByName(BACKFILL_NAME).orElseThrow();
+        LocalDate from = state.getNextDate();
+        LocalDate to = from.plusDays(BACKFILL_DAYS_PER_TICK - 1);
+        if (to.isAfter(state.getToDate())) {
+            to = state.getToDate();
+        }
+
+        int failed = from.isAfter(to) ? 0 : reconcile(from, to);
+        LocalDate next = to.plusDays(1);
+        boolean done = next.isAfter(state.getToDate());
+
+        Integer advanced = requiresNew.execute(status -> backfillRepository.advance(
+                BACKFILL_NAME, from, next, failed, done ? Instant.now() : null));
+        if (advanced == null || advanced == 0) {
+            log.warn("Sales rollup backfill lost its claim at {}", from);
+            return;
+        }
+        if (done) {
+            historyReady = true;
+            int failedDays = state.getFailedDays() + failed;
+            if (failedDays > 0) {
+                log.error("Sales rollup backfill finished with {} failed days (see warnings, re-run with admin reconcile)",
+                        failedDays);
+            } else {
+                log.info("Sales rollup backfill finished (to {})", state.getToDate());
+            }
+        }
+    }
+
+    /** 과거 결제 백필 완료 여부 — false 면 rollup 이 과거 일자를 다 담고 있지 않으므로 payment 에서 직접 합산할 것 */
+    public boolean isHistoryReady() {
+        if (!historyReady) {
+            historyReady = backfillRepository.findByName(BACKFILL_NAME)
+                    .map(b -> b.getCompletedAt() != null)
+                    .orElse(false);
+        }
+        return historyReady;
+    }
+
+    /**
+     * 매일 03:10 — 어제 / 그제 집계 재계산 (자정 직후 확정된 결제까지 반영되도록 2일).
+     */
+    @Scheduled(cron = "0 10 3 * * *", zone = "Asia/Tashkent")
+    public void reconcileRecentDays() {
+        backfillHistory();   // 상태 row 생성이 실패했던 경우만 다시 시도
+
+        LocalDate today = LocalDate.now(SALES_ZONE);
+        for (int i = 1; i <= 2; i++) {
+            LocalDate day = today.minusDays(i);
+            try {
+                int rows = requiresNew.execute(status -> reconcile(day));
+                log.info("Sales rollup reconciled for {} ({} rows)", day, rows);
+            } catch (RuntimeException e) {
+                log.warn("Sales rollup reconcile failed for {}", day, e);
+            }
+        }
+    }
+
+    private static BigDecimal signed(BigDecimal v, int sign) {
+        BigDecimal value = (v == null) ? BigDecimal.ZERO : v;
+        return sign < 0 ? value.negate() : value;
+    }
+}
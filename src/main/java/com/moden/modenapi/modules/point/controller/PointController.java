@@ -1,9 +1,11 @@
 package com.moden.modenapi.modules.point.controller;
 
 import com.moden.modenapi.common.response.ResponseMessage;
+import com.moden.modenapi.common.service.StudioContextService;
 import com.moden.modenapi.common.utils.CurrentUserUtil;
 import com.moden.modenapi.modules.customer.service.CustomerService;
 import com.moden.modenapi.modules.point.dto.*;
+import com.moden.modenapi.modules.point.service.PointBulkGrantService;
 import com.moden.modenapi.modules.point.service.PointService;
 import com.moden.modenapi.modules.point.service.StudioPointPolicyService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +29,8 @@ public class PointController {
     private final PointService pointService;
     private final StudioPointPolicyService studioPointPolicyService;
     private final CustomerService customerService;
+    private final PointBulkGrantService pointBulkGrantService;
+    private final StudioContextService studioContextService;
 
     @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
     @Operation(summary = "Get point policy for current studio")
@@ -75,6 +79,37 @@ public class PointController {
                 .body(ResponseMessage.success("Manual point granted", res));
     }
 
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
+    @Operation(
+            summary = "Bulk grant points to studio customers",
+            description = "userIds 가 있으면 그 고객만, 없으면 필터에 맞는 스튜디오 고객 전체. 백그라운드에서 지급되며 진행 상황은 bulk/get 으로 조회."
+    )
+    @PostMapping("/bulk/create")
+    public ResponseEntity<ResponseMessage<PointGrantJobRes>> createBulkGrant(
+            @RequestBody PointBulkGrantReq req
+    ) {
+        UUID studioId = studioContextService.resolveStudioIdForCurrentUser();
+        var res = pointBulkGrantService.create(studioId, CurrentUserUtil.currentUserId(), req);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ResponseMessage.success("Bulk point grant queued", res));
+    }
+
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
+    @Operation(summary = "Bulk point grant progress")
+    @GetMapping("/bulk/get/{jobId}")
+    public ResponseEntity<ResponseMessage<PointGrantJobRes>> getBulkGrant(@PathVariable UUID jobId) {
+        UUID studioId = studioContextService.resolveStudioIdForCurrentUser();
+        return ResponseEntity.ok(ResponseMessage.success(pointBulkGrantService.get(studioId, jobId)));
+    }
+
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
+    @Operation(summary = "Recent bulk point grants of current studio")
+    @GetMapping("/bulk/list")
+    public ResponseEntity<ResponseMessage<List<PointGrantJobRes>>> listBulkGrants() {
+        UUID studioId = studioContextService.resolveStudioIdForCurrentUser();
+        return ResponseEntity.ok(ResponseMessage.success(pointBulkGrantService.list(studioId)));
+    }
+
     // 🔹 STUDIO: berilgan userId bo'yicha, shu studiyoga tegishli customer point history
     @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
     @Operation(
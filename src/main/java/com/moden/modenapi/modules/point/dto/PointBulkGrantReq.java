@@ -0,0 +1,33 @@
+package com.moden.modenapi.modules.point.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "일괄 포인트 지급 요청. userIds 가 있으면 그 고객만, 없으면 필터에 맞는 스튜디오 고객 전체")
+public record PointBulkGrantReq(
+
+        @Schema(description = "Title / reason", example = "Double points week")
+        String title,
+
+        @Schema(description = "1인당 지급 포인트", example = "1000.00")
+        BigDecimal amount,
+
+        @Schema(description = "대상 customer userId 목록 (스튜디오 고객이 아닌 ID 는 제외)")
+        List<UUID> userIds,
+
+        @Schema(description = "필터: 담당 디자이너 ID")
+        UUID designerId,
+
+        @Schema(description = "필터: 마케팅 수신 동의 고객만", example = "false")
+        Boolean marketingConsentOnly,
+
+        @Schema(description = "필터: 가입일 시작 (포함)", example = "2024-01-01")
+        LocalDate joinedFrom,
+
+        @Schema(description = "필터: 가입일 끝 (포함)", example = "2024-12-31")
+        LocalDate joinedTo
+) {}
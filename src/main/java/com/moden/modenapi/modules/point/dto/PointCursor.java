@@ -0,0 +1,44 @@
+package com.moden.modenapi.modules.point.dto;
+
+import com.moden.modenapi.modules.point.model.Point;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 포인트 히스토리 keyset 커서.
+ * 정렬 키 (createdAt DESC, id DESC) 의 마지막 값을
+ * "ISO-8601 instant|uuid" 형태로 묶어 URL-safe Base64 로 인코딩한다.
+ */
+public record PointCursor(
+        Instant createdAt,
+        UUID id
+) {
+
+    public static PointCursor of(Point p) {
+        return new PointCursor(p.getCreatedAt(), p.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PointCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new PointCursor(
+                    Instant.parse(parts[0]),
+                    UUID.fromString(parts[1])
+            );
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다.");
+        }
+    }
+}
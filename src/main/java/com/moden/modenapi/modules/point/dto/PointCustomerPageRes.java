@@ -0,0 +1,21 @@
+package com.moden.modenapi.modules.point.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Customer point history page (cursor)")
+public record PointCustomerPageRes(
+
+        @Schema(description = "Page size")
+        int limit,
+
+        @Schema(description = "Point items (createdAt DESC)")
+        List<PointCustomerRes> data,
+
+        @Schema(description = "다음 페이지가 있는지 (전체 COUNT 없이 limit + 1 조회로 판단)")
+        boolean hasMore,
+
+        @Schema(description = "다음 페이지 커서 (keyset). 마지막 페이지면 null")
+        String nextCursor
+) {}
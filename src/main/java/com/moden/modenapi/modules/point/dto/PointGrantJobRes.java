@@ -0,0 +1,45 @@
+package com.moden.modenapi.modules.point.dto;
+
+import com.moden.modenapi.common.enums.PointGrantStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "일괄 포인트 지급 작업 진행 상황")
+public record PointGrantJobRes(
+
+        @Schema(description = "작업 ID")
+        UUID id,
+
+        @Schema(description = "상태 (QUEUED / RUNNING / COMPLETED / FAILED)")
+        PointGrantStatus status,
+
+        @Schema(description = "Title / reason")
+        String title,
+
+        @Schema(description = "1인당 지급 포인트")
+        BigDecimal amount,
+
+        @Schema(description = "지급 대상 수")
+        int totalCount,
+
+        @Schema(description = "스튜디오 고객이 아니라서 제외된 요청 ID 수")
+        int skippedCount,
+
+        @Schema(description = "지급 완료 수")
+        int processedCount,
+
+        @Schema(description = "진행률 (0 ~ 100)")
+        int progressPercent,
+
+        @Schema(description = "마지막 오류 (재시도 중이거나 FAILED 일 때)")
+        String lastError,
+
+        @Schema(description = "생성 시각")
+        Instant createdAt,
+
+        @Schema(description = "완료 시각")
+        Instant finishedAt
+) {}
@@ -0,0 +1,25 @@
+package com.moden.modenapi.modules.point.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Studio point policy cache counters (since startup)")
+public record StudioPointPolicyCacheStatsRes(
+
+        @Schema(description = "Cached studios (정책 없음 캐시 포함)")
+        int size,
+
+        @Schema(description = "Hits with a studio policy")
+        long hits,
+
+        @Schema(description = "Hits for studios without a policy (default rate)")
+        long negativeHits,
+
+        @Schema(description = "Misses (DB 조회)")
+        long misses,
+
+        @Schema(description = "Local + remote invalidations")
+        long invalidations,
+
+        @Schema(description = "(hits + negativeHits) / total lookups")
+        double hitRatio
+) {}
@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
@@ -15,7 +16,13 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "point")
+@Table(
+        name = "point",
+        indexes = {
+                @Index(name = "ix_point_user_deleted_created", columnList = "user_id, deleted_at, created_at, id"),
+                @Index(name = "ix_point_lot_expires_at", columnList = "expires_at, type")
+        }
+)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Point extends BaseEntity {
 
@@ -39,4 +46,13 @@ public class Point extends BaseEntity {
 
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal amount;
+
+    // EARNED 만 사용 (lot): 아직 쓰지 않은 금액. USED 는 오래된 lot 부터 차감, 만료 시 0
+    // null = lot 도입 전 적립분 (첫 사용 시 잔액 기준으로 채움)
+    @Column(name = "remaining_amount", precision = 12, scale = 2)
+    private BigDecimal remainingAmount;
+
+    // EARNED 만 사용 (lot): 이 시각이 지나면 야간 sweeper 가 남은 금액을 만료 처리. null = 만료 없음
+    @Column(name = "expires_at")
+    private Instant expiresAt;
 }
@@ -0,0 +1,61 @@
+package com.moden.modenapi.modules.point.model;
+
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 고객별 포인트 잔액 스냅샷 (point 원장 합계).
+ * point row 를 INSERT 하는 트랜잭션 안에서 같이 갱신되고,
+ * 사용(USED)은 balance >= amount 조건부 UPDATE 로만 차감되어 동시 결제로 음수가 될 수 없다.
+ * 주기적으로 원장 합계와 비교해 checkpoint 한다.
+ * 잔액 row 갱신이 항상 lot(point.remaining_amount) 갱신보다 먼저 → 사용 / 만료가 같은 순서로 잠근다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "point_balance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_balance_user", columnNames = "user_id"),
+        indexes = @Index(name = "ix_point_balance_checkpointed_at", columnList = "checkpointed_at")
+)
+public class PointBalance extends BaseEntity {
+
+    @Column(name = "user_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID userId;
+
+    @Column(name = "earned_total", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal earnedTotal = BigDecimal.ZERO;
+
+    @Column(name = "used_total", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal usedTotal = BigDecimal.ZERO;
+
+    // 만료된 lot 잔여 합계 (기존 row 는 0 으로 추가)
+    @Column(name = "expired_total", nullable = false, precision = 14, scale = 2,
+            columnDefinition = "decimal(14,2) default 0 not null")
+    @Builder.Default
+    private BigDecimal expiredTotal = BigDecimal.ZERO;
+
+    // earned_total - used_total - expired_total
+    @Column(name = "balance", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    // 갱신될 때마다 +1 (checkpoint 시 동시 변경 감지용, repository 의 "update versioned" 가 올림)
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // 마지막으로 원장 합계와 맞춰 본 시각
+    @Column(name = "checkpointed_at")
+    private Instant checkpointedAt;
+}
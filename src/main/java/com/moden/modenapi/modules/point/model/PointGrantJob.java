@@ -0,0 +1,77 @@
+package com.moden.modenapi.modules.point.model;
+
+import com.moden.modenapi.common.enums.PointGrantStatus;
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 일괄 포인트 지급 작업 1건.
+ * 대상은 생성 시점에 point_grant_target 으로 고정되고, worker 가 seq 순서로 chunk 단위 지급한다.
+ * chunk 의 포인트 INSERT / 잔액 갱신 / last_seq 갱신이 같은 트랜잭션 → 중단되면 last_seq 다음부터 이어서.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "point_grant_job",
+        indexes = {
+                @Index(name = "ix_point_grant_job_status", columnList = "status, locked_until"),
+                @Index(name = "ix_point_grant_job_studio", columnList = "studio_id, created_at")
+        }
+)
+public class PointGrantJob extends BaseEntity {
+
+    @Column(name = "studio_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID studioId;
+
+    // 요청한 studio / designer userId
+    @Column(name = "requested_by", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID requestedBy;
+
+    @Column(name = "title", length = 200, nullable = false)
+    private String title;
+
+    // 1인당 지급 금액
+    @Column(name = "amount", precision = 12, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private PointGrantStatus status;
+
+    // 지급 대상 수 (target row 수)
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    // 요청 ID 중 이 스튜디오 고객이 아니라서 제외된 수
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    // 마지막으로 지급한 target.seq (0 = 시작 전)
+    @Column(name = "last_seq", nullable = false)
+    private int lastSeq;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // worker 인스턴스가 처리 중인 동안 다른 인스턴스가 가져가지 않도록
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
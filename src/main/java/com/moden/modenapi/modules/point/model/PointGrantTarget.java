@@ -0,0 +1,37 @@
+package com.moden.modenapi.modules.point.model;
+
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 일괄 지급 대상 (작업 생성 시점 스냅샷).
+ * seq 는 작업 안에서 1 부터 연속 → worker cursor (point_grant_job.last_seq) 기준.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "point_grant_target",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_point_grant_target_seq", columnNames = {"job_id", "seq"}),
+                @UniqueConstraint(name = "uk_point_grant_target_user", columnNames = {"job_id", "user_id"})
+        }
+)
+public class PointGrantTarget extends BaseEntity {
+
+    @Column(name = "job_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "seq", nullable = false)
+    private int seq;
+
+    // customer userId
+    @Column(name = "user_id", columnDefinition = "uniqueidentifier", nullable = false)
+    private UUID userId;
+}
@@ -0,0 +1,137 @@
+package com.moden.modenapi.modules.point.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.point.model.PointBalance;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 잔액 갱신은 모두 "update versioned" (PointBalance.version(@Version) 자동 +1 → checkpoint 가 동시 변경 감지).
+ * row 생성은 PointBalanceService.ensureRow (호출한 트랜잭션 안에서 insert-if-absent).
+ */
+public interface PointBalanceRepository extends BaseRepository<PointBalance, UUID> {
+
+    Optional<PointBalance> findByUserId(UUID userId);
+
+    /** 적립 / 정정 (조건 없음) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update versioned PointBalance b
+           set b.earnedTotal = b.earnedTotal + :earnedDelta,
+               b.usedTotal   = b.usedTotal   + :usedDelta,
+               b.balance     = b.balance + :earnedDelta - :usedDelta
+         where b.userId = :userId
+        """)
+    int applyDelta(
+            @Param("userId")      UUID userId,
+            @Param("earnedDelta") BigDecimal earnedDelta,
+            @Param("usedDelta")   BigDecimal usedDelta
+    );
+
+    /** 일괄 적립 (같은 금액, set-based) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update versioned PointBalance b
+           set b.earnedTotal = b.earnedTotal + :amount,
+               b.balance     = b.balance + :amount
+         where b.userId in :userIds
+        """)
+    int creditAll(@Param("userIds") List<UUID> userIds, @Param("amount") BigDecimal amount);
+
+    /** 잔액 row 가 이미 있는 userId */
+    @Query("select b.userId from PointBalance b where b.userId in :userIds")
+    List<UUID> findExistingUserIds(@Param("userIds") List<UUID> userIds);
+
+    /** 사용: 잔액이 충분할 때만 차감 (0 row = 잔액 부족) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update versioned PointBalance b
+           set b.usedTotal = b.usedTotal + :amount,
+               b.balance   = b.balance   - :amount
+         where b.userId  = :userId
+           and b.balance >= :amount
+        """)
+    int debitIfSufficient(
+            @Param("userId") UUID userId,
+            @Param("amount") BigDecimal amount
+    );
+
+    /**
+     * 만료 (set-based): 대상 user 들의 잔액 row 를 먼저 잠그고, 만료될 lot 잔여 합계만큼 차감.
+     * 같은 트랜잭션에서 이어서 lot 을 0 으로 만든다 (잔액 row → lot 순서, 사용과 같은 순서).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update versioned PointBalance b
+           set b.expiredTotal = b.expiredTotal + (
+                   select coalesce(sum(p.remainingAmount), 0)
+                   from Point p
+                   where p.userId = b.userId
+                     and p.type = com.moden.modenapi.common.enums.PointType.EARNED
+                     and p.expiresAt <= :now
+                     and p.remainingAmount > 0
+                     and p.deletedAt is null),
+               b.balance = b.balance - (
+                   select coalesce(sum(p.remainingAmount), 0)
+                   from Point p
+                   where p.userId = b.userId
+                     and p.type = com.moden.modenapi.common.enums.PointType.EARNED
+                     and p.expiresAt <= :now
+                     and p.remainingAmount > 0
+                     and p.deletedAt is null)
+         where b.userId in :userIds
+        """)
+    int applyExpiry(@Param("userIds") List<UUID> userIds, @Param("now") Instant now);
+
+    /** 만료 정정 (EXPIRED row 삭제 시 되돌림) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update versioned PointBalance b
+           set b.expiredTotal = b.expiredTotal + :expiredDelta,
+               b.balance      = b.balance - :expiredDelta
+         where b.userId = :userId
+        """)
+    int applyExpiredDelta(@Param("userId") UUID userId, @Param("expiredDelta") BigDecimal expiredDelta);
+
+    /** 현재 잔액 (영속성 컨텍스트 거치지 않고 DB 값) */
+    @Query("select b.balance from PointBalance b where b.userId = :userId")
+    Optional<BigDecimal> findBalanceValue(@Param("userId") UUID userId);
+
+    /** checkpoint: 읽은 뒤 변경이 없었을 때만 원장 합계로 덮어씀 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update versioned PointBalance b
+           set b.earnedTotal    = :earnedTotal,
+               b.usedTotal      = :usedTotal,
+               b.expiredTotal   = :expiredTotal,
+               b.balance        = :earnedTotal - :usedTotal - :expiredTotal,
+               b.checkpointedAt = :now
+         where b.userId  = :userId
+           and b.version = :expectedVersion
+        """)
+    int checkpoint(
+            @Param("userId")          UUID userId,
+            @Param("earnedTotal")     BigDecimal earnedTotal,
+            @Param("usedTotal")       BigDecimal usedTotal,
+            @Param("expiredTotal")    BigDecimal expiredTotal,
+            @Param("expectedVersion") long expectedVersion,
+            @Param("now")             Instant now
+    );
+
+    /** checkpoint 대상 (오래된 순) */
+    @Query("""
+        select b
+        from PointBalance b
+        where b.checkpointedAt is null or b.checkpointedAt < :before
+        order by b.checkpointedAt asc
+        """)
+    List<PointBalance> findCheckpointCandidates(@Param("before") Instant before, Pageable pageable);
+}
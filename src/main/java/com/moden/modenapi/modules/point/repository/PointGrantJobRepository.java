@@ -0,0 +1,91 @@
+package com.moden.modenapi.modules.point.repository;
+
+import com.moden.modenapi.common.enums.PointGrantStatus;
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.point.model.PointGrantJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PointGrantJobRepository extends BaseRepository<PointGrantJob, UUID> {
+
+    Optional<PointGrantJob> findByIdAndStudioId(UUID id, UUID studioId);
+
+    List<PointGrantJob> findAllByStudioIdOrderByCreatedAtDesc(UUID studioId, Pageable pageable);
+
+    /** 처리할 작업 (QUEUED / RUNNING 중 선점 안 된 것, 오래된 순) */
+    @Query("""
+        select j.id
+        from PointGrantJob j
+        where j.status in (com.moden.modenapi.common.enums.PointGrantStatus.QUEUED,
+                           com.moden.modenapi.common.enums.PointGrantStatus.RUNNING)
+          and (j.lockedUntil is null or j.lockedUntil < :now)
+        order by j.createdAt asc
+        """)
+    List<UUID> findRunnable(@Param("now") Instant now, Pageable pageable);
+
+    /** 처리 선점 (1 = 이 인스턴스가 가져감) */
+    @Modifying
+    @Query("""
+        update PointGrantJob j
+           set j.lockedUntil = :until,
+               j.status      = com.moden.modenapi.common.enums.PointGrantStatus.RUNNING
+         where j.id = :id
+           and j.status in (com.moden.modenapi.common.enums.PointGrantStatus.QUEUED,
+                            com.moden.modenapi.common.enums.PointGrantStatus.RUNNING)
+           and (j.lockedUntil is null or j.lockedUntil < :now)
+        """)
+    int claim(@Param("id") UUID id, @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * chunk 진행 기록 (chunk 지급과 같은 트랜잭션).
+     * last_seq 가 읽은 값 그대로일 때만 → 선점이 풀려 다른 인스턴스가 같은 chunk 를 처리했으면 0 (롤백).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update PointGrantJob j
+           set j.lastSeq        = :toSeq,
+               j.processedCount = j.processedCount + :count,
+               j.lockedUntil    = :until
+         where j.id = :id
+           and j.lastSeq = :fromSeq
+        """)
+    int advance(@Param("id") UUID id,
+                @Param("fromSeq") int fromSeq,
+                @Param("toSeq") int toSeq,
+                @Param("count") int count,
+                @Param("until") Instant until);
+
+    @Modifying
+    @Query("""
+        update PointGrantJob j
+           set j.status      = :status,
+               j.lockedUntil = null,
+               j.finishedAt  = :now
+         where j.id = :id
+        """)
+    int finish(@Param("id") UUID id, @Param("status") PointGrantStatus status, @Param("now") Instant now);
+
+    /** chunk 실패: 선점을 retryAt 까지 유지 (그 뒤 다시 선점 가능), 한도 초과면 FAILED */
+    @Modifying
+    @Query("""
+        update PointGrantJob j
+           set j.attempts    = j.attempts + 1,
+               j.lockedUntil = :retryAt,
+               j.lastError   = :error,
+               j.status      = case when j.attempts + 1 >= :maxAttempts
+                                    then com.moden.modenapi.common.enums.PointGrantStatus.FAILED
+                                    else j.status end
+         where j.id = :id
+        """)
+    int markRetry(@Param("id") UUID id,
+                  @Param("retryAt") Instant retryAt,
+                  @Param("error") String error,
+                  @Param("maxAttempts") int maxAttempts);
+}
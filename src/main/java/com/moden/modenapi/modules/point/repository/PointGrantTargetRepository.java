@@ -0,0 +1,23 @@
+package com.moden.modenapi.modules.point.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.point.model.PointGrantTarget;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PointGrantTargetRepository extends BaseRepository<PointGrantTarget, UUID> {
+
+    /** cursor(afterSeq) 다음 chunk (seq 순) */
+    @Query("""
+        select t
+        from PointGrantTarget t
+        where t.jobId = :jobId
+          and t.seq > :afterSeq
+        order by t.seq asc
+        """)
+    List<PointGrantTarget> findChunk(@Param("jobId") UUID jobId, @Param("afterSeq") int afterSeq, Pageable pageable);
+}
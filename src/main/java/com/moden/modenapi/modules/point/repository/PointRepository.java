@@ -3,10 +3,13 @@ package com.moden.modenapi.modules.point.repository;
 import com.moden.modenapi.common.enums.PointType;
 import com.moden.modenapi.common.repository.BaseRepository;
 import com.moden.modenapi.modules.point.model.Point;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -60,9 +63,50 @@ public interface PointRepository extends BaseRepository<Point, UUID> {
             @Param("type") PointType type
     );
 
+    // ✅ 고객 포인트 히스토리 첫 페이지: 기간(from) 조건까지 DB 에서,
+    //    (user_id, deleted_at, created_at, id) 인덱스 순서대로 limit 개만 읽음
+    @Query("""
+        SELECT p
+        FROM Point p
+        WHERE p.userId = :userId
+          AND p.deletedAt IS NULL
+          AND (:type IS NULL OR p.type = :type)
+          AND (:from IS NULL OR p.createdAt >= :from)
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<Point> findCustomerHistory(
+            @Param("userId") UUID userId,
+            @Param("type")   PointType type,
+            @Param("from")   Instant from,
+            Pageable pageable
+    );
+
+    // ✅ Keyset(커서) 페이지: (createdAt, id) 기준 마지막 행 "다음" 부터
+    @Query("""
+        SELECT p
+        FROM Point p
+        WHERE p.userId = :userId
+          AND p.deletedAt IS NULL
+          AND (:type IS NULL OR p.type = :type)
+          AND (:from IS NULL OR p.createdAt >= :from)
+          AND (p.createdAt < :cursorCreatedAt
+               OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<Point> findCustomerHistoryAfter(
+            @Param("userId")          UUID userId,
+            @Param("type")            PointType type,
+            @Param("from")            Instant from,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId")        UUID cursorId,
+            Pageable pageable
+    );
+
     // 🔹 특정 payment 기준
     List<Point> findAllByPaymentIdAndDeletedAtIsNull(UUID paymentId);
 
+    boolean existsByPaymentIdAndTypeAndDeletedAtIsNull(UUID paymentId, PointType type);
+
     // 🔹 soft delete aware 단건 조회
     Optional<Point> findByIdAndDeletedAtIsNull(UUID id);
 
@@ -84,4 +128,116 @@ public interface PointRepository extends BaseRepository<Point, UUID> {
           AND p.deletedAt IS NULL
     """)
     BigDecimal sumUsedByUser(@Param("userId") UUID userId);
+
+    @Query("""
+        SELECT COALESCE(SUM(p.amount), 0)
+        FROM Point p
+        WHERE p.userId = :userId
+          AND p.type   = com.moden.modenapi.common.enums.PointType.EXPIRED
+          AND p.deletedAt IS NULL
+    """)
+    BigDecimal sumExpiredByUser(@Param("userId") UUID userId);
+
+    // 🔹 여러 user 의 earned / used / expired 합계 (point_balance checkpoint 용)
+    //    결과: [userId, earned, used, expired]
+    @Query("""
+        SELECT p.userId,
+               COALESCE(SUM(CASE WHEN p.type = com.moden.modenapi.common.enums.PointType.EARNED  THEN p.amount ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN p.type = com.moden.modenapi.common.enums.PointType.USED    THEN p.amount ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN p.type = com.moden.modenapi.common.enums.PointType.EXPIRED THEN p.amount ELSE 0 END), 0)
+        FROM Point p
+        WHERE p.userId IN :userIds
+          AND p.deletedAt IS NULL
+        GROUP BY p.userId
+    """)
+    List<Object[]> sumEarnedUsedExpiredByUsers(@Param("userIds") List<UUID> userIds);
+
+    /* ================== LOT (EARNED.remaining_amount) ================== */
+
+    // 🔹 사용 가능한 lot, 오래된 순 (FIFO 차감용)
+    @Query("""
+        SELECT p
+        FROM Point p
+        WHERE p.userId = :userId
+          AND p.type   = com.moden.modenapi.common.enums.PointType.EARNED
+          AND p.deletedAt IS NULL
+          AND p.remainingAmount > 0
+        ORDER BY p.createdAt ASC, p.id ASC
+    """)
+    List<Point> findOpenLots(@Param("userId") UUID userId, Pageable pageable);
+
+    // 🔹 일부라도 소진된 lot, 최신 순 (USED 정정 시 되돌려 넣을 곳 — FIFO 의 역순)
+    @Query("""
+        SELECT p
+        FROM Point p
+        WHERE p.userId = :userId
+          AND p.type   = com.moden.modenapi.common.enums.PointType.EARNED
+          AND p.deletedAt IS NULL
+          AND p.remainingAmount IS NOT NULL
+          AND p.remainingAmount < p.amount
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<Point> findConsumedLotsNewestFirst(@Param("userId") UUID userId, Pageable pageable);
+
+    // 🔹 lot 도입 전 적립분 (remaining 미설정), 최신 순
+    @Query("""
+        SELECT p
+        FROM Point p
+        WHERE p.userId = :userId
+          AND p.type   = com.moden.modenapi.common.enums.PointType.EARNED
+          AND p.deletedAt IS NULL
+          AND p.remainingAmount IS NULL
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<Point> findLegacyLotsNewestFirst(@Param("userId") UUID userId);
+
+    @Query("""
+        SELECT COALESCE(SUM(p.remainingAmount), 0)
+        FROM Point p
+        WHERE p.userId = :userId
+          AND p.type   = com.moden.modenapi.common.enums.PointType.EARNED
+          AND p.deletedAt IS NULL
+          AND p.remainingAmount IS NOT NULL
+    """)
+    BigDecimal sumLotRemainingByUser(@Param("userId") UUID userId);
+
+    // 🔹 만료 대상 lot 이 있는 user (sweeper 배치 단위)
+    @Query("""
+        SELECT p.userId
+        FROM Point p
+        WHERE p.type = com.moden.modenapi.common.enums.PointType.EARNED
+          AND p.expiresAt <= :now
+          AND p.remainingAmount > 0
+          AND p.deletedAt IS NULL
+        GROUP BY p.userId
+        ORDER BY MIN(p.expiresAt) ASC
+    """)
+    List<UUID> findUsersWithExpiredLots(@Param("now") Instant now, Pageable pageable);
+
+    // 🔹 user 별 만료될 잔여 합계. 결과: [userId, amount]
+    @Query("""
+        SELECT p.userId, SUM(p.remainingAmount)
+        FROM Point p
+        WHERE p.userId IN :userIds
+          AND p.type = com.moden.modenapi.common.enums.PointType.EARNED
+          AND p.expiresAt <= :now
+          AND p.remainingAmount > 0
+          AND p.deletedAt IS NULL
+        GROUP BY p.userId
+    """)
+    List<Object[]> sumExpiringByUsers(@Param("userIds") List<UUID> userIds, @Param("now") Instant now);
+
+    // 🔹 만료 처리 (set-based): 잔여 0
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Point p
+           SET p.remainingAmount = 0,
+               p.updatedAt       = :now
+         WHERE p.userId IN :userIds
+           AND p.type = com.moden.modenapi.common.enums.PointType.EARNED
+           AND p.expiresAt <= :now
+           AND p.remainingAmount > 0
+           AND p.deletedAt IS NULL
+    """)
+    int expireLots(@Param("userIds") List<UUID> userIds, @Param("now") Instant now);
 }
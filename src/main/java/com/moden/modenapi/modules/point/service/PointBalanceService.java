@@ -0,0 +1,360 @@
+package com.moden.modenapi.modules.point.service;
+
+import com.moden.modenapi.common.enums.PointType;
+import com.moden.modenapi.modules.point.model.Point;
+import com.moden.modenapi.modules.point.model.PointBalance;
+import com.moden.modenapi.modules.point.repository.PointBalanceRepository;
+import com.moden.modenapi.modules.point.repository.PointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * point_balance 관리.
+ *
+ * - 잔액 조회는 row 1개 (없으면 원장 합계로 계산만, 조회에서는 쓰지 않음)
+ * - point INSERT 와 같은 트랜잭션에서 ensureRow(INSERT 전) → credit / debit / reverse 호출
+ *   row 생성도 그 트랜잭션 / connection 에서 insert-if-absent (요청당 connection 1개)
+ * - debit 은 잔액이 충분할 때만 차감하는 조건부 UPDATE → 동시 사용으로 초과 차감 불가
+ *   차감 후 같은 트랜잭션에서 오래된 lot(EARNED.remaining_amount) 부터 소진 (잔액 row 잠금 아래라 lot 경합 없음)
+ * - USED 정정(reverse) 은 돌아온 금액을 최근 lot 부터 되돌림 → 잔액과 lot 합계가 어긋나지 않음
+ * - checkpoint: 주기적으로 원장(point) 합계와 비교해서 어긋난 row 보정
+ */
+@Slf4j
+@Service
+public class PointBalanceService {
+
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofHours(24);
+    private static final int CHECKPOINT_BATCH = 500;
+    private static final int LOT_PAGE = 50;
+
+    // 없을 때만 INSERT — 동시에 만들면 한쪽은 unique 위반 (문장 단위 실패, 트랜잭션은 유지)
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT INTO point_balance
+            (id, user_id, earned_total, used_total, expired_total, balance, version, checkpointed_at, created_at)
+        SELECT ?, ?, ?, ?, ?, ?, 0, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM point_balance WHERE user_id = ?)
+        """;
+
+    private final PointBalanceRepository balanceRepository;
+    private final PointRepository pointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public PointBalanceService(PointBalanceRepository balanceRepository,
+                               PointRepository pointRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.balanceRepository = balanceRepository;
+        this.pointRepository = pointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ----------------------------------------------------------------------
+    // READ
+    // ----------------------------------------------------------------------
+    /** 잔액 스냅샷. row 가 아직 없으면 원장 합계로 계산한 값 (저장하지 않음) */
+    @Transactional(readOnly = true)
+    public PointBalance getSnapshot(UUID userId) {
+        return balanceRepository.findByUserId(userId)
+                .orElseGet(() -> fromLedger(userId, ledgerSums(List.of(userId)), Instant.now()));
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getBalance(UUID userId) {
+        return balanceRepository.findBalanceValue(userId)
+                .orElseGet(() -> getSnapshot(userId).getBalance());
+    }
+
+    // ----------------------------------------------------------------------
+    // WRITE (point INSERT 와 같은 트랜잭션)
+    // ----------------------------------------------------------------------
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(UUID userId, BigDecimal amount) {
+        requireRow(balanceRepository.applyDelta(userId, nz(amount), BigDecimal.ZERO), userId);
+    }
+
+    /** 일괄 적립 (같은 금액). 대상 row 는 같은 트랜잭션에서 ensureRows 로 미리 만들어 둘 것 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void creditAll(List<UUID> userIds, BigDecimal amount) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        balanceRepository.creditAll(userIds, nz(amount));
+    }
+
+    /**
+     * 잔액이 부족하면 400 (트랜잭션 롤백 → 같이 INSERT 한 USED point 도 취소됨).
+     * USED point INSERT 전에 ensureRow 를 호출해 둘 것.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void debit(UUID userId, BigDecimal amount) {
+        BigDecimal value = nz(amount);
+        if (value.signum() <= 0) {
+            return;
+        }
+        if (balanceRepository.debitIfSufficient(userId, value) == 0) {
+            BigDecimal current = balanceRepository.findBalanceValue(userId).orElse(BigDecimal.ZERO);
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "보유 포인트가 부족합니다. (보유: " + current + ", 요청: " + value + ")"
+            );
+        }
+        consumeLots(userId, value);
+    }
+
+    /** point soft delete 시 해당 금액을 되돌림 (관리자 정정이므로 잔액 조건 없음) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reverse(UUID userId, PointType type, BigDecimal amount) {
+        BigDecimal value = nz(amount).negate();
+        if (type == PointType.EARNED) {
+            requireRow(balanceRepository.applyDelta(userId, value, BigDecimal.ZERO), userId);
+        } else if (type == PointType.USED) {
+            requireRow(balanceRepository.applyDelta(userId, BigDecimal.ZERO, value), userId);
+            restoreLots(userId, nz(amount));
+        } else if (type == PointType.EXPIRED) {
+            requireRow(balanceRepository.applyExpiredDelta(userId, value), userId);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // CHECKPOINT
+    // ----------------------------------------------------------------------
+    @Scheduled(initialDelay = 600_000, fixedDelay = 3_600_000)
+    public void checkpointStaleBalances() {
+        Instant now = Instant.now();
+        Instant before = now.minus(CHECKPOINT_INTERVAL);
+
+        List<PointBalance> candidates =
+                balanceRepository.findCheckpointCandidates(before, PageRequest.of(0, CHECKPOINT_BATCH));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // version 을 먼저 읽고 → 원장 합계 → version 이 그대로일 때만 덮어씀
+        Map<UUID, Long> versions = new HashMap<>();
+        for (PointBalance b : candidates) {
+            versions.put(b.getUserId(), b.getVersion());
+        }
+
+        Map<UUID, BigDecimal[]> sums = new HashMap<>();
+        for (Object[] row : pointRepository.sumEarnedUsedExpiredByUsers(List.copyOf(versions.keySet()))) {
+            sums.put((UUID) row[0], new BigDecimal[]{(BigDecimal) row[1], (BigDecimal) row[2], (BigDecimal) row[3]});
+        }
+
+        int drifted = 0;
+        int skipped = 0;
+        for (PointBalance b : candidates) {
+            BigDecimal[] s = sums.getOrDefault(b.getUserId(),
+                    new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+            if (b.getEarnedTotal().compareTo(s[0]) != 0
+                    || b.getUsedTotal().compareTo(s[1]) != 0
+                    || nz(b.getExpiredTotal()).compareTo(s[2]) != 0) {
+                drifted++;
+                log.warn("point_balance drift userId={} snapshot=({}, {}, {}) ledger=({}, {}, {})",
+                        b.getUserId(), b.getEarnedTotal(), b.getUsedTotal(), b.getExpiredTotal(), s[0], s[1], s[2]);
+            }
+            Integer updated = requiresNew.execute(status -> balanceRepository.checkpoint(
+                    b.getUserId(), s[0], s[1], s[2], versions.get(b.getUserId()), now
+            ));
+            if (updated == null || updated == 0) {
+                skipped++;   // 그 사이 포인트 변동 → 다음 주기에 다시 확인
+            }
+        }
+        log.info("point_balance checkpoint: {} rows, {} drifted, {} skipped", candidates.size(), drifted, skipped);
+    }
+
+    // ----------------------------------------------------------------------
+    // helpers
+    // ----------------------------------------------------------------------
+
+    /**
+     * row 가 없으면 원장 합계로 생성 (호출한 트랜잭션 안에서, 동시 생성은 unique 로 흡수).
+     * 원장 합계에 이번 트랜잭션의 point 가 섞이지 않도록 point INSERT 전에 호출해야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ensureRow(UUID userId) {
+        if (balanceRepository.findBalanceValue(userId).isPresent()) {
+            return;
+        }
+        insertIfAbsent(fromLedger(userId, ledgerSums(List.of(userId)), Instant.now()));
+    }
+
+    /**
+     * ensureRow 의 여러 user 버전: 없는 row 만 원장 합계 한 번(GROUP BY)으로 계산해서 batch INSERT.
+     * 동시 생성과 겹치면 (unique 위반) user 별로 다시 (이미 있는 row 는 NOT EXISTS 로 건너뜀).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ensureRows(List<UUID> userIds) {
+        Set<UUID> missing = new HashSet<>(userIds);
+        balanceRepository.findExistingUserIds(userIds).forEach(missing::remove);
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<UUID, BigDecimal[]> sums = ledgerSums(List.copyOf(missing));
+        Instant now = Instant.now();
+        List<PointBalance> rows = new ArrayList<>(missing.size());
+        for (UUID userId : missing) {
+            rows.add(fromLedger(userId, sums, now));
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows.stream().map(PointBalanceService::insertArgs).toList());
+        } catch (DuplicateKeyException e) {
+            rows.forEach(this::insertIfAbsent);
+        }
+    }
+
+    private void insertIfAbsent(PointBalance row) {
+        // JdbcTemplate 는 예외가 나도 트랜잭션을 rollback-only 로 만들지 않음 (repository 프록시와 다름)
+        try {
+            jdbcTemplate.update(INSERT_IF_ABSENT_SQL, insertArgs(row));
+        } catch (DuplicateKeyException ignore) {
+            // 다른 요청이 먼저 만들었음 → 이어지는 UPDATE 가 그 row 를 잠금
+        }
+    }
+
+    private static Object[] insertArgs(PointBalance b) {
+        Timestamp now = Timestamp.from(b.getCheckpointedAt());
+        return new Object[]{
+                UUID.randomUUID().toString(),
+                b.getUserId().toString(),
+                b.getEarnedTotal(),
+                b.getUsedTotal(),
+                b.getExpiredTotal(),
+                b.getBalance(),
+                now,
+                now,
+                b.getUserId().toString()
+        };
+    }
+
+    /** userId → [earned, used, expired] (원장에 없는 user 는 빠짐) */
+    private Map<UUID, BigDecimal[]> ledgerSums(List<UUID> userIds) {
+        Map<UUID, BigDecimal[]> sums = new HashMap<>();
+        for (Object[] row : pointRepository.sumEarnedUsedExpiredByUsers(userIds)) {
+            sums.put((UUID) row[0], new BigDecimal[]{nz((BigDecimal) row[1]), nz((BigDecimal) row[2]), nz((BigDecimal) row[3])});
+        }
+        return sums;
+    }
+
+    private static PointBalance fromLedger(UUID userId, Map<UUID, BigDecimal[]> sums, Instant now) {
+        BigDecimal[] s = sums.getOrDefault(userId,
+                new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+        return PointBalance.builder()
+                .userId(userId)
+                .earnedTotal(s[0])
+                .usedTotal(s[1])
+                .expiredTotal(s[2])
+                .balance(s[0].subtract(s[1]).subtract(s[2]))
+                .checkpointedAt(now)
+                .build();
+    }
+
+    private static void requireRow(int updated, UUID userId) {
+        if (updated == 0) {
+            throw new IllegalStateException("point_balance row 가 없습니다 (point INSERT 전에 ensureRow 필요): " + userId);
+        }
+    }
+
+    /**
+     * 오래된 lot 부터 amount 만큼 remaining 차감 (debit 의 잔액 row 잠금 아래에서만 호출).
+     * lot 합계가 모자라면 (soft delete 정정 등으로 잔액과 어긋난 경우) 가능한 만큼만 차감하고 경고.
+     */
+    private void consumeLots(UUID userId, BigDecimal amount) {
+        fillLegacyLots(userId, amount);
+
+        BigDecimal left = amount;
+        while (left.signum() > 0) {
+            List<Point> lots = pointRepository.findOpenLots(userId, PageRequest.of(0, LOT_PAGE));
+            for (Point lot : lots) {
+                BigDecimal take = lot.getRemainingAmount().min(left);
+                lot.setRemainingAmount(lot.getRemainingAmount().subtract(take));
+                left = left.subtract(take);
+                if (left.signum() == 0) {
+                    break;
+                }
+            }
+            if (lots.size() < LOT_PAGE) {
+                break;
+            }
+        }
+        if (left.signum() > 0) {
+            log.warn("point lots short of balance userId={} unconsumed={}", userId, left);
+        }
+    }
+
+    /**
+     * USED 정정으로 돌아온 금액을 lot 에 되돌림 (reverse 의 잔액 row 잠금 아래에서만 호출).
+     * 어느 lot 에서 차감했는지는 기록하지 않으므로 FIFO 의 역순 (최근 lot 부터, 원래 적립액까지) 으로 채운다.
+     * 이미 만료된 lot 으로 돌아간 금액은 다음 sweep 에서 다시 만료된다 (사용하지 않았다면 만료됐을 금액).
+     * 남는 금액은 lot 도입 전 적립분이 있으면 다음 사용 시 fillLegacyLots 가 잔액 기준으로 흡수.
+     */
+    private void restoreLots(UUID userId, BigDecimal amount) {
+        BigDecimal left = amount;
+        while (left.signum() > 0) {
+            List<Point> lots = pointRepository.findConsumedLotsNewestFirst(userId, PageRequest.of(0, LOT_PAGE));
+            for (Point lot : lots) {
+                BigDecimal give = lot.getAmount().subtract(lot.getRemainingAmount()).min(left);
+                lot.setRemainingAmount(lot.getRemainingAmount().add(give));
+                left = left.subtract(give);
+                if (left.signum() == 0) {
+                    break;
+                }
+            }
+            if (lots.size() < LOT_PAGE) {
+                break;
+            }
+        }
+        if (left.signum() > 0 && pointRepository.findLegacyLotsNewestFirst(userId).isEmpty()) {
+            log.warn("point lots full, reversed amount not restored userId={} unrestored={}", userId, left);
+        }
+    }
+
+    /**
+     * lot 도입 전 적립분(remaining 미설정) 채우기.
+     * 차감 직전 잔액 중 lot 으로 잡히지 않은 만큼이 예전 적립분의 남은 금액 → 최신 적립분부터 채우고 나머지는 0 (FIFO 로 이미 소진).
+     * 예전 적립분은 만료일 없음.
+     */
+    private void fillLegacyLots(UUID userId, BigDecimal debited) {
+        List<Point> legacy = pointRepository.findLegacyLotsNewestFirst(userId);
+        if (legacy.isEmpty()) {
+            return;
+        }
+        BigDecimal before = balanceRepository.findBalanceValue(userId).orElse(BigDecimal.ZERO).add(debited);
+        BigDecimal keep = before.subtract(nz(pointRepository.sumLotRemainingByUser(userId))).max(BigDecimal.ZERO);
+
+        for (Point lot : legacy) {
+            BigDecimal remaining = lot.getAmount().min(keep);
+            lot.setRemainingAmount(remaining);
+            keep = keep.subtract(remaining);
+        }
+    }
+
+    private static BigDecimal nz(BigDecimal v) {
+        return v == null ? BigDecimal.ZERO : v;
+    }
+}
@@ -0,0 +1,274 @@
+package com.moden.modenapi.modules.point.service;
+
+import com.moden.modenapi.common.enums.PointGrantStatus;
+import com.moden.modenapi.common.enums.PointType;
+import com.moden.modenapi.modules.customer.repository.CustomerDetailRepository;
+import com.moden.modenapi.modules.point.dto.PointBulkGrantReq;
+import com.moden.modenapi.modules.point.dto.PointGrantJobRes;
+import com.moden.modenapi.modules.point.model.Point;
+import com.moden.modenapi.modules.point.model.PointGrantJob;
+import com.moden.modenapi.modules.point.model.PointGrantTarget;
+import com.moden.modenapi.modules.point.repository.PointGrantJobRepository;
+import com.moden.modenapi.modules.point.repository.PointGrantTargetRepository;
+import com.moden.modenapi.modules.point.repository.PointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 일괄 포인트 지급 (캠페인 / VIP 지급 등).
+ *
+ *  - 생성: 대상 userId 를 point_grant_target 으로 고정 (명시 목록은 스튜디오 고객만 남김) → QUEUED 로 바로 응답
+ *  - worker: 2초마다 작업 1개를 선점(locked_until)해서 seq 순서로 다음 chunk 1개만 처리하고 선점 해제
+ *    (스케줄러 스레드를 chunk 1개 시간만 씀 → OutboxRelay / SSE heartbeat 등 다른 @Scheduled 가 밀리지 않음)
+ *    chunk 1개 = 트랜잭션 1개: 진행 cursor 갱신 → 잔액 set-based 적립 → point lot saveAll (JDBC batch)
+ *  - 다음 chunk 는 다음 tick 에 아무 인스턴스나 last_seq 다음부터 이어서 (같은 chunk 두 번 지급 없음)
+ *  - chunk 실패 시 backoff 후 재시도, MAX_ATTEMPTS 넘으면 FAILED (그때까지 지급분은 유지)
+ */
+@Slf4j
+@Service
+public class PointBulkGrantService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_TARGETS = 20_000;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int ID_QUERY_BATCH = 1_000;   // SQL Server 파라미터 2100 개 제한
+    private static final Duration LOCK_DURATION = Duration.ofMinutes(2);
+
+    private final PointGrantJobRepository jobRepository;
+    private final PointGrantTargetRepository targetRepository;
+    private final PointRepository pointRepository;
+    private final PointBalanceService pointBalanceService;
+    private final CustomerDetailRepository customerRepository;
+    private final TransactionTemplate requiresNew;
+
+    // 적립 lot 유효기간 (일), PointService 와 같은 설정
+    @Value("${point.expiry-days:0}")
+    private int expiryDays;
+
+    public PointBulkGrantService(PointGrantJobRepository jobRepository,
+                                 PointGrantTargetRepository targetRepository,
+                                 PointRepository pointRepository,
+                                 PointBalanceService pointBalanceService,
+                                 CustomerDetailRepository customerRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.targetRepository = targetRepository;
+        this.pointRepository = pointRepository;
+        this.pointBalanceService = pointBalanceService;
+        this.customerRepository = customerRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ----------------------------------------------------------------------
+    // 생성 / 조회
+    // ----------------------------------------------------------------------
+    @Transactional
+    public PointGrantJobRes create(UUID studioId, UUID requestedBy, PointBulkGrantReq req) {
+        BigDecimal amount = req.amount();
+        if (amount == null || amount.signum() <= 0 || amount.stripTrailingZeros().scale() > 2) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "amount must be positive with at most 2 decimals");
+        }
+        String title = (req.title() == null || req.title().isBlank()) ? "Studio Point" : req.title().trim();
+
+        List<UUID> targets;
+        int skipped = 0;
+        if (req.userIds() != null && !req.userIds().isEmpty()) {
+            List<UUID> requested = new ArrayList<>(new LinkedHashSet<>(req.userIds()));
+            checkLimit(requested.size());
+            targets = filterStudioCustomers(studioId, requested);
+            skipped = requested.size() - targets.size();
+        } else {
+            targets = customerRepository.findUserIdsForPointGrant(
+                    studioId,
+                    req.designerId(),
+                    Boolean.TRUE.equals(req.marketingConsentOnly()),
+                    req.joinedFrom() == null ? null : req.joinedFrom().atStartOfDay(PointService.ZONE_ID).toInstant(),
+                    req.joinedTo() == null ? null : req.joinedTo().plusDays(1).atStartOfDay(PointService.ZONE_ID).toInstant()
+            );
+            checkLimit(targets.size());
+        }
+
+        PointGrantJob job = jobRepository.save(PointGrantJob.builder()
+                .studioId(studioId)
+                .requestedBy(requestedBy)
+                .title(title)
+                .amount(amount)
+                .status(targets.isEmpty() ? PointGrantStatus.COMPLETED : PointGrantStatus.QUEUED)
+                .totalCount(targets.size())
+                .skippedCount(skipped)
+                .finishedAt(targets.isEmpty() ? Instant.now() : null)
+                .build());
+
+        List<PointGrantTarget> rows = new ArrayList<>(targets.size());
+        int seq = 0;
+        for (UUID userId : targets) {
+            rows.add(PointGrantTarget.builder()
+                    .jobId(job.getId())
+                    .seq(++seq)
+                    .userId(userId)
+                    .build());
+        }
+        targetRepository.saveAll(rows);
+
+        log.info("Point bulk grant queued. jobId={}, studioId={}, targets={}, skipped={}, amount={}",
+                job.getId(), studioId, targets.size(), skipped, amount);
+        return toRes(job);
+    }
+
+    @Transactional(readOnly = true)
+    public PointGrantJobRes get(UUID studioId, UUID jobId) {
+        return jobRepository.findByIdAndStudioId(jobId, studioId)
+                .map(this::toRes)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Point grant job not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PointGrantJobRes> list(UUID studioId) {
+        return jobRepository.findAllByStudioIdOrderByCreatedAtDesc(studioId, PageRequest.of(0, 50))
+                .stream()
+                .map(this::toRes)
+                .toList();
+    }
+
+    // ----------------------------------------------------------------------
+    // worker
+    // ----------------------------------------------------------------------
+    @Scheduled(initialDelay = 15_000, fixedDelay = 2_000)
+    public void drain() {
+        Instant now = Instant.now();
+        for (UUID jobId : jobRepository.findRunnable(now, PageRequest.of(0, 10))) {
+            Integer claimed = requiresNew.execute(status ->
+                    jobRepository.claim(jobId, now, now.plus(LOCK_DURATION)));
+            if (claimed == null || claimed == 0) {
+                continue;   // 다른 인스턴스가 처리 중
+            }
+            try {
+                runChunk(jobId);
+            } catch (RuntimeException e) {
+                PointGrantJob job = jobRepository.findById(jobId).orElse(null);
+                int attempts = job == null ? 1 : job.getAttempts() + 1;
+                String message = String.valueOf(e);
+                log.warn("Point bulk grant chunk failed. jobId={}, attempt={}", jobId, attempts, e);
+                requiresNew.executeWithoutResult(status -> jobRepository.markRetry(
+                        jobId,
+                        Instant.now().plus(Duration.ofSeconds(30L * attempts)),
+                        message.length() > 1000 ? message.substring(0, 1000) : message,
+                        MAX_ATTEMPTS
+                ));
+            }
+            return;   // tick 당 chunk 1개
+        }
+    }
+
+    /** 선점한 작업의 다음 chunk 1개 처리 → 선점 해제 (마지막 chunk 면 같은 트랜잭션에서 완료 처리) */
+    private void runChunk(UUID jobId) {
+        PointGrantJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        int fromSeq = job.getLastSeq();
+
+        List<PointGrantTarget> chunk = targetRepository.findChunk(jobId, fromSeq, PageRequest.of(0, CHUNK_SIZE));
+        if (chunk.isEmpty()) {
+            requiresNew.executeWithoutResult(status ->
+                    jobRepository.finish(jobId, PointGrantStatus.COMPLETED, Instant.now()));
+            log.info("Point bulk grant completed. jobId={}, granted={}", jobId, job.getTotalCount());
+            return;
+        }
+
+        int toSeq = chunk.get(chunk.size() - 1).getSeq();
+        List<UUID> userIds = chunk.stream().map(PointGrantTarget::getUserId).toList();
+        boolean last = toSeq >= job.getTotalCount();
+
+        Boolean advanced = requiresNew.execute(status -> {
+            // lockedUntil = now → 커밋되면 바로 다음 tick 에서 다시 선점 가능
+            if (jobRepository.advance(jobId, fromSeq, toSeq, chunk.size(), Instant.now()) == 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            grantChunk(job, userIds);
+            if (last) {
+                jobRepository.finish(jobId, PointGrantStatus.COMPLETED, Instant.now());
+            }
+            return true;
+        });
+        if (!Boolean.TRUE.equals(advanced)) {
+            log.warn("Point bulk grant lost its claim. jobId={}, seq={}", jobId, fromSeq);
+        } else if (last) {
+            log.info("Point bulk grant completed. jobId={}, granted={}", jobId, job.getTotalCount());
+        }
+    }
+
+    /** 잔액 먼저 (없는 row 생성 → row 잠금) → lot INSERT */
+    private void grantChunk(PointGrantJob job, List<UUID> userIds) {
+        pointBalanceService.ensureRows(userIds);   // 원장 합계는 lot INSERT 전에
+        pointBalanceService.creditAll(userIds, job.getAmount());
+
+        Instant expiresAt = PointService.lotExpiresAt(expiryDays, Instant.now());
+        List<Point> points = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            points.add(Point.builder()
+                    .userId(userId)
+                    .title(job.getTitle())
+                    .type(PointType.EARNED)
+                    .amount(job.getAmount())
+                    .remainingAmount(job.getAmount())
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        pointRepository.saveAll(points);
+    }
+
+    // ----------------------------------------------------------------------
+    // helpers
+    // ----------------------------------------------------------------------
+    private List<UUID> filterStudioCustomers(UUID studioId, List<UUID> requested) {
+        Set<UUID> valid = new HashSet<>();
+        for (int i = 0; i < requested.size(); i += ID_QUERY_BATCH) {
+            List<UUID> part = requested.subList(i, Math.min(i + ID_QUERY_BATCH, requested.size()));
+            valid.addAll(customerRepository.findUserIdsInStudio(studioId, part));
+        }
+        return requested.stream().filter(valid::contains).toList();
+    }
+
+    private static void checkLimit(int size) {
+        if (size > MAX_TARGETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 최대 " + MAX_TARGETS + "명까지 지급할 수 있습니다. (대상: " + size + "명)");
+        }
+    }
+
+    private PointGrantJobRes toRes(PointGrantJob j) {
+        int percent = j.getTotalCount() == 0
+                ? 100
+                : (int) ((long) j.getProcessedCount() * 100 / j.getTotalCount());
+        return new PointGrantJobRes(
+                j.getId(),
+                j.getStatus(),
+                j.getTitle(),
+                j.getAmount(),
+                j.getTotalCount(),
+                j.getSkippedCount(),
+                j.getProcessedCount(),
+                percent,
+                j.getLastError(),
+                j.getCreatedAt(),
+                j.getFinishedAt()
+        );
+    }
+}
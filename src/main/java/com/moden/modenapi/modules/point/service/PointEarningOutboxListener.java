@@ -0,0 +1,52 @@
+package com.moden.modenapi.modules.point.service;
+
+import com.moden.modenapi.common.enums.OutboxEventType;
+import com.moden.modenapi.common.enums.PointType;
+import com.moden.modenapi.common.model.OutboxEvent;
+import com.moden.modenapi.common.service.OutboxListener;
+import com.moden.modenapi.common.service.OutboxService;
+import com.moden.modenapi.modules.payment.event.PaymentConfirmedMessage;
+import com.moden.modenapi.modules.point.repository.PointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 확정 → 고객 포인트 적립 (스튜디오 적립률 기준).
+ * 결제 1건당 한 번만 적립 (재확정 시 추가 적립 없음).
+ */
+@Component
+@RequiredArgsConstructor
+public class PointEarningOutboxListener implements OutboxListener {
+
+    private final OutboxService outboxService;
+    private final PointService pointService;
+    private final PointRepository pointRepository;
+
+    @Override
+    public String name() {
+        return "point-earning";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return type == OutboxEventType.PAYMENT_CONFIRMED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        PaymentConfirmedMessage m = outboxService.payload(event, PaymentConfirmedMessage.class);
+
+        if (m.customerId() == null
+                || m.totalAmount() == null
+                || m.totalAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            return;
+        }
+        if (pointRepository.existsByPaymentIdAndTypeAndDeletedAtIsNull(m.paymentId(), PointType.EARNED)) {
+            return;
+        }
+
+        pointService.earnFromPayment(m.studioId(), m.customerId(), m.paymentId(), m.totalAmount());
+    }
+}
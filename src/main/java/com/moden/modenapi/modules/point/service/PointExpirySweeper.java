@@ -0,0 +1,99 @@
+package com.moden.modenapi.modules.point.service;
+
+import com.moden.modenapi.common.enums.PointType;
+import com.moden.modenapi.modules.point.model.Point;
+import com.moden.modenapi.modules.point.repository.PointBalanceRepository;
+import com.moden.modenapi.modules.point.repository.PointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 만료된 포인트 lot 야간 정리.
+ *
+ *  - user 단위 배치 (배치마다 별도 트랜잭션, 바로 커밋)
+ *  - 잔액 row 차감 → EXPIRED 원장 기록 → lot remaining 0, 모두 set-based UPDATE
+ *  - 잔액 row 를 먼저 잠그므로 같은 user 의 포인트 사용(debit)과는 순서대로 처리됨
+ *  - 만료 시각이 지났어도 sweeper 가 돌기 전까지는 사용 가능 (사용 시 오래된 lot 부터 소진)
+ */
+@Slf4j
+@Component
+public class PointExpirySweeper {
+
+    private static final int BATCH_USERS = 200;
+    private static final String EXPIRED_TITLE = "Point Expired";
+
+    private final PointRepository pointRepository;
+    private final PointBalanceRepository balanceRepository;
+    private final TransactionTemplate requiresNew;
+
+    public PointExpirySweeper(PointRepository pointRepository,
+                              PointBalanceRepository balanceRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.pointRepository = pointRepository;
+        this.balanceRepository = balanceRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(cron = "0 10 3 * * *", zone = "Asia/Tashkent")
+    public void sweep() {
+        Instant now = Instant.now();
+        int users = 0;
+        int lots = 0;
+
+        List<UUID> batch;
+        do {
+            batch = pointRepository.findUsersWithExpiredLots(now, PageRequest.of(0, BATCH_USERS));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<UUID> userIds = batch;
+            Integer expired = requiresNew.execute(status -> expireBatch(userIds, now));
+            if (expired == null || expired == 0) {
+                break;   // 다른 인스턴스가 먼저 처리 → 다음 주기에
+            }
+            users += batch.size();
+            lots += expired;
+        } while (batch.size() == BATCH_USERS);
+
+        if (users > 0) {
+            log.info("Point expiry sweep: {} users, {} lots expired (cutoff={})", users, lots, now);
+        }
+    }
+
+    /** @return 만료 처리한 lot 수 */
+    int expireBatch(List<UUID> userIds, Instant now) {
+        // 1) 잔액 row 잠금 + 차감 (lot 보다 먼저)
+        balanceRepository.applyExpiry(userIds, now);
+
+        // 2) 원장에 EXPIRED 기록 (user 별 합계 1건)
+        List<Point> ledger = new ArrayList<>();
+        for (Object[] row : pointRepository.sumExpiringByUsers(userIds, now)) {
+            BigDecimal amount = (BigDecimal) row[1];
+            if (amount == null || amount.signum() <= 0) {
+                continue;
+            }
+            ledger.add(Point.builder()
+                    .userId((UUID) row[0])
+                    .title(EXPIRED_TITLE)
+                    .type(PointType.EXPIRED)
+                    .amount(amount)
+                    .build());
+        }
+        pointRepository.saveAll(ledger);
+
+        // 3) lot 잔여 0
+        return pointRepository.expireLots(userIds, now);
+    }
+}
@@ -4,8 +4,12 @@ import com.moden.modenapi.common.enums.PointType;
 import com.moden.modenapi.common.service.BaseService;
 import com.moden.modenapi.modules.point.dto.*;
 import com.moden.modenapi.modules.point.model.Point;
+import com.moden.modenapi.modules.point.model.PointBalance;
 import com.moden.modenapi.modules.point.repository.PointRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +18,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -27,6 +32,11 @@ public class PointService extends BaseService<Point> {
 
     private final PointRepository pointRepository;
     private final StudioPointPolicyService studioPointPolicyService;
+    private final PointBalanceService pointBalanceService;
+
+    // 적립 lot 유효기간 (일), 0 이하면 만료 없음 (application.yml point.expiry-days)
+    @Value("${point.expiry-days:0}")
+    private int expiryDays;
 
     @Override
     protected PointRepository getRepository() {
@@ -52,28 +62,52 @@ public class PointService extends BaseService<Point> {
 
     /* ================== Customer용 리스트 ================== */
     // Agar timezone aniq bo‘lsa, shuni qo‘ying
-    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Tashkent");
+    static final ZoneId ZONE_ID = ZoneId.of("Asia/Tashkent");
     // private static final ZoneId ZONE_ID = ZoneId.systemDefault();
 
+    private static final int DEFAULT_HISTORY_SIZE = 20;
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    /**
+     * 고객 포인트 히스토리 (createdAt DESC, id DESC).
+     * 기간 / type 조건은 DB 에서 거르고, cursor 가 있으면 그 다음 행부터 (keyset, OFFSET 없음).
+     * limit + 1 개를 읽어서 다음 페이지 존재 여부만 판단 (COUNT 없음).
+     */
     @Transactional(readOnly = true)
-    public List<PointCustomerRes> listForCustomer(UUID userId, PointType type, String period) {
-        List<Point> base;
-        if (type != null) {
-            base = pointRepository.findAllByUserIdAndTypeAndDeletedAtIsNull(userId, type);
+    public PointCustomerPageRes listForCustomer(
+            UUID userId,
+            PointType type,
+            String period,
+            String cursor,
+            Integer size
+    ) {
+        int limit = (size == null || size < 1) ? DEFAULT_HISTORY_SIZE : Math.min(size, MAX_HISTORY_SIZE);
+        Instant from = resolveFromForPeriod(period);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<Point> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            PointCursor after = PointCursor.decode(cursor);
+            rows = pointRepository.findCustomerHistoryAfter(
+                    userId, type, from, after.createdAt(), after.id(), pageable
+            );
         } else {
-            base = pointRepository.findAllByUserIdAndDeletedAtIsNullOrderByCreatedAtDesc(userId);
+            rows = pointRepository.findCustomerHistory(userId, type, from, pageable);
         }
 
-        Instant from = resolveFromForPeriod(period);
+        boolean hasMore = rows.size() > limit;
+        List<Point> page = hasMore ? rows.subList(0, limit) : rows;
 
-        return base.stream()
-                .filter(p -> {
-                    if (from == null) return true;       // ALL
-                    Instant c = p.getCreatedAt();
-                    return !c.isBefore(from);             // createdAt >= from
-                })
-                .map(this::mapToCustomerRes)
-                .toList();
+        String nextCursor = (hasMore && !page.isEmpty())
+                ? PointCursor.of(page.get(page.size() - 1)).encode()
+                : null;
+
+        return new PointCustomerPageRes(
+                limit,
+                page.stream().map(this::mapToCustomerRes).toList(),
+                hasMore,
+                nextCursor
+        );
     }
 
 
@@ -140,15 +174,19 @@ public class PointService extends BaseService<Point> {
 
         BigDecimal pointAmount = raw.setScale(2, RoundingMode.DOWN);
 
+        pointBalanceService.ensureRow(userId);
         Point point = Point.builder()
                 .userId(userId)
                 .paymentId(paymentId)
                 .title("Payment Point")
                 .type(PointType.EARNED)   // ✅ enum 이름과 일치
                 .amount(pointAmount)
+                .remainingAmount(pointAmount)
+                .expiresAt(lotExpiresAt())
                 .build();
 
         point = create(point);
+        pointBalanceService.credit(point.getUserId(), point.getAmount());
         return mapToRes(point);
     }
 
@@ -163,18 +201,47 @@ public class PointService extends BaseService<Point> {
                 ? "Studio Point"     // ✅ studio가 준 기본 point
                 : req.title().trim();
 
+        pointBalanceService.ensureRow(req.userId());
         Point point = Point.builder()
                 .userId(req.userId())
                 .paymentId(null)
                 .title(title)
                 .type(PointType.EARNED)
                 .amount(req.amount())
+                .remainingAmount(req.amount())
+                .expiresAt(lotExpiresAt())
                 .build();
 
         point = create(point);
+        pointBalanceService.credit(point.getUserId(), point.getAmount());
         return mapToRes(point);
     }
 
+    private Instant lotExpiresAt() {
+        return lotExpiresAt(expiryDays, Instant.now());
+    }
+
+    /** 적립 lot 만료 시각 (expiryDays <= 0 → null = 만료 없음) */
+    static Instant lotExpiresAt(int expiryDays, Instant now) {
+        return expiryDays > 0 ? now.plus(Duration.ofDays(expiryDays)) : null;
+    }
+
+    /* ================== DELETE ================== */
+
+    /** soft delete + 잔액에서 해당 금액 되돌림 (이미 삭제된 건은 무시) */
+    @Override
+    public void softDelete(UUID pointId) {
+        Point point = pointRepository.findById(pointId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Point not found"));
+        if (point.getDeletedAt() != null) {
+            return;
+        }
+        pointBalanceService.ensureRow(point.getUserId());
+        point.setDeletedAt(Instant.now());
+        pointRepository.save(point);
+        pointBalanceService.reverse(point.getUserId(), point.getType(), point.getAmount());
+    }
+
     /* ================== LIST & SUMMARY (Studio/Admin용) ================== */
 
     @Transactional(readOnly = true)
@@ -203,28 +270,15 @@ public class PointService extends BaseService<Point> {
 
     @Transactional(readOnly = true)
     public PointSummaryRes getSummary(UUID userId) {
-        BigDecimal earned = pointRepository.sumEarnedByUser(userId);
-        BigDecimal used   = pointRepository.sumUsedByUser(userId);
-
-        if (earned == null) earned = BigDecimal.ZERO;
-        if (used   == null) used   = BigDecimal.ZERO;
-
-        BigDecimal balance = earned.subtract(used);
-        return new PointSummaryRes(earned, used, balance);
+        PointBalance b = pointBalanceService.getSnapshot(userId);
+        return new PointSummaryRes(b.getEarnedTotal(), b.getUsedTotal(), b.getBalance());
     }
 
 
 
     @Transactional(readOnly = true)
     public PointActiveSummaryRes getActiveSummary(UUID userId) {
-        BigDecimal earned = pointRepository.sumEarnedByUser(userId);
-        BigDecimal used   = pointRepository.sumUsedByUser(userId);
-
-        if (earned == null) earned = BigDecimal.ZERO;
-        if (used   == null) used   = BigDecimal.ZERO;
-
-        BigDecimal active = earned.subtract(used);
-        return new PointActiveSummaryRes(active);
+        return new PointActiveSummaryRes(pointBalanceService.getBalance(userId));
     }
 
 }
@@ -0,0 +1,89 @@
+package com.moden.modenapi.modules.point.service;
+
+import com.moden.modenapi.common.enums.PointType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * point.type CHECK 제약 마이그레이션 (SQL Server 전용).
+ *
+ *  - Hibernate 6 은 @Enumerated(STRING) 컬럼에 check (type in (...)) 를 만들지만
+ *    ddl-auto=update 는 기존 제약을 고치지 않음 → 기존 DB 는 ('EARNED','USED') 그대로라 EXPIRED insert 실패
+ *  - 기동 시 PointType 값을 모두 포함하지 않는 제약을 drop 하고 ck_point_type 으로 다시 생성
+ *  - 이미 맞는 제약만 있으면 아무것도 하지 않음 (재시작마다 실행해도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointTypeConstraintMigration {
+
+    static final String CONSTRAINT_NAME = "ck_point_type";
+
+    private static final String FIND_CONSTRAINTS_SQL = """
+        SELECT cc.name, cc.definition
+        FROM sys.check_constraints cc
+        JOIN sys.columns col
+          ON col.object_id = cc.parent_object_id
+         AND col.column_id = cc.parent_column_id
+        WHERE cc.parent_object_id = OBJECT_ID('dbo.point')
+          AND col.name = 'type'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (!isSqlServer()) {
+                return;
+            }
+
+            List<String[]> constraints = jdbcTemplate.query(FIND_CONSTRAINTS_SQL,
+                    (rs, i) -> new String[]{rs.getString(1), rs.getString(2)});
+
+            boolean upToDate = false;
+            for (String[] c : constraints) {
+                if (coversAllTypes(c[1])) {
+                    upToDate = true;
+                    continue;
+                }
+                jdbcTemplate.execute("ALTER TABLE point DROP CONSTRAINT [" + c[0].replace("]", "]]") + "]");
+                log.info("Dropped stale point.type check constraint {} ({})", c[0], c[1]);
+            }
+
+            if (!upToDate) {
+                String values = Arrays.stream(PointType.values())
+                        .map(t -> "'" + t.name() + "'")
+                        .collect(Collectors.joining(","));
+                jdbcTemplate.execute("ALTER TABLE point ADD CONSTRAINT " + CONSTRAINT_NAME
+                        + " CHECK (type IN (" + values + "))");
+                log.info("Created point.type check constraint {} ({})", CONSTRAINT_NAME, values);
+            }
+        } catch (Exception e) {
+            log.warn("point.type check constraint migration failed", e);
+        }
+    }
+
+    private boolean isSqlServer() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("sql server");
+    }
+
+    private static boolean coversAllTypes(String definition) {
+        if (definition == null) {
+            return false;
+        }
+        return Arrays.stream(PointType.values())
+                .allMatch(t -> definition.contains("'" + t.name() + "'"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.moden.modenapi.modules.point.service;
+
+import com.moden.modenapi.common.service.CacheInvalidationBus;
+import com.moden.modenapi.common.utils.LocalTtlCache;
+import com.moden.modenapi.modules.point.dto.StudioPointPolicyCacheStatsRes;
+import com.moden.modenapi.modules.point.model.StudioPointPolicy;
+import com.moden.modenapi.modules.point.repository.StudioPointPolicyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 스튜디오별 포인트 적립률 캐시 (in-memory).
+ *
+ *  - 정책이 없는 스튜디오도 "없음" 으로 캐시 (기본 적립률은 조회 시점에 StudioPointPolicyService 가 적용)
+ *  - upsert / 삭제 시 invalidate, 커밋되면 CacheInvalidationBus 로 다른 인스턴스에 전달
+ *  - 기본 bus (NO_OP) 면 다른 인스턴스의 변경은 TTL 로 반영
+ *  - 스튜디오 수 기준 LRU, hit / miss 카운터
+ */
+@Service
+public class StudioPointPolicyCache {
+
+    static final String CACHE_NAME = "studio-point-policy";
+
+    private final StudioPointPolicyRepository policyRepository;
+    private final CacheInvalidationBus invalidationBus;
+
+    /** 값 null → 정책 없음 (negative) */
+    private final LocalTtlCache<UUID, BigDecimal> cache = new LocalTtlCache<>(10_000, Duration.ofMinutes(10));
+
+    public StudioPointPolicyCache(StudioPointPolicyRepository policyRepository,
+                                  CacheInvalidationBus invalidationBus) {
+        this.policyRepository = policyRepository;
+        this.invalidationBus = invalidationBus;
+        // 다른 인스턴스에서 온 무효화 → 로컬에서만 제거 (다시 publish 하지 않음)
+        invalidationBus.subscribe(CACHE_NAME, cache::invalidate);
+    }
+
+    /** 스튜디오 적립률, 정책이 없으면 null */
+    public BigDecimal rateOrNull(UUID studioId) {
+        return cache.get(studioId, id -> policyRepository.findByStudioIdAndDeletedAtIsNull(id)
+                .map(StudioPointPolicy::getPointRate)
+                .orElse(null));
+    }
+
+    /** 정책 변경 시 호출 (트랜잭션 안이면 커밋/롤백 후에도 제거, 커밋되면 다른 인스턴스에 전달) */
+    public void invalidate(UUID studioId) {
+        cache.invalidate(studioId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidationBus.publish(CACHE_NAME, studioId);
+                }
+            });
+        } else {
+            invalidationBus.publish(CACHE_NAME, studioId);
+        }
+    }
+
+    public StudioPointPolicyCacheStatsRes stats() {
+        long h = cache.hits();
+        long nh = cache.negativeHits();
+        long m = cache.misses();
+        long total = h + nh + m;
+        return new StudioPointPolicyCacheStatsRes(
+                cache.size(),
+                h,
+                nh,
+                m,
+                cache.invalidations(),
+                total == 0 ? 0.0 : (double) (h + nh) / total
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.moden.modenapi.modules.point.service;
 
 import com.moden.modenapi.common.service.BaseService;
+import com.moden.modenapi.modules.point.dto.StudioPointPolicyCacheStatsRes;
 import com.moden.modenapi.modules.point.dto.StudioPointPolicyReq;
 import com.moden.modenapi.modules.point.dto.StudioPointPolicyRes;
 import com.moden.modenapi.modules.point.dto.StudioPointPolicyUpdateReq;
@@ -22,6 +23,7 @@ import java.util.UUID;
 public class StudioPointPolicyService extends BaseService<StudioPointPolicy> {
 
     private final StudioPointPolicyRepository policyRepository;
+    private final StudioPointPolicyCache policyCache;
 
     // Default earn rate if policy not set (e.g. 0.0 or 5.0)
     @Value("${point.default-earn-rate:0.00}")
@@ -68,6 +70,7 @@ public class StudioPointPolicyService extends BaseService<StudioPointPolicy> {
 
         policy.setPointRate(req.pointRate());
         policy = policy.getId() == null ? create(policy) : update(policy);
+        policyCache.invalidate(studioId);
 
         return mapToRes(policy);
     }
@@ -77,11 +80,22 @@ public class StudioPointPolicyService extends BaseService<StudioPointPolicy> {
      * Paymentda point hisoblash uchun ishlatish mumkin:
      * - Agar policy bo‘lsa, o‘sha
      * - Aks holda defaultRate qaytaradi
+     * (StudioPointPolicyCache 경유, 정책 없음도 캐시)
      */
     @Transactional(readOnly = true)
     public BigDecimal resolveRateForStudio(UUID studioId) {
-        return policyRepository.findByStudioIdAndDeletedAtIsNull(studioId)
-                .map(StudioPointPolicy::getPointRate)
-                .orElse(defaultRate);
+        BigDecimal rate = policyCache.rateOrNull(studioId);
+        return rate != null ? rate : defaultRate;
+    }
+
+    @Override
+    public void softDelete(UUID policyId) {
+        StudioPointPolicy policy = readById(policyId);
+        super.softDelete(policyId);
+        policyCache.invalidate(policy.getStudioId());
+    }
+
+    public StudioPointPolicyCacheStatsRes cacheStats() {
+        return policyCache.stats();
     }
 }
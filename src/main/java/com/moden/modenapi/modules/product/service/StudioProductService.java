@@ -8,6 +8,7 @@ import com.moden.modenapi.modules.product.dto.StudioProductUpdateReq;
 import com.moden.modenapi.modules.product.model.StudioProduct;
 import com.moden.modenapi.modules.product.repository.StudioProductRepository;
 import com.moden.modenapi.modules.studio.repository.HairStudioDetailRepository;
+import com.moden.modenapi.modules.studioservice.service.StudioPriceTableCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.GrantedAuthority;
@@ -29,6 +30,7 @@ public class StudioProductService extends BaseService<StudioProduct> {
     private final StudioProductRepository productRepository;
     private final HairStudioDetailRepository studioDetailRepository;
     private final DesignerDetailRepository designerDetailRepository;
+    private final StudioPriceTableCache priceTableCache;
 
     @Override
     protected StudioProductRepository getRepository() {
@@ -55,7 +57,9 @@ public class StudioProductService extends BaseService<StudioProduct> {
                 .designerTipPercent(req.designerTipPercent())
                 .build();
 
-        return mapToRes(productRepository.save(p));
+        StudioProduct saved = productRepository.save(p);
+        priceTableCache.invalidate(studioId);
+        return mapToRes(saved);
     }
 
     // ================= UPDATE =================
@@ -70,6 +74,7 @@ public class StudioProductService extends BaseService<StudioProduct> {
         if (req.designerTipPercent() != null) p.setDesignerTipPercent(req.designerTipPercent());
 
         p.setUpdatedAt(Instant.now());
+        priceTableCache.invalidate(studioId);
         return mapToRes(p);
     }
 
@@ -80,6 +85,7 @@ public class StudioProductService extends BaseService<StudioProduct> {
 
         p.setDeletedAt(Instant.now());
         productRepository.save(p);
+        priceTableCache.invalidate(studioId);
     }
 
     // ================= GET ONE =================
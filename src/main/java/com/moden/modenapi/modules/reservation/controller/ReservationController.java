@@ -2,11 +2,20 @@ package com.moden.modenapi.modules.reservation.controller;
 
 import com.moden.modenapi.common.enums.ReservationStatus;
 import com.moden.modenapi.common.response.ResponseMessage;
+import com.moden.modenapi.common.service.IdempotencyService;
+import com.moden.modenapi.modules.reservation.dto.DesignerAvailabilityRes;
 import com.moden.modenapi.modules.reservation.dto.ReservationCreateRequest;
 import com.moden.modenapi.modules.reservation.dto.ReservationPageRes;
 import com.moden.modenapi.modules.reservation.dto.ReservationResponse;
+import com.moden.modenapi.modules.reservation.dto.ReservationSeriesCreateReq;
+import com.moden.modenapi.modules.reservation.dto.ReservationSeriesRes;
 import com.moden.modenapi.modules.reservation.dto.ReservationUpdateRequest;
+import com.moden.modenapi.modules.reservation.dto.WaitlistCreateReq;
+import com.moden.modenapi.modules.reservation.dto.WaitlistRes;
+import com.moden.modenapi.modules.reservation.service.DesignerAvailabilityService;
+import com.moden.modenapi.modules.reservation.service.ReservationSeriesService;
 import com.moden.modenapi.modules.reservation.service.ReservationService;
+import com.moden.modenapi.modules.reservation.service.WaitlistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -28,6 +37,10 @@ import java.util.UUID;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final DesignerAvailabilityService designerAvailabilityService;
+    private final ReservationSeriesService reservationSeriesService;
+    private final WaitlistService waitlistService;
+    private final IdempotencyService idempotencyService;
 
     // ============================================================
     // 1) LIST (filter + pagination)
@@ -47,7 +60,8 @@ public class ReservationController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
             LocalDate toDate,
             @RequestParam(required = false, defaultValue = "1") Integer page,
-            @RequestParam(required = false, defaultValue = "10") Integer size
+            @RequestParam(required = false, defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         var list = reservationService.searchDynamic(
                 designerId,
@@ -57,7 +71,8 @@ public class ReservationController {
                 fromDate,
                 toDate,
                 page,
-                size
+                size,
+                cursor
         );
         return ResponseEntity.ok(
                 ResponseMessage.success("Reservation filtered list (paged).", list)
@@ -73,11 +88,18 @@ public class ReservationController {
             consumes = MediaType.APPLICATION_JSON_VALUE
     )
     @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
-    @Operation(summary = "예약 생성 (JSON body 기반)")
+    @Operation(summary = "예약 생성 (JSON body 기반, Idempotency-Key 재시도 지원)")
     public ResponseEntity<ResponseMessage<ReservationResponse>> create(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ReservationCreateRequest request
     ) {
-        var response = reservationService.createReservation(request);
+        var response = idempotencyService.execute(
+                "RESERVATION_CREATE",
+                idempotencyKey,
+                request,
+                ReservationResponse.class,
+                () -> reservationService.createReservation(request)
+        );
 
         return ResponseEntity.ok(
                 ResponseMessage.success("예약이 생성되었습니다.", response)
@@ -151,4 +173,107 @@ public class ReservationController {
         );
     }
 
+    // ============================================================
+    // 7) 디자이너 예약 가능 시간 조회
+    // ============================================================
+    @Operation(summary = "디자이너 예약 가능 시간 조회 (선택한 서비스 소요 시간 기준)")
+    @GetMapping("/availability")
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER','CUSTOMER')")
+    public ResponseEntity<ResponseMessage<DesignerAvailabilityRes>> availability(
+            @RequestParam UUID designerId,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date,
+            @RequestParam(required = false) List<UUID> serviceIds,
+            @RequestParam(required = false) Integer stepMin
+    ) {
+        DesignerAvailabilityRes res =
+                designerAvailabilityService.findFreeSlots(designerId, date, serviceIds, stepMin);
+        return ResponseEntity.ok(
+                ResponseMessage.success("예약 가능 시간 조회가 완료되었습니다.", res)
+        );
+    }
+
+    // ============================================================
+    // 8) 정기 예약 생성 (회차 일괄 생성)
+    // ============================================================
+    @PostMapping(
+            value = "/series/create",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
+    @Operation(summary = "정기 예약 생성 (WEEKLY / BIWEEKLY / MONTHLY, 종료 날짜 또는 횟수)")
+    public ResponseEntity<ResponseMessage<ReservationSeriesRes>> createSeries(
+            @Valid @RequestBody ReservationSeriesCreateReq request
+    ) {
+        var response = reservationSeriesService.createSeries(request);
+
+        return ResponseEntity.ok(
+                ResponseMessage.success("정기 예약이 생성되었습니다.", response)
+        );
+    }
+
+    // ============================================================
+    // 9) 예약 대기 (취소 시 빈자리 자동 배정)
+    // ============================================================
+    @PostMapping(
+            value = "/waitlist/create",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER','CUSTOMER')")
+    @Operation(summary = "예약 대기 등록 (디자이너 / 날짜 / 희망 시간대)")
+    public ResponseEntity<ResponseMessage<WaitlistRes>> createWaitlist(
+            @Valid @RequestBody WaitlistCreateReq request
+    ) {
+        var response = waitlistService.create(request);
+        return ResponseEntity.ok(
+                ResponseMessage.success("예약 대기가 등록되었습니다.", response)
+        );
+    }
+
+    @GetMapping("/waitlist/list")
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
+    @Operation(summary = "예약 대기 목록 (헤어샵 / 날짜, 등록 순)")
+    public ResponseEntity<ResponseMessage<List<WaitlistRes>>> listWaitlist(
+            @RequestParam UUID studioId,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date
+    ) {
+        var list = waitlistService.listForStudio(studioId, date);
+        return ResponseEntity.ok(
+                ResponseMessage.success("예약 대기 목록 조회가 완료되었습니다.", list)
+        );
+    }
+
+    @GetMapping("/waitlist/my")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @Operation(summary = "내 예약 대기 목록 (오늘 이후, 제안 포함)")
+    public ResponseEntity<ResponseMessage<List<WaitlistRes>>> listMyWaitlist() {
+        var list = waitlistService.listMine(LocalDate.now());
+        return ResponseEntity.ok(
+                ResponseMessage.success("예약 대기 목록 조회가 완료되었습니다.", list)
+        );
+    }
+
+    @PatchMapping("/waitlist/accept/{id}")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @Operation(summary = "예약 대기 제안 수락 (OFFERED → 예약 생성)")
+    public ResponseEntity<ResponseMessage<WaitlistRes>> acceptWaitlistOffer(@PathVariable UUID id) {
+        var response = waitlistService.accept(id);
+        return ResponseEntity.ok(
+                ResponseMessage.success("예약 대기 제안이 수락되어 예약되었습니다.", response)
+        );
+    }
+
+    @PatchMapping("/waitlist/cancel/{id}")
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER','CUSTOMER')")
+    @Operation(summary = "예약 대기 취소")
+    public ResponseEntity<ResponseMessage<WaitlistRes>> cancelWaitlist(@PathVariable UUID id) {
+        var response = waitlistService.cancel(id);
+        return ResponseEntity.ok(
+                ResponseMessage.success("예약 대기가 취소되었습니다.", response)
+        );
+    }
+
 }
@@ -0,0 +1,23 @@
+package com.moden.modenapi.modules.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "디자이너 예약 가능 시간 응답 DTO")
+public record DesignerAvailabilityRes(
+
+        @Schema(description = "디자이너 ID (UUID)")
+        UUID designerId,
+
+        @Schema(description = "조회 날짜")
+        LocalDate date,
+
+        @Schema(description = "선택한 서비스 총 소요 시간 (분)")
+        int durationMin,
+
+        @Schema(description = "시작 가능 시간 목록 (HH:mm)", example = "[\"10:00\", \"10:10\"]")
+        List<String> freeStartTimes
+) {}
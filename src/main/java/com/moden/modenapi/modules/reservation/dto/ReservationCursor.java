@@ -0,0 +1,50 @@
+package com.moden.modenapi.modules.reservation.dto;
+
+import com.moden.modenapi.modules.reservation.model.Reservation;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 예약 목록 keyset 커서.
+ * 정렬 키 (reservationDate DESC, startTime DESC, id DESC) 의 마지막 값을
+ * "yyyy-MM-dd|HH:mm[:ss]|uuid" 형태로 묶어 URL-safe Base64 로 인코딩한다.
+ * 아직 백필 안 된 row (startTime null) 는 시간 자리에 "-" (같은 날짜 안에서 null 은 DESC 정렬의 맨 뒤).
+ */
+public record ReservationCursor(
+        LocalDate reservationDate,
+        LocalTime startTime,
+        UUID id
+) {
+
+    private static final String NULL_TIME = "-";
+
+    public static ReservationCursor of(Reservation r) {
+        return new ReservationCursor(r.getReservationDate(), r.getStartTime(), r.getId());
+    }
+
+    public String encode() {
+        String raw = reservationDate + "|" + (startTime == null ? NULL_TIME : startTime) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new ReservationCursor(
+                    LocalDate.parse(parts[0]),
+                    NULL_TIME.equals(parts[1]) ? null : LocalTime.parse(parts[1]),
+                    UUID.fromString(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다.");
+        }
+    }
+}
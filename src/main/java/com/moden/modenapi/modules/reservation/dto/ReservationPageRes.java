@@ -0,0 +1,18 @@
+package com.moden.modenapi.modules.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record ReservationPageRes(
+        @Schema(description = "전체 개수 (첫 페이지 / page 기반 조회만, cursor 조회면 null)")
+        Long totalCount,
+        int limit,
+
+        @Schema(description = "1-based page (page 기반 조회만, cursor 조회면 null)")
+        Integer page,
+        List<ReservationResponse> data, // 실제 목록
+
+        @Schema(description = "다음 페이지 커서 (keyset). 마지막 페이지면 null")
+        String nextCursor
+) {}
@@ -0,0 +1,48 @@
+package com.moden.modenapi.modules.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.moden.modenapi.common.enums.RecurrenceFrequency;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "정기 예약 생성 요청 DTO")
+public record ReservationSeriesCreateReq(
+
+        @Schema(description = "선택된 서비스 ID 목록")
+        List<UUID> serviceIds,
+
+        @Schema(description = "고객 ID (UUID)", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID customerId,
+
+        @Schema(description = "디자이너 ID (UUID)", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID designerId,
+
+        @Schema(description = "studio ID (UUID)", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID studioId,
+
+        @Schema(description = "반복 주기 (WEEKLY / BIWEEKLY / MONTHLY)", requiredMode = Schema.RequiredMode.REQUIRED)
+        RecurrenceFrequency frequency,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @Schema(description = "첫 예약 날짜", example = "2025-12-22", requiredMode = Schema.RequiredMode.REQUIRED)
+        LocalDate firstDate,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @Schema(description = "마지막 날짜 (포함, occurrenceCount 와 둘 중 하나 이상 필수)", example = "2026-03-30")
+        LocalDate untilDate,
+
+        @Schema(description = "반복 횟수 (untilDate 와 둘 중 하나 이상 필수)", example = "8")
+        Integer occurrenceCount,
+
+        @Schema(description = "예약 시작 시간 (HH:mm)", example = "10:00", requiredMode = Schema.RequiredMode.REQUIRED)
+        String startTime,
+
+        @Schema(description = "예약 종료 시간 (HH:mm)", example = "11:30", requiredMode = Schema.RequiredMode.REQUIRED)
+        String endTime,
+
+        @Schema(description = "비고 / 설명")
+        String description
+) {}
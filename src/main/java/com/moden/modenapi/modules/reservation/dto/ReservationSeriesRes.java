@@ -0,0 +1,20 @@
+package com.moden.modenapi.modules.reservation.dto;
+
+import com.moden.modenapi.common.enums.RecurrenceFrequency;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "정기 예약 응답 DTO")
+public record ReservationSeriesRes(
+
+        @Schema(description = "정기 예약 ID (UUID)")
+        UUID id,
+
+        @Schema(description = "반복 주기")
+        RecurrenceFrequency frequency,
+
+        @Schema(description = "생성된 예약 목록 (날짜순)")
+        List<ReservationResponse> reservations
+) {}
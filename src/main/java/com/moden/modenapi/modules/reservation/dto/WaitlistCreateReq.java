@@ -0,0 +1,37 @@
+package com.moden.modenapi.modules.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "예약 대기 등록 요청 DTO")
+public record WaitlistCreateReq(
+
+        @Schema(description = "studio ID (UUID)", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID studioId,
+
+        @Schema(description = "고객 ID (UUID)", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID customerId,
+
+        @Schema(description = "디자이너 ID (UUID)", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID designerId,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @Schema(description = "대기 날짜", example = "2025-12-22", requiredMode = Schema.RequiredMode.REQUIRED)
+        LocalDate date,
+
+        @Schema(description = "희망 시간대 시작 (HH:mm)", example = "10:00", requiredMode = Schema.RequiredMode.REQUIRED)
+        String windowStart,
+
+        @Schema(description = "희망 시간대 끝 (HH:mm)", example = "14:00", requiredMode = Schema.RequiredMode.REQUIRED)
+        String windowEnd,
+
+        @Schema(description = "선택된 서비스 ID 목록", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<UUID> serviceIds,
+
+        @Schema(description = "빈자리 발생 시 자동 예약 여부 (false 면 제안만)", example = "true")
+        Boolean autoBook
+) {}
@@ -0,0 +1,42 @@
+package com.moden.modenapi.modules.reservation.dto;
+
+import com.moden.modenapi.common.enums.WaitlistStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "예약 대기 응답 DTO")
+public record WaitlistRes(
+        UUID id,
+        UUID studioId,
+        UUID customerId,
+        UUID designerId,
+        LocalDate date,
+
+        @Schema(description = "희망 시간대 시작 (HH:mm)")
+        String windowStart,
+
+        @Schema(description = "희망 시간대 끝 (HH:mm)")
+        String windowEnd,
+
+        List<UUID> serviceIds,
+        int durationMin,
+        boolean autoBook,
+
+        @Schema(implementation = WaitlistStatus.class)
+        WaitlistStatus status,
+
+        @Schema(description = "제안/예약된 시작 시간 (HH:mm)")
+        String offeredStart,
+
+        @Schema(description = "제안 수락 기한 (OFFERED 일 때)")
+        Instant offerExpiresAt,
+
+        @Schema(description = "예약된 예약 ID (자동 예약 / 제안 수락)")
+        UUID reservationId,
+
+        Instant createdAt
+) {}
@@ -0,0 +1,17 @@
+package com.moden.modenapi.modules.reservation.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 예약 취소 이벤트 (ReservationService 에서 발행, 커밋 이후 리스너에서 처리).
+ */
+public record ReservationCanceledEvent(
+        UUID reservationId,
+        UUID studioId,
+        UUID designerId,
+        LocalDate reservationDate,
+        LocalTime startTime,
+        LocalTime endTime
+) {}
@@ -0,0 +1,39 @@
+package com.moden.modenapi.modules.reservation.event;
+
+import com.moden.modenapi.common.enums.ReservationStatus;
+import com.moden.modenapi.modules.reservation.model.Reservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 예약 생성 / 수정 / 취소 이벤트 (대시보드 실시간 갱신용, 커밋 이후 리스너에서 처리).
+ */
+public record ReservationChangedEvent(
+        ChangeType type,
+        UUID reservationId,
+        UUID studioId,
+        UUID designerId,
+        UUID customerId,
+        LocalDate reservationDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        ReservationStatus status
+) {
+    public enum ChangeType { CREATED, UPDATED, CANCELED }
+
+    public static ReservationChangedEvent of(ChangeType type, Reservation r) {
+        return new ReservationChangedEvent(
+                type,
+                r.getId(),
+                r.getStudioId(),
+                r.getDesignerId(),
+                r.getCustomerId(),
+                r.getReservationDate(),
+                r.getStartTime(),
+                r.getEndTime(),
+                r.getStatus()
+        );
+    }
+}
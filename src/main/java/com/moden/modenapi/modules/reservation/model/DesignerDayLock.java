@@ -0,0 +1,39 @@
+package com.moden.modenapi.modules.reservation.model;
+
+import com.moden.modenapi.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 디자이너 하루 단위 예약 잠금 row.
+ * 예약 생성 시 version 을 +1 하는 UPDATE 로 이 row 만 잠그고,
+ * 같은 디자이너/날짜의 동시 예약은 앞선 트랜잭션이 커밋될 때까지 대기한다.
+ * (테이블 잠금이나 SERIALIZABLE 트랜잭션 없이 중복 예약 방지)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "designer_day_lock",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_designer_day_lock",
+                columnNames = {"designer_id", "lock_date"}
+        )
+)
+public class DesignerDayLock extends BaseEntity {
+
+    @Column(name = "designer_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID designerId;
+
+    @Column(name = "lock_date", nullable = false)
+    private LocalDate lockDate;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
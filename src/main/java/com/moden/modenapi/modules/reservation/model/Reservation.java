@@ -2,9 +2,13 @@ package com.moden.modenapi.modules.reservation.model;
 
 import com.moden.modenapi.common.enums.ReservationStatus;
 import com.moden.modenapi.common.model.BaseEntity;
+import com.moden.modenapi.common.utils.TimeUtil;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -15,7 +19,17 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "reservation")
+@Table(
+        name = "reservation",
+        indexes = {
+                // 목록 keyset 페이지 정렬 키 (reservationDate, startTime, id)
+                @Index(name = "ix_reservation_date_start_id", columnList = "reservation_date, start_at, id"),
+                // 디자이너 겹침 체크 / 캘린더 (디자이너 + 날짜 seek → 시작 시간 range)
+                @Index(name = "ix_reservation_designer_date_start", columnList = "designer_id, reservation_date, start_at, end_at, status"),
+                // 고객 최근 방문 / 상태별 조회
+                @Index(name = "ix_reservation_customer_status_date", columnList = "customer_id, status, reservation_date, end_at")
+        }
+)
 public class Reservation extends BaseEntity {
 
     @Column(name = "studio_id", nullable = false, columnDefinition = "uniqueidentifier")
@@ -33,21 +47,51 @@ public class Reservation extends BaseEntity {
     @Column(name = "reservation_date", nullable = false)
     private LocalDate reservationDate;
 
+    // time 타입 컬럼 (기존 varchar(5) start_time/end_time 대체)
+    @Column(name = "start_at")
+    private LocalTime startTime;
+
+    @Column(name = "end_at")
+    private LocalTime endTime;
+
+    // ⚠️ legacy "HH:mm" 컬럼 – 이전 버전 인스턴스가 읽을 수 있도록 이중 기록 (조회는 start_at / end_at 만)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     @Column(name = "start_time", nullable = false, length = 5)
-    private String startTime;
+    private String legacyStartTime;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     @Column(name = "end_time", nullable = false, length = 5)
-    private String endTime;
+    private String legacyEndTime;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20, nullable = false)
     private ReservationStatus status;
 
+    // 정기 예약으로 생성된 경우 ReservationSeries.id (단건 예약은 null)
+    @Column(name = "series_id", columnDefinition = "uniqueidentifier")
+    private UUID seriesId;
+
+    // 목록 조회 시 serviceIds 를 예약마다 따로 로딩하지 않도록 IN 배치 로딩
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(
             name = "reservation_service_ids",
             joinColumns = @JoinColumn(name = "reservation_id", columnDefinition = "uniqueidentifier")
     )
     @Column(name = "service_id", columnDefinition = "uniqueidentifier")
     private List<UUID> serviceIds = new ArrayList<>();
+
+    @PrePersist
+    @PreUpdate
+    void syncLegacyTimes() {
+        // 아직 백필 안 된 row (startTime == null) 는 기존 문자열 유지
+        if (startTime != null) {
+            this.legacyStartTime = TimeUtil.formatHhMm(startTime);
+        }
+        if (endTime != null) {
+            this.legacyEndTime = TimeUtil.formatHhMm(endTime);
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package com.moden.modenapi.modules.reservation.model;
+
+import com.moden.modenapi.common.enums.RecurrenceFrequency;
+import com.moden.modenapi.common.model.BaseEntity;
+import com.moden.modenapi.common.utils.UuidListJsonConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 정기 예약 (같은 디자이너 / 같은 시간 / N주 또는 매월 반복).
+ * 생성 시점에 occurrence 들을 Reservation 으로 한 번에 만들고,
+ * 각 Reservation.seriesId 로 연결한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "reservation_series")
+public class ReservationSeries extends BaseEntity {
+
+    @Column(name = "studio_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID studioId;
+
+    @Column(name = "customer_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID customerId;
+
+    @Column(name = "designer_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID designerId;
+
+    @Column(name = "service_ids", columnDefinition = "nvarchar(max)")
+    @Convert(converter = UuidListJsonConverter.class)
+    @Builder.Default
+    private List<UUID> serviceIds = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", length = 20, nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "first_date", nullable = false)
+    private LocalDate firstDate;
+
+    // untilDate / occurrenceCount 중 하나 이상 필수
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+
+    @Column(name = "occurrence_count")
+    private Integer occurrenceCount;
+
+    @Column(name = "start_at", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_at", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "description", length = 1000)
+    private String description;
+}
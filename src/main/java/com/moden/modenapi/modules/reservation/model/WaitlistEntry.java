@@ -0,0 +1,83 @@
+package com.moden.modenapi.modules.reservation.model;
+
+import com.moden.modenapi.common.enums.WaitlistStatus;
+import com.moden.modenapi.common.model.BaseEntity;
+import com.moden.modenapi.common.utils.UuidListJsonConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 대기자 (디자이너 / 날짜 / 희망 시간대).
+ * 같은 조건의 예약이 취소되면 먼저 등록한 순서대로 빈자리를 제안하거나 자동 예약한다.
+ * 제안(OFFERED)은 offerExpiresAt 까지 고객이 수락해야 하며, 지나면 다시 WAITING 으로 돌아간다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "reservation_waitlist",
+        indexes = {
+                @Index(name = "ix_waitlist_designer_date_status", columnList = "designer_id, wait_date, status, created_at"),
+                @Index(name = "ix_waitlist_status_offer_expires", columnList = "status, offer_expires_at")
+        }
+)
+public class WaitlistEntry extends BaseEntity {
+
+    @Column(name = "studio_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID studioId;
+
+    @Column(name = "customer_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID customerId;
+
+    @Column(name = "designer_id", nullable = false, columnDefinition = "uniqueidentifier")
+    private UUID designerId;
+
+    @Column(name = "wait_date", nullable = false)
+    private LocalDate waitDate;
+
+    // 희망 시간대 [windowStart, windowEnd)
+    @Column(name = "window_start", nullable = false)
+    private LocalTime windowStart;
+
+    @Column(name = "window_end", nullable = false)
+    private LocalTime windowEnd;
+
+    @Column(name = "service_ids", columnDefinition = "nvarchar(max)")
+    @Convert(converter = UuidListJsonConverter.class)
+    @Builder.Default
+    private List<UUID> serviceIds = new ArrayList<>();
+
+    // 선택한 서비스 총 소요 시간 (등록 시 계산)
+    @Column(name = "duration_min", nullable = false)
+    private int durationMin;
+
+    // true 면 빈자리 발생 시 바로 예약, false 면 OFFERED 로 제안만
+    @Column(name = "auto_book", nullable = false)
+    private boolean autoBook;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    // OFFERED / BOOKED 시 제안(예약)된 시작 시간
+    @Column(name = "offered_start")
+    private LocalTime offeredStart;
+
+    // OFFERED 수락 기한 (지나면 WaitlistMatcher 가 WAITING 으로 되돌림)
+    @Column(name = "offer_expires_at")
+    private Instant offerExpiresAt;
+
+    @Column(name = "reservation_id", columnDefinition = "uniqueidentifier")
+    private UUID reservationId;
+}
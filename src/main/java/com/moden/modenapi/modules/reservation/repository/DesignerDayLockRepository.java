@@ -0,0 +1,28 @@
+package com.moden.modenapi.modules.reservation.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.reservation.model.DesignerDayLock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+public interface DesignerDayLockRepository extends BaseRepository<DesignerDayLock, UUID> {
+
+    // ✅ 디자이너/날짜 row 의 version +1 (row 잠금 획득). row 가 없으면 0 반환
+    @Modifying
+    @Query("""
+        update DesignerDayLock l
+        set l.version = l.version + 1
+        where l.designerId = :designerId
+          and l.lockDate   = :lockDate
+        """)
+    int bumpVersion(
+            @Param("designerId") UUID designerId,
+            @Param("lockDate") LocalDate lockDate
+    );
+}
@@ -3,25 +3,37 @@ package com.moden.modenapi.modules.reservation.repository;
 import com.moden.modenapi.common.enums.ReservationStatus;
 import com.moden.modenapi.common.repository.BaseRepository;
 import com.moden.modenapi.modules.reservation.model.Reservation;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ReservationRepository extends BaseRepository<Reservation, UUID> {
 
+    // ⚠️ 시간 조건 / 정렬은 start_at / end_at 만 사용 (인덱스 seek / 정렬):
+    //    기존 row 는 기동 시 ReservationTimeBackfillJob 가 모두 채운 뒤에 요청을 받음
+
     // har bir customer uchun oxirgi COMPLETED visit
+    //  → (customerId, 마지막 방문 날짜, 그 날 가장 늦은 종료 시간)
     @Query("""
-        select r.customerId, max(r.reservationDate), max(r.endTime)
+        select r.customerId, r.reservationDate, max(r.endTime)
         from Reservation r
         where r.customerId in :customerIds
           and r.status = :status
-        group by r.customerId
+          and r.reservationDate = (
+                select max(r2.reservationDate)
+                from Reservation r2
+                where r2.customerId = r.customerId
+                  and r2.status = :status
+          )
+        group by r.customerId, r.reservationDate
     """)
     List<Object[]> findLastVisitForCustomers(
             @Param("customerIds") List<UUID> customerIds,
@@ -32,6 +44,13 @@ public interface ReservationRepository extends BaseRepository<Reservation, UUID>
 
     List<Reservation> findByDesignerId(UUID designerId);
 
+    // 디자이너 하루 일정 (availability 캐시 로딩용)
+    List<Reservation> findByDesignerIdAndReservationDateAndStatus(
+            UUID designerId,
+            LocalDate reservationDate,
+            ReservationStatus status
+    );
+
     // ✅ Overlap check (double booking) for designer on same day
     @Query("""
         select case when count(r) > 0 then true else false end
@@ -40,13 +59,31 @@ public interface ReservationRepository extends BaseRepository<Reservation, UUID>
           and r.status = :status
           and r.reservationDate = :reservationDate
           and r.startTime < :endTime
-          and r.endTime   > :startTime
+          and r.endTime > :startTime
         """)
     boolean existsOverlappingForDesigner(
             @Param("designerId") UUID designerId,
             @Param("reservationDate") LocalDate reservationDate,
-            @Param("startTime") String startTime,
-            @Param("endTime") String endTime,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime,
+            @Param("status") ReservationStatus status
+    );
+
+    // ✅ 정기 예약: 여러 날짜의 겹침을 쿼리 한 번으로 확인 → 겹치는 날짜 목록
+    @Query("""
+        select distinct r.reservationDate
+        from Reservation r
+        where r.designerId = :designerId
+          and r.status = :status
+          and r.reservationDate in :dates
+          and r.startTime < :endTime
+          and r.endTime > :startTime
+        """)
+    List<LocalDate> findOverlappingDatesForDesigner(
+            @Param("designerId") UUID designerId,
+            @Param("dates") List<LocalDate> dates,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime,
             @Param("status") ReservationStatus status
     );
 
@@ -65,7 +102,8 @@ public interface ReservationRepository extends BaseRepository<Reservation, UUID>
     );
 
 
-    @Query("""
+    @Query(
+            value = """
     select r
     from Reservation r
     where (:designerId is null or r.designerId = :designerId)
@@ -74,8 +112,20 @@ public interface ReservationRepository extends BaseRepository<Reservation, UUID>
       and (:status    is null or r.status     = :status)
       and (:fromDate  is null or r.reservationDate >= :fromDate)
       and (:toDate    is null or r.reservationDate <  :toDate)
-    """)
-    List<Reservation> searchDynamic(
+    order by r.reservationDate desc, r.startTime desc, r.id desc
+    """,
+            countQuery = """
+    select count(r)
+    from Reservation r
+    where (:designerId is null or r.designerId = :designerId)
+      and (:customerId is null or r.customerId = :customerId)
+      and (:serviceId  is null or :serviceId member of r.serviceIds)
+      and (:status    is null or r.status     = :status)
+      and (:fromDate  is null or r.reservationDate >= :fromDate)
+      and (:toDate    is null or r.reservationDate <  :toDate)
+    """
+    )
+    Page<Reservation> searchDynamic(
             @Param("designerId") UUID designerId,
             @Param("customerId") UUID customerId,
             @Param("serviceId")  UUID serviceId,
@@ -85,4 +135,40 @@ public interface ReservationRepository extends BaseRepository<Reservation, UUID>
             Pageable pageable
     );
 
+    // ✅ Keyset(커서) 페이지: (reservationDate, startTime, id) 기준 마지막 행 "다음" 부터
+    //    OFFSET 없이 인덱스 순서대로 limit 개만 읽음
+    //    - reservationDate <= :cursorDate 로 ix_reservation_date_start_id 를 커서 위치부터 seek
+    //    - startTime null (백필 전) 은 SQL Server / H2 모두 가장 작은 값 → 같은 날짜 안에서 DESC 의 맨 뒤
+    //      커서 시간이 null 이면 (:cursorStartTime is null) null row 끼리 id 로만 이어감
+    @Query("""
+    select r
+    from Reservation r
+    where (:designerId is null or r.designerId = :designerId)
+      and (:customerId is null or r.customerId = :customerId)
+      and (:serviceId  is null or :serviceId member of r.serviceIds)
+      and (:status    is null or r.status     = :status)
+      and (:fromDate  is null or r.reservationDate >= :fromDate)
+      and (:toDate    is null or r.reservationDate <  :toDate)
+      and r.reservationDate <= :cursorDate
+      and (r.reservationDate < :cursorDate
+           or (:cursorStartTime is not null
+               and (r.startTime < :cursorStartTime
+                    or (r.startTime = :cursorStartTime and r.id < :cursorId)
+                    or r.startTime is null))
+           or (:cursorStartTime is null and r.startTime is null and r.id < :cursorId))
+    order by r.reservationDate desc, r.startTime desc, r.id desc
+    """)
+    List<Reservation> searchDynamicAfter(
+            @Param("designerId")      UUID designerId,
+            @Param("customerId")      UUID customerId,
+            @Param("serviceId")       UUID serviceId,
+            @Param("status")          ReservationStatus status,
+            @Param("fromDate")        LocalDate fromDate,
+            @Param("toDate")          LocalDate toDate,
+            @Param("cursorDate")      LocalDate cursorDate,
+            @Param("cursorStartTime") LocalTime cursorStartTime,
+            @Param("cursorId")        UUID cursorId,
+            Pageable pageable
+    );
+
 }
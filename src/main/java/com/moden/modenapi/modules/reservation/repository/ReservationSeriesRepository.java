@@ -0,0 +1,11 @@
+package com.moden.modenapi.modules.reservation.repository;
+
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.reservation.model.ReservationSeries;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ReservationSeriesRepository extends BaseRepository<ReservationSeries, UUID> {
+}
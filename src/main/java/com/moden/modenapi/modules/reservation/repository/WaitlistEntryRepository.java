@@ -0,0 +1,72 @@
+package com.moden.modenapi.modules.reservation.repository;
+
+import com.moden.modenapi.common.enums.WaitlistStatus;
+import com.moden.modenapi.common.repository.BaseRepository;
+import com.moden.modenapi.modules.reservation.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WaitlistEntryRepository extends BaseRepository<WaitlistEntry, UUID> {
+
+    // 먼저 등록한 대기자부터
+    List<WaitlistEntry> findByDesignerIdAndWaitDateAndStatusAndDeletedAtIsNullOrderByCreatedAtAsc(
+            UUID designerId,
+            LocalDate waitDate,
+            WaitlistStatus status
+    );
+
+    List<WaitlistEntry> findByStudioIdAndWaitDateAndDeletedAtIsNullOrderByCreatedAtAsc(
+            UUID studioId,
+            LocalDate waitDate
+    );
+
+    List<WaitlistEntry> findByCustomerIdAndWaitDateGreaterThanEqualAndDeletedAtIsNullOrderByWaitDateAscCreatedAtAsc(
+            UUID customerId,
+            LocalDate fromDate
+    );
+
+    // 수락 기한이 지난 제안
+    @Query("""
+        select w from WaitlistEntry w
+        where w.status = com.moden.modenapi.common.enums.WaitlistStatus.OFFERED
+          and w.offerExpiresAt < :now
+          and w.deletedAt is null
+        """)
+    List<WaitlistEntry> findExpiredOffers(@Param("now") Instant now);
+
+    /**
+     * 제안 수락 — 기한 내 OFFERED 인 경우에만 BOOKED 로 (만료 처리와 동시에 와도 한쪽만 성공)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update WaitlistEntry w
+        set w.status = com.moden.modenapi.common.enums.WaitlistStatus.BOOKED
+        where w.id = :id
+          and w.status = com.moden.modenapi.common.enums.WaitlistStatus.OFFERED
+          and w.offerExpiresAt >= :now
+        """)
+    int claimOffer(@Param("id") UUID id, @Param("now") Instant now);
+
+    /**
+     * 기한 지난 제안을 WAITING 으로 되돌림 (수락과 동시에 와도 한쪽만 성공)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update WaitlistEntry w
+        set w.status = com.moden.modenapi.common.enums.WaitlistStatus.WAITING,
+            w.offeredStart = null,
+            w.offerExpiresAt = null
+        where w.id = :id
+          and w.status = com.moden.modenapi.common.enums.WaitlistStatus.OFFERED
+          and w.offerExpiresAt < :now
+        """)
+    int expireOffer(@Param("id") UUID id, @Param("now") Instant now);
+}
@@ -0,0 +1,310 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moden.modenapi.common.enums.ReservationStatus;
+import com.moden.modenapi.common.enums.Weekday;
+import com.moden.modenapi.common.utils.LocalTtlCache;
+import com.moden.modenapi.modules.designer.model.DesignerDetail;
+import com.moden.modenapi.modules.designer.repository.DesignerDetailRepository;
+import com.moden.modenapi.modules.reservation.dto.DesignerAvailabilityRes;
+import com.moden.modenapi.modules.reservation.model.Reservation;
+import com.moden.modenapi.modules.reservation.repository.ReservationRepository;
+import com.moden.modenapi.modules.studio.model.HairStudioDetail;
+import com.moden.modenapi.modules.studio.repository.HairStudioDetailRepository;
+import com.moden.modenapi.modules.studioservice.service.StudioPriceTable;
+import com.moden.modenapi.modules.studioservice.service.StudioPriceTableCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 디자이너 예약 가능 시간 엔진 (in-memory).
+ *
+ *  - (designerId, date) 별로 DesignerDaySchedule(분 단위 bitset) 을 lazy 로딩해서 캐시
+ *  - 소스: RESERVED 예약, DesignerDetail.daysOff, HairStudioDetail.openHoursJson
+ *  - 예약 생성/수정/취소 커밋 후 해당 날짜 캐시 무효화
+ *  - 다른 인스턴스의 변경은 TTL 로 따라잡음 (DB 가 최종 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DesignerAvailabilityService {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final int DEFAULT_STEP_MIN = 10;
+
+    private final ReservationRepository reservationRepository;
+    private final DesignerDetailRepository designerDetailRepository;
+    private final HairStudioDetailRepository hairStudioDetailRepository;
+    private final StudioPriceTableCache priceTableCache;
+
+    private record DayKey(UUID designerId, LocalDate date) {}
+
+    private final LocalTtlCache<DayKey, DesignerDaySchedule> cache = new LocalTtlCache<>(5_000, Duration.ofMinutes(1));
+
+    // ----------------------------------------------------------------------
+    // 겹침 체크 (createReservation 에서 DB insert 전에 사용)
+    // ----------------------------------------------------------------------
+    /**
+     * 캐시는 힌트로만 사용: 캐시가 "비어 있음" 이면 그대로 true (최종 판단은 잠금 후 DB 확인),
+     * 캐시가 "겹침" 이면 다른 인스턴스에서 취소된 구간일 수 있으므로 DB 에서 다시 로딩해서 판단.
+     */
+    @Transactional(readOnly = true)
+    public boolean isFree(UUID designerId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        int from = toMinute(startTime);
+        int to   = toMinute(endTime);
+        if (scheduleFor(designerId, date).isFree(from, to)) {
+            return true;
+        }
+        cache.invalidate(new DayKey(designerId, date));
+        return scheduleFor(designerId, date).isFree(from, to);
+    }
+
+    // ----------------------------------------------------------------------
+    // 빈 시간 조회
+    // ----------------------------------------------------------------------
+    @Transactional(readOnly = true)
+    public DesignerAvailabilityRes findFreeSlots(
+            UUID designerId,
+            LocalDate date,
+            List<UUID> serviceIds,
+            Integer stepMin
+    ) {
+        if (designerId == null || date == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "designerId 와 date 는 필수입니다.");
+        }
+
+        int step = (stepMin == null || stepMin < 1) ? DEFAULT_STEP_MIN : stepMin;
+        DesignerDaySchedule schedule = scheduleFor(designerId, date);
+        int duration = resolveDuration(schedule.studioId(), serviceIds);
+
+        List<String> freeStartTimes = schedule
+                .freeStarts(duration, step).stream()
+                .map(DesignerAvailabilityService::formatMinute)
+                .toList();
+
+        return new DesignerAvailabilityRes(designerId, date, duration, freeStartTimes);
+    }
+
+    /**
+     * [windowStart, windowEnd) 안에서 durationMin 이 들어가는 가장 빠른 시작 시간.
+     * 대기자(waitlist) 매칭용 – 캐시된 일정만 보고 판단.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalTime> findFirstFreeStart(
+            UUID designerId,
+            LocalDate date,
+            int durationMin,
+            LocalTime windowStart,
+            LocalTime windowEnd
+    ) {
+        return scheduleFor(designerId, date)
+                .freeStartsBetween(toMinute(windowStart), toMinute(windowEnd), durationMin, DEFAULT_STEP_MIN)
+                .stream()
+                .findFirst()
+                .map(m -> LocalTime.of(m / 60, m % 60));
+    }
+
+    // ----------------------------------------------------------------------
+    // 무효화 (트랜잭션 커밋 이후)
+    // ----------------------------------------------------------------------
+    public void invalidateAfterCommit(UUID designerId, LocalDate date) {
+        if (designerId == null || date == null) {
+            return;
+        }
+        // 지금 + 커밋/롤백 후에 제거 (커밋 전 상태로 다시 캐시된 것도 지워짐)
+        cache.invalidate(new DayKey(designerId, date));
+    }
+
+    /**
+     * 예약 취소 커밋 후, 캐시된 일정에서 해당 구간만 비움 (다시 로딩하지 않음).
+     * 캐시에 없으면 다음 조회 때 DB 에서 새로 로딩되므로 할 일 없음.
+     */
+    public void releaseAfterCommit(UUID designerId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        if (designerId == null || date == null || startTime == null || endTime == null) {
+            return;
+        }
+        DayKey key = new DayKey(designerId, date);
+        Runnable release = () -> {
+            DesignerDaySchedule cached = cache.getIfPresent(key);
+            if (cached != null) {
+                cached.release(toMinute(startTime), toMinute(endTime));
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // 내부: 캐시 로딩
+    // ----------------------------------------------------------------------
+    private DesignerDaySchedule scheduleFor(UUID designerId, LocalDate date) {
+        return cache.get(new DayKey(designerId, date), key -> load(key.designerId(), key.date()));
+    }
+
+    private DesignerDaySchedule load(UUID designerId, LocalDate date) {
+        DesignerDetail designer = designerDetailRepository
+                .findByUserIdAndDeletedAtIsNull(designerId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "디자이너 정보를 찾을 수 없습니다: " + designerId
+                ));
+
+        Weekday weekday = Weekday.fromCode(date.getDayOfWeek().getValue() - 1);
+
+        BitSet open = new BitSet(DesignerDaySchedule.MINUTES_PER_DAY);
+        boolean dayOff = designer.getDaysOff() != null && designer.getDaysOff().contains(weekday);
+        if (!dayOff) {
+            String openHoursJson = hairStudioDetailRepository
+                    .findByUserIdAndDeletedAtIsNull(designer.getHairStudioId())
+                    .map(HairStudioDetail::getOpenHoursJson)
+                    .orElse(null);
+            applyOpenHours(open, openHoursJson, weekday);
+        }
+
+        DesignerDaySchedule schedule = new DesignerDaySchedule(open, designer.getHairStudioId());
+
+        List<Reservation> reservations = reservationRepository
+                .findByDesignerIdAndReservationDateAndStatus(designerId, date, ReservationStatus.RESERVED);
+        for (Reservation r : reservations) {
+            if (r.getStartTime() != null && r.getEndTime() != null) {
+                schedule.occupy(toMinute(r.getStartTime()), toMinute(r.getEndTime()));
+            }
+        }
+        return schedule;
+    }
+
+    /** 디자이너 소속 헤어샵의 서비스만 (가격표 캐시, createReservation 과 같은 검증) */
+    private int resolveDuration(UUID studioId, List<UUID> serviceIds) {
+        if (serviceIds == null || serviceIds.isEmpty()) {
+            return DEFAULT_STEP_MIN;
+        }
+        List<StudioPriceTable.ServicePrice> services = priceTableCache.get(studioId).servicesOf(serviceIds);
+        if (services.size() != serviceIds.size()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "선택한 서비스 중 일부는 이 헤어샵에 존재하지 않습니다."
+            );
+        }
+        int total = services.stream()
+                .mapToInt(StudioPriceTable.ServicePrice::durationMin)
+                .sum();
+        return Math.max(total, 1);
+    }
+
+    /**
+     * openHoursJson 해석. 지원 형태:
+     *  - {"MON": {"open": "10:00", "close": "20:00"}, "SUN": {"closed": true}, ...}
+     *  - {"0": "10:00-20:00", ...}   (키는 요일 이름 또는 0..6 코드)
+     *  - [{"day": "MON" | 0, "open": "10:00", "close": "20:00"}, ...]
+     * 값이 없거나 해석할 수 없으면 (어느 요일 항목도 찾을 수 없는 형태 포함) 하루 종일 영업으로 간주
+     * (기존 동작과 동일하게 제한 없음). 요일 항목이 하나라도 있는데 해당 요일만 없으면 휴무.
+     */
+    private void applyOpenHours(BitSet open, String openHoursJson, Weekday weekday) {
+        if (openHoursJson == null || openHoursJson.isBlank()) {
+            open.set(0, DesignerDaySchedule.MINUTES_PER_DAY);
+            return;
+        }
+
+        try {
+            JsonNode root = MAPPER.readTree(openHoursJson);
+            JsonNode day = dayEntry(root, weekday);
+
+            if (day == null) {
+                boolean recognized = Arrays.stream(Weekday.values()).anyMatch(w -> dayEntry(root, w) != null);
+                if (!recognized) {
+                    // 지원하지 않는 형태 → 해석 불가와 동일하게 하루 종일 영업
+                    log.warn("openHoursJson 에 요일 항목이 없음, 하루 종일 영업으로 처리: {}", openHoursJson);
+                    open.set(0, DesignerDaySchedule.MINUTES_PER_DAY);
+                }
+                // 다른 요일은 있는데 해당 요일만 없음 → 휴무
+                return;
+            }
+            if (day.path("closed").asBoolean(false)) {
+                return;
+            }
+
+            String openAt;
+            String closeAt;
+            if (day.isTextual()) {
+                String[] parts = day.asText().split("-");
+                openAt = parts[0].trim();
+                closeAt = parts[1].trim();
+            } else {
+                openAt = day.path("open").asText(null);
+                closeAt = day.path("close").asText(null);
+            }
+
+            open.set(toMinute(openAt), toMinute(closeAt));
+        } catch (Exception e) {
+            log.warn("openHoursJson 해석 실패, 하루 종일 영업으로 처리: {}", openHoursJson);
+            open.clear();
+            open.set(0, DesignerDaySchedule.MINUTES_PER_DAY);
+        }
+    }
+
+    private static JsonNode dayEntry(JsonNode root, Weekday weekday) {
+        if (root.isObject()) {
+            JsonNode day = root.get(weekday.name());
+            if (day == null) day = root.get(weekday.name().toLowerCase(Locale.ROOT));
+            if (day == null) day = root.get(String.valueOf(weekday.getCode()));
+            return day;
+        }
+        if (root.isArray()) {
+            for (JsonNode n : root) {
+                JsonNode d = n.get("day");
+                if (d != null && (d.asText().equalsIgnoreCase(weekday.name())
+                        || (d.canConvertToInt() && d.asInt() == weekday.getCode()))) {
+                    return n;
+                }
+            }
+        }
+        return null;
+    }
+
+    static int toMinute(LocalTime t) {
+        return t.getHour() * 60 + t.getMinute();
+    }
+
+    /** "HH:mm" → 자정 기준 분 ("24:00" 허용) */
+    static int toMinute(String hhmm) {
+        if (hhmm == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "시간 값이 없습니다.");
+        }
+        String v = hhmm.trim();
+        if ("24:00".equals(v)) {
+            return DesignerDaySchedule.MINUTES_PER_DAY;
+        }
+        try {
+            return toMinute(LocalTime.parse(v));
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "시간 형식은 HH:mm 이어야 합니다: " + hhmm);
+        }
+    }
+
+    static String formatMinute(int minute) {
+        return String.format("%02d:%02d", minute / 60, minute % 60);
+    }
+}
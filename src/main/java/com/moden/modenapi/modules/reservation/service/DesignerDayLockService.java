@@ -0,0 +1,67 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.modules.reservation.repository.DesignerDayLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 디자이너/날짜 단위 예약 잠금.
+ * 호출한 트랜잭션이 끝날 때까지 해당 designer_day_lock row 의 잠금을 유지한다.
+ * row 생성도 같은 트랜잭션 / 같은 connection 에서 (요청당 connection 1개).
+ */
+@Service
+@RequiredArgsConstructor
+public class DesignerDayLockService {
+
+    // 없을 때만 INSERT — 동시에 만들면 한쪽은 unique 위반 (문장 단위 실패, 트랜잭션은 유지)
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT INTO designer_day_lock (id, designer_id, lock_date, version, created_at)
+        SELECT ?, ?, ?, 0, ?
+        WHERE NOT EXISTS (
+            SELECT 1 FROM designer_day_lock WHERE designer_id = ? AND lock_date = ?
+        )
+        """;
+
+    private final DesignerDayLockRepository lockRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 트랜잭션에서 (designerId, date) 잠금 획득.
+     * 보통은 UPDATE 1번으로 끝나고, 그 날 첫 예약일 때만 row 를 먼저 만든다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(UUID designerId, LocalDate date) {
+        if (lockRepository.bumpVersion(designerId, date) > 0) {
+            return;
+        }
+
+        // JdbcTemplate 는 예외가 나도 트랜잭션을 rollback-only 로 만들지 않음 (repository 프록시와 다름)
+        try {
+            jdbcTemplate.update(
+                    INSERT_IF_ABSENT_SQL,
+                    UUID.randomUUID().toString(),
+                    designerId.toString(),
+                    Date.valueOf(date),
+                    Timestamp.from(Instant.now()),
+                    designerId.toString(),
+                    Date.valueOf(date)
+            );
+        } catch (DuplicateKeyException ignore) {
+            // 다른 요청이 먼저 만들었음 → 그 트랜잭션이 끝나면 아래 UPDATE 로 잠금
+        }
+
+        if (lockRepository.bumpVersion(designerId, date) == 0) {
+            throw new IllegalStateException("designer_day_lock row 를 찾을 수 없습니다: " + designerId + " / " + date);
+        }
+    }
+}
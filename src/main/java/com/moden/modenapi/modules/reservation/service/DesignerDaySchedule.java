@@ -0,0 +1,82 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 디자이너 하루 일정 (분 단위 bitset).
+ *  - open : 영업(예약 가능) 분
+ *  - busy : RESERVED 예약이 차지한 분 [start, end)
+ *  - studioId : 디자이너 소속 헤어샵 (서비스 소요 시간 계산 시 가격표 캐시 key)
+ *
+ * 겹침 판정은 DB 쿼리와 동일하게 start < otherEnd && end > otherStart.
+ */
+final class DesignerDaySchedule {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final BitSet open;
+    private final BitSet busy = new BitSet(MINUTES_PER_DAY);
+    private final UUID studioId;
+
+    DesignerDaySchedule(BitSet open, UUID studioId) {
+        this.open = open;
+        this.studioId = studioId;
+    }
+
+    UUID studioId() {
+        return studioId;
+    }
+
+    synchronized void occupy(int startMin, int endMin) {
+        if (startMin < endMin) {
+            busy.set(Math.max(0, startMin), Math.min(MINUTES_PER_DAY, endMin));
+        }
+    }
+
+    /** 취소된 예약이 차지하던 구간 해제 */
+    synchronized void release(int startMin, int endMin) {
+        if (startMin < endMin) {
+            busy.clear(Math.max(0, startMin), Math.min(MINUTES_PER_DAY, endMin));
+        }
+    }
+
+    /** [startMin, endMin) 구간에 기존 예약이 하나도 없으면 true */
+    synchronized boolean isFree(int startMin, int endMin) {
+        int next = busy.nextSetBit(Math.max(0, startMin));
+        return next < 0 || next >= endMin;
+    }
+
+    /**
+     * durationMin 길이의 예약이 들어갈 수 있는 시작 분 목록 (stepMin 간격).
+     * 영업 시간 안에 있고, 기존 예약과 겹치지 않아야 함.
+     */
+    synchronized List<Integer> freeStarts(int durationMin, int stepMin) {
+        return freeStartsBetween(0, MINUTES_PER_DAY, durationMin, stepMin);
+    }
+
+    /** [fromMin, toMin) 안에 완전히 들어가는 빈 시작 분 목록 */
+    synchronized List<Integer> freeStartsBetween(int fromMin, int toMin, int durationMin, int stepMin) {
+        List<Integer> result = new ArrayList<>();
+        if (durationMin <= 0 || stepMin <= 0) {
+            return result;
+        }
+
+        int limit = Math.min(toMin, MINUTES_PER_DAY);
+        for (int start = Math.max(0, fromMin); start + durationMin <= limit; start += stepMin) {
+            int end = start + durationMin;
+
+            // 영업 시간 안인지 (open 에서 빠진 분이 없어야 함)
+            int closed = open.nextClearBit(start);
+            if (closed < end) {
+                continue;
+            }
+            if (isFree(start, end)) {
+                result.add(start);
+            }
+        }
+        return result;
+    }
+}
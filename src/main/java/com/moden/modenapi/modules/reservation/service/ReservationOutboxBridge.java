@@ -0,0 +1,25 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.common.enums.OutboxEventType;
+import com.moden.modenapi.common.service.OutboxService;
+import com.moden.modenapi.modules.reservation.event.ReservationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 변경 이벤트 → outbox 기록.
+ * BEFORE_COMMIT 이라 예약 변경과 같은 트랜잭션에 묶임 (롤백되면 outbox 도 남지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationOutboxBridge {
+
+    private final OutboxService outboxService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        outboxService.append(OutboxEventType.RESERVATION_CHANGED, event.reservationId(), event);
+    }
+}
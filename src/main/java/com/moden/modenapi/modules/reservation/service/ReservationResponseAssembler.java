@@ -0,0 +1,144 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.common.enums.ConsultationStatus;
+import com.moden.modenapi.common.enums.PaymentStatus;
+import com.moden.modenapi.common.utils.TimeUtil;
+import com.moden.modenapi.modules.auth.model.User;
+import com.moden.modenapi.modules.auth.repository.UserRepository;
+import com.moden.modenapi.modules.consultation.model.Consultation;
+import com.moden.modenapi.modules.consultation.repository.ConsultationRepository;
+import com.moden.modenapi.modules.payment.model.Payment;
+import com.moden.modenapi.modules.payment.repository.PaymentRepository;
+import com.moden.modenapi.modules.reservation.dto.ReservationResponse;
+import com.moden.modenapi.modules.reservation.model.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reservation 목록 → ReservationResponse 목록 변환기.
+ *  - payment / users / consultation 을 테이블당 IN 쿼리 1번으로 조회
+ *  - 나머지 매핑은 메모리에서 처리 (row 당 추가 쿼리 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReservationResponseAssembler {
+
+    private final PaymentRepository paymentRepository;
+    private final UserRepository userRepository;
+    private final ConsultationRepository consultationRepository;
+
+    public ReservationResponse toDto(Reservation r) {
+        return toDtos(List.of(r)).get(0);
+    }
+
+    public List<ReservationResponse> toDtos(List<Reservation> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> reservationIds = reservations.stream()
+                .map(Reservation::getId)
+                .toList();
+
+        // 1) 결제 상태 (reservationId → status)
+        Map<UUID, PaymentStatus> paymentStatusMap = paymentRepository
+                .findByReservationIdIn(reservationIds).stream()
+                .collect(Collectors.toMap(
+                        Payment::getReservationId,
+                        Payment::getPaymentStatus,
+                        (a, b) -> a
+                ));
+
+        // 2) 상담 (reservationId → consultation)
+        Map<UUID, Consultation> consultationMap = consultationRepository
+                .findByReservationIdIn(reservationIds).stream()
+                .collect(Collectors.toMap(
+                        Consultation::getReservationId,
+                        Function.identity(),
+                        (a, b) -> a
+                ));
+
+        // 3) 고객 + 디자이너 유저 한 번에 조회
+        Set<UUID> userIds = new HashSet<>();
+        for (Reservation r : reservations) {
+            if (r.getCustomerId() != null) userIds.add(r.getCustomerId());
+            if (r.getDesignerId() != null) userIds.add(r.getDesignerId());
+        }
+        Map<UUID, User> userMap = userIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllById(userIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 4) 메모리 매핑
+        List<ReservationResponse> result = new ArrayList<>(reservations.size());
+        for (Reservation r : reservations) {
+            result.add(map(r, paymentStatusMap, consultationMap, userMap));
+        }
+        return result;
+    }
+
+    private ReservationResponse map(
+            Reservation r,
+            Map<UUID, PaymentStatus> paymentStatusMap,
+            Map<UUID, Consultation> consultationMap,
+            Map<UUID, User> userMap
+    ) {
+        // 결제 정보가 없으면 기존과 동일하게 PENDING
+        PaymentStatus paymentStatus =
+                paymentStatusMap.getOrDefault(r.getId(), PaymentStatus.PENDING);
+
+        String customerFullName = null;
+        String customerPhone = null;
+        String designerFullName = null;
+        String paymentId = null;
+
+        User customer = (r.getCustomerId() != null) ? userMap.get(r.getCustomerId()) : null;
+        if (customer != null) {
+            customerFullName = customer.getFullName();
+            customerPhone = customer.getPhone();
+        }
+
+        UUID consultationId = null;
+        ConsultationStatus consultationStatus = null;
+        Consultation consultation = consultationMap.get(r.getId());
+        if (consultation != null) {
+            consultationId = consultation.getId();
+            consultationStatus = consultation.getStatus();
+
+            // 디자이너 이름 (상담이 있는 경우에만 – 기존 동작 유지)
+            if (r.getDesignerId() != null) {
+                User designerUser = userMap.get(r.getDesignerId());
+                designerFullName = (designerUser != null) ? designerUser.getFullName() : null;
+            }
+        }
+
+        return new ReservationResponse(
+                r.getId(),
+                r.getStudioId(),
+                r.getCustomerId(),
+                customerFullName,
+                r.getDesignerId(),
+                consultationId,
+                consultationStatus,
+                designerFullName,
+                r.getServiceIds(),
+                r.getReservationDate(),
+                TimeUtil.formatHhMm(r.getStartTime()),
+                TimeUtil.formatHhMm(r.getEndTime()),
+                customerPhone,
+                r.getDescription(),
+                r.getStatus(),
+                paymentId,
+                paymentStatus,
+                r.getCreatedAt(),
+                r.getUpdatedAt(),
+                r.getDeletedAt()
+        );
+    }
+}
@@ -0,0 +1,224 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.common.enums.ReservationStatus;
+import com.moden.modenapi.common.enums.Weekday;
+import com.moden.modenapi.common.utils.TimeUtil;
+import com.moden.modenapi.modules.consultation.service.ConsultationService;
+import com.moden.modenapi.modules.designer.model.DesignerDetail;
+import com.moden.modenapi.modules.designer.repository.DesignerDetailRepository;
+import com.moden.modenapi.modules.payment.service.PaymentService;
+import com.moden.modenapi.modules.reservation.dto.ReservationSeriesCreateReq;
+import com.moden.modenapi.modules.reservation.dto.ReservationSeriesRes;
+import com.moden.modenapi.modules.reservation.event.ReservationChangedEvent;
+import com.moden.modenapi.modules.reservation.event.ReservationChangedEvent.ChangeType;
+import com.moden.modenapi.modules.reservation.model.Reservation;
+import com.moden.modenapi.modules.reservation.model.ReservationSeries;
+import com.moden.modenapi.modules.reservation.repository.ReservationRepository;
+import com.moden.modenapi.modules.reservation.repository.ReservationSeriesRepository;
+import com.moden.modenapi.modules.studioservice.model.StudioService;
+import com.moden.modenapi.modules.studioservice.repository.StudioServiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReservationSeriesService {
+
+    // 한 번에 만들 수 있는 최대 회차 (주 1회 기준 약 1년)
+    private static final int MAX_OCCURRENCES = 52;
+
+    private final ReservationSeriesRepository seriesRepository;
+    private final ReservationRepository reservationRepository;
+    private final DesignerDetailRepository designerDetailRepository;
+    private final StudioServiceRepository studioServiceRepository;
+    private final ConsultationService consultationService;
+    private final PaymentService paymentService;
+    private final DesignerDayLockService designerDayLockService;
+    private final DesignerAvailabilityService designerAvailabilityService;
+    private final ReservationResponseAssembler reservationResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ----------------------------------------------------------------------
+    // CREATE SERIES
+    //  1) 회차 날짜 계산
+    //  2) 디자이너/날짜 잠금 (날짜 오름차순 → 데드락 방지)
+    //  3) 모든 회차 겹침 체크를 쿼리 1번으로
+    //  4) reservation / consultation / payment 를 saveAll 로 batch insert
+    // ----------------------------------------------------------------------
+    public ReservationSeriesRes createSeries(ReservationSeriesCreateReq req) {
+
+        UUID studioId = req.studioId();
+
+        // 0) 시간 / 반복 조건 검증
+        LocalTime startTime = TimeUtil.parseHhMm(req.startTime());
+        LocalTime endTime   = TimeUtil.parseHhMm(req.endTime());
+        if (startTime == null || endTime == null || !startTime.isBefore(endTime)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "예약 시작 시간은 종료 시간보다 빨라야 합니다."
+            );
+        }
+        if (req.frequency() == null || req.firstDate() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "반복 주기와 첫 예약 날짜는 필수입니다.");
+        }
+        if (req.untilDate() == null && req.occurrenceCount() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료 날짜 또는 반복 횟수 중 하나는 필수입니다.");
+        }
+
+        // 1) 디자이너 조회 + 소속 확인
+        DesignerDetail designer = designerDetailRepository
+                .findByUserIdAndDeletedAtIsNull(req.designerId())
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "디자이너 정보를 찾을 수 없습니다: " + req.designerId()
+                ));
+
+        if (!studioId.equals(designer.getHairStudioId())) {
+            throw new ResponseStatusException(
+                    HttpStatus.FORBIDDEN,
+                    "현재 헤어샵 소속 디자이너가 아닙니다."
+            );
+        }
+
+        // 2) 서비스 검증
+        List<UUID> serviceIds = req.serviceIds();
+        if (serviceIds == null || serviceIds.isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "최소 1개 이상의 서비스를 선택해야 합니다."
+            );
+        }
+
+        List<StudioService> services =
+                studioServiceRepository.findAllByStudioAndIds(studioId, serviceIds);
+        if (services.size() != serviceIds.size()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "선택한 서비스 중 일부는 이 헤어샵에 존재하지 않습니다."
+            );
+        }
+
+        // 3) 회차 날짜 계산 + 휴무일 확인
+        List<LocalDate> dates = materializeDates(req);
+        if (dates.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "생성할 예약 회차가 없습니다.");
+        }
+
+        List<Weekday> daysOff = designer.getDaysOff();
+        if (daysOff != null && !daysOff.isEmpty()) {
+            List<LocalDate> offDates = dates.stream()
+                    .filter(d -> daysOff.contains(Weekday.fromCode(d.getDayOfWeek().getValue() - 1)))
+                    .toList();
+            if (!offDates.isEmpty()) {
+                throw new ResponseStatusException(
+                        HttpStatus.CONFLICT,
+                        "디자이너 휴무일이 포함되어 있습니다: " + offDates
+                );
+            }
+        }
+
+        // 4) 잠금 + 전체 회차 겹침 체크 (쿼리 1번)
+        for (LocalDate date : dates) {
+            designerDayLockService.lock(req.designerId(), date);
+        }
+
+        List<LocalDate> conflicts = reservationRepository.findOverlappingDatesForDesigner(
+                req.designerId(),
+                dates,
+                startTime,
+                endTime,
+                ReservationStatus.RESERVED
+        );
+        if (!conflicts.isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "이미 예약된 시간과 겹치는 날짜가 있습니다: " + conflicts.stream().sorted().toList()
+            );
+        }
+
+        // 5) Series 저장
+        ReservationSeries series = seriesRepository.save(ReservationSeries.builder()
+                .studioId(studioId)
+                .customerId(req.customerId())
+                .designerId(req.designerId())
+                .serviceIds(new ArrayList<>(serviceIds))
+                .frequency(req.frequency())
+                .firstDate(req.firstDate())
+                .untilDate(req.untilDate())
+                .occurrenceCount(req.occurrenceCount())
+                .startTime(startTime)
+                .endTime(endTime)
+                .description(req.description())
+                .build());
+
+        // 6) 회차별 Reservation batch insert
+        List<Reservation> reservations = dates.stream()
+                .map(date -> Reservation.builder()
+                        .studioId(studioId)
+                        .customerId(req.customerId())
+                        .designerId(req.designerId())
+                        .reservationDate(date)
+                        .startTime(startTime)
+                        .endTime(endTime)
+                        .description(req.description())
+                        .status(ReservationStatus.RESERVED)
+                        .seriesId(series.getId())
+                        .serviceIds(new ArrayList<>(serviceIds))
+                        .build())
+                .toList();
+
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+
+        // 7) 상담 / UNPAID 결제 batch insert
+        consultationService.createPendingForReservations(saved);
+        paymentService.createUnpaidPaymentsForReservations(saved, services);
+
+        for (LocalDate date : dates) {
+            designerAvailabilityService.invalidateAfterCommit(req.designerId(), date);
+        }
+        for (Reservation r : saved) {
+            eventPublisher.publishEvent(ReservationChangedEvent.of(ChangeType.CREATED, r));
+        }
+
+        return new ReservationSeriesRes(
+                series.getId(),
+                series.getFrequency(),
+                reservationResponseAssembler.toDtos(saved)
+        );
+    }
+
+    /**
+     * firstDate 부터 frequency 간격으로 날짜 생성.
+     * untilDate(포함) 와 occurrenceCount 중 먼저 도달하는 쪽에서 멈춤 (최대 MAX_OCCURRENCES).
+     */
+    private List<LocalDate> materializeDates(ReservationSeriesCreateReq req) {
+        int limit = (req.occurrenceCount() != null)
+                ? Math.min(req.occurrenceCount(), MAX_OCCURRENCES)
+                : MAX_OCCURRENCES;
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < limit; i++) {
+            LocalDate date = switch (req.frequency()) {
+                case WEEKLY   -> req.firstDate().plusWeeks(i);
+                case BIWEEKLY -> req.firstDate().plusWeeks(2L * i);
+                case MONTHLY  -> req.firstDate().plusMonths(i);
+            };
+            if (req.untilDate() != null && date.isAfter(req.untilDate())) {
+                break;
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+}
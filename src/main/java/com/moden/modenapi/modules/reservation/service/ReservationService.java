@@ -1,39 +1,42 @@
 package com.moden.modenapi.modules.reservation.service;
 
-import com.moden.modenapi.common.enums.ConsultationStatus;
 import com.moden.modenapi.common.enums.ReservationStatus;
 import com.moden.modenapi.common.enums.Weekday;
 import com.moden.modenapi.common.service.BaseService;
-import com.moden.modenapi.modules.auth.model.User;
-import com.moden.modenapi.modules.auth.repository.UserRepository;
+import com.moden.modenapi.common.utils.TimeUtil;
 import com.moden.modenapi.modules.consultation.service.ConsultationService;
 import com.moden.modenapi.modules.designer.model.DesignerDetail;
 import com.moden.modenapi.modules.designer.repository.DesignerDetailRepository;
+import com.moden.modenapi.modules.payment.service.Money;
 import com.moden.modenapi.modules.payment.service.PaymentService;
 import com.moden.modenapi.modules.reservation.dto.ReservationCreateRequest;
+import com.moden.modenapi.modules.reservation.dto.ReservationCursor;
 import com.moden.modenapi.modules.reservation.dto.ReservationPageRes;
 import com.moden.modenapi.modules.reservation.dto.ReservationResponse;
 import com.moden.modenapi.modules.reservation.dto.ReservationUpdateRequest;
+import com.moden.modenapi.modules.reservation.event.ReservationCanceledEvent;
+import com.moden.modenapi.modules.reservation.event.ReservationChangedEvent;
+import com.moden.modenapi.modules.reservation.event.ReservationChangedEvent.ChangeType;
 import com.moden.modenapi.modules.reservation.model.Reservation;
 import com.moden.modenapi.modules.reservation.repository.ReservationRepository;
-import com.moden.modenapi.modules.studioservice.model.StudioService;
-import com.moden.modenapi.modules.studioservice.repository.StudioServiceRepository;
+import com.moden.modenapi.modules.studioservice.service.StudioPriceTable;
+import com.moden.modenapi.modules.studioservice.service.StudioPriceTableCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -45,8 +48,11 @@ public class ReservationService extends BaseService<Reservation> {
     private final PaymentService paymentService;
     private final DesignerDetailRepository designerDetailRepository;
     private final ConsultationService consultationService;
-    private final UserRepository userRepository;
-    private final StudioServiceRepository studioServiceRepository;
+    private final StudioPriceTableCache priceTableCache;
+    private final ReservationResponseAssembler reservationResponseAssembler;
+    private final DesignerAvailabilityService designerAvailabilityService;
+    private final DesignerDayLockService designerDayLockService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     protected JpaRepository<Reservation, UUID> getRepository() {
@@ -77,8 +83,10 @@ public class ReservationService extends BaseService<Reservation> {
 
         UUID studioId = req.studioId();
 
-        // 0) 시간 검증
-        if (req.startTime().compareTo(req.endTime()) >= 0) {
+        // 0) 시간 검증 ("HH:mm" → LocalTime)
+        LocalTime startTime = TimeUtil.parseHhMm(req.startTime());
+        LocalTime endTime   = TimeUtil.parseHhMm(req.endTime());
+        if (startTime == null || endTime == null || !startTime.isBefore(endTime)) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "예약 시작 시간은 종료 시간보다 빨라야 합니다."
@@ -119,9 +127,9 @@ public class ReservationService extends BaseService<Reservation> {
             );
         }
 
-        // 2-1) 이 샵에 속한 서비스들만 가져오기
-        List<StudioService> services =
-                studioServiceRepository.findAllByStudioAndIds(studioId, serviceIds);
+        // 2-1) 이 샵에 속한 서비스들만 (스튜디오 가격표 캐시)
+        List<StudioPriceTable.ServicePrice> services =
+                priceTableCache.get(studioId).servicesOf(serviceIds);
 
         if (services.size() != serviceIds.size()) {
             throw new ResponseStatusException(
@@ -130,18 +138,32 @@ public class ReservationService extends BaseService<Reservation> {
             );
         }
 
-        // 2-2) 💰 총 금액 계산 (BigDecimal 로)
-        BigDecimal totalAmount = services.stream()
-                .map(StudioService::getServicePrice)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 2-2) 💰 총 금액 계산
+        Money totalAmount = StudioPriceTable.totalPrice(services);
 
         // 3) 중복 예약 체크
+        // 3-1) in-memory 일정으로 먼저 확인 (캐시는 힌트, 겹쳐 보이면 DB 에서 다시 로딩해 확인 후 거절)
+        if (!designerAvailabilityService.isFree(
+                req.designerId(),
+                req.reservationDate(),
+                startTime,
+                endTime
+        )) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "해당 시간대에는 이미 다른 고객이 이 디자이너에게 예약을 완료했습니다."
+            );
+        }
+
+        // 3-2) 디자이너/날짜 잠금 (동시 예약은 여기서 순서대로 처리됨)
+        designerDayLockService.lock(req.designerId(), req.reservationDate());
+
+        // 3-3) DB 기준 최종 확인 (잠금 이후라 앞선 예약 커밋 결과가 보임)
         boolean exists = reservationRepository.existsOverlappingForDesigner(
                 req.designerId(),              // 디자이너 userId
                 req.reservationDate(),
-                req.startTime(),
-                req.endTime(),
+                startTime,
+                endTime,
                 ReservationStatus.RESERVED
         );
 
@@ -158,14 +180,16 @@ public class ReservationService extends BaseService<Reservation> {
                 .customerId(req.customerId())
                 .designerId(req.designerId())
                 .reservationDate(req.reservationDate())
-                .startTime(req.startTime())
-                .endTime(req.endTime())
+                .startTime(startTime)
+                .endTime(endTime)
                 .description(req.description())
                 .status(ReservationStatus.RESERVED)
                 .serviceIds(new ArrayList<>(serviceIds))  // 🔥 ID 리스트 그대로 저장
                 .build();
 
         Reservation saved = reservationRepository.save(entity);
+        designerAvailabilityService.invalidateAfterCommit(saved.getDesignerId(), saved.getReservationDate());
+        eventPublisher.publishEvent(ReservationChangedEvent.of(ChangeType.CREATED, saved));
 
         // 5) 상담 생성
         consultationService.createPendingForReservation(saved);
@@ -173,7 +197,7 @@ public class ReservationService extends BaseService<Reservation> {
         // 6) 결제 생성 (총액은 paymentService 안에서 다시 계산하지만, 맞춰서 넘겨도 됨)
         paymentService.createUnpaidPaymentForReservation(
                 saved,
-                totalAmount.doubleValue()
+                totalAmount
         );
 
         // 7) 응답 DTO
@@ -187,11 +211,15 @@ public class ReservationService extends BaseService<Reservation> {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Reservation not found: " + id));
 
+        // 변경 전 날짜 일정도 무효화 (디자이너/날짜가 바뀔 수 있음)
+        designerAvailabilityService.invalidateAfterCommit(reservation.getDesignerId(), reservation.getReservationDate());
+        ReservationStatus prevStatus = reservation.getStatus();
+
         if (req.customerId() != null)      reservation.setCustomerId(req.customerId());
         if (req.designerId() != null)      reservation.setDesignerId(req.designerId());
         if (req.reservationDate() != null) reservation.setReservationDate(req.reservationDate());
-        if (req.startTime() != null)       reservation.setStartTime(req.startTime());
-        if (req.endTime() != null)         reservation.setEndTime(req.endTime());
+        if (req.startTime() != null)       reservation.setStartTime(TimeUtil.parseHhMm(req.startTime()));
+        if (req.endTime() != null)         reservation.setEndTime(TimeUtil.parseHhMm(req.endTime()));
         if (req.description() != null)     reservation.setDescription(req.description());
         if (req.status() != null)          reservation.setStatus(req.status());
 
@@ -200,6 +228,16 @@ public class ReservationService extends BaseService<Reservation> {
             reservation.setServiceIds(new ArrayList<>(req.serviceIds()));
         }
 
+        designerAvailabilityService.invalidateAfterCommit(reservation.getDesignerId(), reservation.getReservationDate());
+
+        boolean canceled = prevStatus != ReservationStatus.CANCELED
+                && reservation.getStatus() == ReservationStatus.CANCELED;
+        if (canceled && prevStatus == ReservationStatus.RESERVED) {
+            publishCanceled(reservation);
+        }
+        eventPublisher.publishEvent(ReservationChangedEvent.of(
+                canceled ? ChangeType.CANCELED : ChangeType.UPDATED, reservation));
+
         return toDto(reservation);
     }
 
@@ -218,9 +256,9 @@ public class ReservationService extends BaseService<Reservation> {
     // ----------------------------------------------------------------------
     @Transactional(readOnly = true)
     public List<ReservationResponse> listByDesigner(UUID designerId) {
-        return reservationRepository.findByDesignerId(designerId).stream()
-                .map(this::toDto)
-                .toList();
+        return reservationResponseAssembler.toDtos(
+                reservationRepository.findByDesignerId(designerId)
+        );
     }
 
     // ----------------------------------------------------------------------
@@ -232,10 +270,36 @@ public class ReservationService extends BaseService<Reservation> {
                         HttpStatus.NOT_FOUND,
                         "해당 ID의 예약을 찾을 수 없습니다: " + id
                 ));
+        ReservationStatus prevStatus = reservation.getStatus();
         reservation.setStatus(ReservationStatus.CANCELED);
+
+        if (prevStatus == ReservationStatus.RESERVED) {
+            // 캐시 전체를 버리지 않고 해당 구간만 비움 + 대기자 매칭 트리거 (커밋 이후)
+            designerAvailabilityService.releaseAfterCommit(
+                    reservation.getDesignerId(),
+                    reservation.getReservationDate(),
+                    reservation.getStartTime(),
+                    reservation.getEndTime()
+            );
+            publishCanceled(reservation);
+        }
+        if (prevStatus != ReservationStatus.CANCELED) {
+            eventPublisher.publishEvent(ReservationChangedEvent.of(ChangeType.CANCELED, reservation));
+        }
         return toDto(reservation);
     }
 
+    private void publishCanceled(Reservation reservation) {
+        eventPublisher.publishEvent(new ReservationCanceledEvent(
+                reservation.getId(),
+                reservation.getStudioId(),
+                reservation.getDesignerId(),
+                reservation.getReservationDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime()
+        ));
+    }
+
     // ----------------------------------------------------------------------
 // SEARCH DYNAMIC (filter + pagination + meta)
 // ----------------------------------------------------------------------
@@ -250,50 +314,90 @@ public class ReservationService extends BaseService<Reservation> {
             Integer page,
             Integer size
     ) {
-        // 🔹 1) page / size 보정 (네 로직 그대로 유지)
+        return searchDynamic(designerId, customerId, serviceId, status, fromDate, toDate, page, size, null);
+    }
+
+    /**
+     * cursor 가 있으면 keyset 페이지 (OFFSET 없음), 없으면 page 기반 OFFSET 페이지.
+     * 정렬은 항상 reservationDate DESC, startTime DESC, id DESC.
+     * 전체 개수 / page 번호는 page 기반 조회에서만 (cursor 페이지마다 COUNT 를 다시 돌리지 않음 → null).
+     */
+    @Transactional(readOnly = true)
+    public ReservationPageRes searchDynamic(
+            UUID designerId,
+            UUID customerId,
+            UUID serviceId,
+            ReservationStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Integer page,
+            Integer size,
+            String cursor
+    ) {
+        // 🔹 1) page / size 보정
         int pageIndex = (page == null || page < 1) ? 0 : page - 1;  // 0-based
         int limit     = (size == null || size < 1) ? 10 : size;
 
-        Pageable pageable = PageRequest.of(
-                pageIndex,
-                limit,
-                Sort.by(Sort.Direction.DESC, "reservationDate")
-                        .and(Sort.by(Sort.Direction.DESC, "startTime"))
-        );
+        List<Reservation> list;
+        Long totalCount;
+        Integer currentPage;
+        boolean hasNext;
+
+        if (cursor != null && !cursor.isBlank()) {
+            // 🔹 2-A) keyset: 마지막 행 이후부터 limit + 1 개 (다음 페이지 존재 여부 확인용)
+            ReservationCursor after = ReservationCursor.decode(cursor);
+
+            List<Reservation> rows = reservationRepository.searchDynamicAfter(
+                    designerId,
+                    customerId,
+                    serviceId,
+                    status,
+                    fromDate,
+                    toDate,
+                    after.reservationDate(),
+                    after.startTime(),
+                    after.id(),
+                    PageRequest.of(0, limit + 1)
+            );
 
-        // 🔹 2) 현재 페이지 데이터 조회 (기존 searchDynamic 그대로)
-        List<Reservation> list = reservationRepository.searchDynamic(
-                designerId,
-                customerId,
-                serviceId,
-                status,
-                fromDate,
-                toDate,
-                pageable
-        );
+            hasNext = rows.size() > limit;
+            list = hasNext ? rows.subList(0, limit) : rows;
+            totalCount = null;   // 첫 페이지(page 기반) 응답에서 이미 받음
+            currentPage = null;
+        } else {
+            // 🔹 2-B) OFFSET 페이지 + 동일 필터 COUNT 쿼리 (정렬은 쿼리에 고정, keyset 과 같은 순서)
+            Pageable pageable = PageRequest.of(pageIndex, limit);
+
+            Page<Reservation> result = reservationRepository.searchDynamic(
+                    designerId,
+                    customerId,
+                    serviceId,
+                    status,
+                    fromDate,
+                    toDate,
+                    pageable
+            );
 
-        // 🔹 3) ENTITY → DTO
-        List<ReservationResponse> data = list.stream()
-                .map(this::toDto)
-                .toList();
+            list = result.getContent();
+            totalCount = result.getTotalElements();
+            currentPage = pageIndex + 1;  // 1-based 페이지 번호
+            hasNext = result.hasNext();
+        }
 
-        // 🔹 4) 전체 개수
-        // 가장 좋은 건 동일한 필터로 COUNT 쿼리 하나 만드는 것:
-        //   long totalCount = reservationRepository.countDynamic(...);
-        //
-        // 우선은 형태 맞추는 게 목적이면, 아래처럼 data.size() 써도 동작은 함
-        // (이 경우 "현재 페이지 개수" = totalCount)
-        long totalCount = data.size();
-        // TODO: 나중에 진짜 total 원하면 countDynamic(...) 추가
+        // 🔹 3) ENTITY → DTO (payment / user / consultation 일괄 조회)
+        List<ReservationResponse> data = reservationResponseAssembler.toDtos(list);
 
-        int currentPage = pageIndex + 1;  // 1-based 페이지 번호
+        String nextCursor = (hasNext && !list.isEmpty())
+                ? ReservationCursor.of(list.get(list.size() - 1)).encode()
+                : null;
 
-        // 🔹 5) Page DTO 로 감싸서 리턴
+        // 🔹 4) Page DTO 로 감싸서 리턴
         return new ReservationPageRes(
                 totalCount,
                 limit,
                 currentPage,
-                data
+                data,
+                nextCursor
         );
     }
 
@@ -332,64 +436,10 @@ public class ReservationService extends BaseService<Reservation> {
     }
 
     // ----------------------------------------------------------------------
-    // ENTITY → DTO
+    // ENTITY → DTO (batch assembler 위임)
     // ----------------------------------------------------------------------
     private ReservationResponse toDto(Reservation r) {
-        var paymentStatus = paymentService.getPaymentStatusByReservationId(r.getId());
-
-        String customerFullName = null;
-        String customerPhone = null;
-        String designerFullName = null;
-        String paymentId = null;
-
-        // 1) 고객 정보 조회
-        if (r.getCustomerId() != null) {
-            var customerOpt = userRepository.findById(r.getCustomerId());
-            if (customerOpt.isPresent()) {
-                var customer = customerOpt.get();
-                customerFullName = customer.getFullName();
-                customerPhone = customer.getPhone();
-            }
-        }
-
-        UUID consultationId = null;
-        ConsultationStatus consultationStatus = null;
-        var consultationRes = consultationService.getByReservationId(r.getId());
-        if (consultationRes != null) {
-            // record 라면
-            consultationId = consultationRes.id();
-            consultationStatus = consultationRes.status();
-
-            // 2) 디자이너 이름
-            if (r.getDesignerId() != null) {
-                var designerUserOpt = userRepository.findById(r.getDesignerId());
-                designerFullName = designerUserOpt.map(User::getFullName).orElse(null);
-            }
-        }
-
-        // 3) serviceName 은 사용하지 않고, serviceIds 그대로 내려줌
-        return new ReservationResponse(
-                r.getId(),
-                r.getStudioId(),
-                r.getCustomerId(),
-                customerFullName,
-                r.getDesignerId(),
-                consultationId,
-                consultationStatus,
-                designerFullName,
-                r.getServiceIds(),
-                r.getReservationDate(),
-                r.getStartTime(),
-                r.getEndTime(),
-                customerPhone,
-                r.getDescription(),
-                r.getStatus(),
-                paymentId,
-                paymentStatus,
-                r.getCreatedAt(),
-                r.getUpdatedAt(),
-                r.getDeletedAt()
-        );
+        return reservationResponseAssembler.toDto(r);
     }
 
 }
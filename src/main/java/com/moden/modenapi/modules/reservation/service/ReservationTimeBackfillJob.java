@@ -0,0 +1,128 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.common.utils.TimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Time;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * reservation.start_time / end_time (varchar "HH:mm") → start_at / end_at (time) 백필 (SQL Server 전용).
+ *
+ *  - 기동 시 (웹 서버가 요청을 받기 전) 전체 백필 → 조회 쿼리는 start_at / end_at 만 사용
+ *  - 작은 배치(UPDATE TOP n)로 나눠 각각 바로 커밋 → 긴 잠금 없음
+ *  - TRY_CONVERT 로 못 읽는 값은 TimeUtil.parseLegacy ("9:00" 등) 로 한 번 더,
+ *    그래도 못 읽으면 00:00~00:00 (길이 0 → 겹침 체크에 걸리지 않음) 으로 채우고 id / 원래 값을 로그로 남김
+ *    (legacy 컬럼의 원래 문자열은 그대로 둠)
+ *  - 배포 중 이전 버전 인스턴스가 INSERT 한 row (start_at null) 는 주기 실행으로 채움
+ *    "남은 row 가 있는지" 는 filtered index (start_at IS NULL) 로 확인 → 메모리 플래그 없이 재시작해도 비용 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationTimeBackfillJob implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 500;
+
+    static final String MISSING_INDEX_NAME = "ix_reservation_start_at_missing";
+
+    private static final String CREATE_MISSING_INDEX_SQL = """
+        IF NOT EXISTS (SELECT 1 FROM sys.indexes
+                       WHERE name = '%s' AND object_id = OBJECT_ID('dbo.reservation'))
+            CREATE INDEX %s ON reservation (id) WHERE start_at IS NULL
+        """.formatted(MISSING_INDEX_NAME, MISSING_INDEX_NAME);
+
+    private static final String BACKFILL_SQL = """
+        UPDATE TOP (%d) reservation
+        SET start_at = TRY_CONVERT(time, start_time),
+            end_at   = TRY_CONVERT(time, end_time)
+        WHERE start_at IS NULL
+          AND TRY_CONVERT(time, start_time) IS NOT NULL
+          AND TRY_CONVERT(time, end_time)   IS NOT NULL
+        """.formatted(BATCH_SIZE);
+
+    // TRY_CONVERT 로 못 읽은 나머지
+    private static final String FIND_REMAINING_SQL = """
+        SELECT TOP (%d) CONVERT(varchar(36), id), start_time, end_time
+        FROM reservation
+        WHERE start_at IS NULL
+        """.formatted(BATCH_SIZE);
+
+    private static final String FIX_ROW_SQL = """
+        UPDATE reservation SET start_at = ?, end_at = ?
+        WHERE id = CONVERT(uniqueidentifier, ?) AND start_at IS NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 모든 singleton (EntityManagerFactory 의 ddl-auto 포함) 생성 후, 웹 서버 시작 전 */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            if (!isSqlServer()) {
+                return;
+            }
+            jdbcTemplate.execute(CREATE_MISSING_INDEX_SQL);
+        } catch (Exception e) {
+            log.warn("Reservation time backfill index setup failed", e);
+        }
+        backfill();
+    }
+
+    @Scheduled(initialDelay = 15_000, fixedDelay = 15_000)
+    public void backfill() {
+        long total = 0;
+        try {
+            if (!isSqlServer()) {
+                return;
+            }
+
+            int updated;
+            do {
+                updated = jdbcTemplate.update(BACKFILL_SQL);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            List<String[]> remaining;
+            do {
+                remaining = jdbcTemplate.query(FIND_REMAINING_SQL,
+                        (rs, i) -> new String[]{rs.getString(1), rs.getString(2), rs.getString(3)});
+                for (String[] row : remaining) {
+                    fixRow(row[0], row[1], row[2]);
+                }
+                total += remaining.size();
+            } while (remaining.size() == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("Reservation time backfill finished. rows={}", total);
+            }
+        } catch (Exception e) {
+            log.warn("Reservation time backfill failed after rows={}, will retry", total, e);
+        }
+    }
+
+    private void fixRow(String id, String legacyStart, String legacyEnd) {
+        LocalTime start = TimeUtil.parseLegacy(legacyStart);
+        LocalTime end = TimeUtil.parseLegacy(legacyEnd);
+        if (start == null || end == null) {
+            log.warn("Unreadable legacy reservation time, set to 00:00-00:00. id={}, start_time='{}', end_time='{}'",
+                    id, legacyStart, legacyEnd);
+            start = LocalTime.MIDNIGHT;
+            end = LocalTime.MIDNIGHT;
+        }
+        jdbcTemplate.update(FIX_ROW_SQL, Time.valueOf(start), Time.valueOf(end), id);
+    }
+
+    private boolean isSqlServer() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("sql server");
+    }
+}
@@ -0,0 +1,172 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.common.enums.WaitlistStatus;
+import com.moden.modenapi.common.utils.TimeUtil;
+import com.moden.modenapi.modules.reservation.dto.ReservationCreateRequest;
+import com.moden.modenapi.modules.reservation.dto.ReservationResponse;
+import com.moden.modenapi.modules.reservation.event.ReservationCanceledEvent;
+import com.moden.modenapi.modules.reservation.model.WaitlistEntry;
+import com.moden.modenapi.modules.reservation.repository.WaitlistEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 예약 취소 → 대기자 매칭.
+ *
+ * - 취소 트랜잭션 커밋 이후, 요청 스레드가 아닌 async 스레드에서 실행 (cancel 응답 시간에 영향 없음)
+ * - 빈 시간 판단은 DesignerAvailabilityService 의 in-memory 일정으로 (예약 전체 재조회 없음)
+ * - 먼저 등록한 대기자부터 확인, 첫 번째로 맞는 대기자 1명에게만 배정
+ *   autoBook = true  → 바로 예약 (ReservationService.createReservation, 잠금/DB 재확인 포함)
+ *   autoBook = false → OFFERED + 제안 시작 시간 / 수락 기한 기록 (고객이 WaitlistService.accept 로 수락)
+ * - 슬롯을 잡아두지는 않음 → 수락 시 createReservation 의 잠금/DB 재확인으로 최종 판단
+ * - 기한 내 수락하지 않은 제안은 WAITING 으로 되돌리고, 그 구간을 다음 대기자에게 다시 매칭
+ */
+@Slf4j
+@Component
+public class WaitlistMatcher {
+
+    static final Duration OFFER_TTL = Duration.ofMinutes(15);
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final DesignerAvailabilityService designerAvailabilityService;
+    private final ReservationService reservationService;
+    private final TransactionTemplate txTemplate;
+
+    public WaitlistMatcher(
+            WaitlistEntryRepository waitlistEntryRepository,
+            DesignerAvailabilityService designerAvailabilityService,
+            ReservationService reservationService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.designerAvailabilityService = designerAvailabilityService;
+        this.reservationService = reservationService;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationCanceled(ReservationCanceledEvent event) {
+        match(event.designerId(), event.reservationDate(), event.startTime(), event.endTime(), Set.of());
+    }
+
+    /**
+     * 1분마다 — 수락 기한이 지난 제안을 WAITING 으로 되돌리고 그 구간을 다음 대기자에게 매칭.
+     * (방금 만료된 대기자는 이번 재매칭에서 제외, 다음 취소 때 다시 대상)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void expireOffers() {
+        Instant now = Instant.now();
+        for (WaitlistEntry offer : waitlistEntryRepository.findExpiredOffers(now)) {
+            try {
+                Integer expired = txTemplate.execute(status -> waitlistEntryRepository.expireOffer(offer.getId(), now));
+                if (expired == null || expired == 0) {
+                    continue; // 그 사이 수락 / 취소됨
+                }
+                LocalTime start = offer.getOfferedStart();
+                if (start != null) {
+                    match(offer.getDesignerId(), offer.getWaitDate(),
+                            start, start.plusMinutes(offer.getDurationMin()), Set.of(offer.getId()));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Waitlist offer expiry failed for entry {}", offer.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * [freedStart, freedEnd) 가 비었을 때 희망 시간대가 겹치는 WAITING 대기자에게 등록 순으로 배정 (1명).
+     */
+    private void match(UUID designerId, LocalDate date, LocalTime freedStart, LocalTime freedEnd, Set<UUID> skip) {
+        List<WaitlistEntry> waiting = waitlistEntryRepository
+                .findByDesignerIdAndWaitDateAndStatusAndDeletedAtIsNullOrderByCreatedAtAsc(
+                        designerId,
+                        date,
+                        WaitlistStatus.WAITING
+                );
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        for (WaitlistEntry entry : waiting) {
+            if (skip.contains(entry.getId())) {
+                continue;
+            }
+            // 희망 시간대가 비워진 구간과 겹치지 않으면 무관
+            if (!entry.getWindowStart().isBefore(freedEnd)
+                    || !freedStart.isBefore(entry.getWindowEnd())) {
+                continue;
+            }
+
+            Optional<LocalTime> start = designerAvailabilityService.findFirstFreeStart(
+                    entry.getDesignerId(),
+                    entry.getWaitDate(),
+                    entry.getDurationMin(),
+                    entry.getWindowStart(),
+                    entry.getWindowEnd()
+            );
+            if (start.isEmpty()) {
+                continue;
+            }
+
+            if (tryAssign(entry, start.get())) {
+                return;
+            }
+        }
+    }
+
+    private boolean tryAssign(WaitlistEntry entry, LocalTime startTime) {
+        try {
+            return Boolean.TRUE.equals(txTemplate.execute(status -> {
+                // 다른 스레드가 먼저 처리했을 수 있으므로 다시 읽어서 확인
+                WaitlistEntry fresh = waitlistEntryRepository.findById(entry.getId()).orElse(null);
+                if (fresh == null || fresh.getStatus() != WaitlistStatus.WAITING) {
+                    return false;
+                }
+
+                if (fresh.isAutoBook()) {
+                    ReservationResponse booked = reservationService.createReservation(new ReservationCreateRequest(
+                            fresh.getServiceIds(),
+                            fresh.getCustomerId(),
+                            fresh.getDesignerId(),
+                            fresh.getStudioId(),
+                            fresh.getWaitDate(),
+                            TimeUtil.formatHhMm(startTime),
+                            TimeUtil.formatHhMm(startTime.plusMinutes(fresh.getDurationMin())),
+                            "예약 대기 자동 배정"
+                    ));
+                    fresh.setStatus(WaitlistStatus.BOOKED);
+                    fresh.setReservationId(booked.id());
+                } else {
+                    fresh.setStatus(WaitlistStatus.OFFERED);
+                    fresh.setOfferExpiresAt(Instant.now().plus(OFFER_TTL));
+                }
+                fresh.setOfferedStart(startTime);
+                return true;
+            }));
+        } catch (ResponseStatusException e) {
+            // 그 사이 다른 예약이 들어왔거나 휴무일 등 → 다음 대기자로
+            log.info("Waitlist entry {} not booked: {}", entry.getId(), e.getReason());
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Waitlist matching failed for entry {}", entry.getId(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.common.enums.WaitlistStatus;
+import com.moden.modenapi.common.utils.CurrentUserUtil;
+import com.moden.modenapi.common.utils.TimeUtil;
+import com.moden.modenapi.modules.reservation.dto.ReservationCreateRequest;
+import com.moden.modenapi.modules.reservation.dto.ReservationResponse;
+import com.moden.modenapi.modules.reservation.dto.WaitlistCreateReq;
+import com.moden.modenapi.modules.reservation.dto.WaitlistRes;
+import com.moden.modenapi.modules.reservation.model.WaitlistEntry;
+import com.moden.modenapi.modules.reservation.repository.WaitlistEntryRepository;
+import com.moden.modenapi.modules.studioservice.model.StudioService;
+import com.moden.modenapi.modules.studioservice.repository.StudioServiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final StudioServiceRepository studioServiceRepository;
+    private final ReservationService reservationService;
+
+    // ----------------------------------------------------------------------
+    // CREATE
+    // ----------------------------------------------------------------------
+    public WaitlistRes create(WaitlistCreateReq req) {
+        if (req.studioId() == null || req.customerId() == null
+                || req.designerId() == null || req.date() == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "studioId, customerId, designerId, date 는 필수입니다."
+            );
+        }
+        if (isCustomerOnly() && !req.customerId().equals(CurrentUserUtil.currentUserId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 예약 대기만 등록할 수 있습니다.");
+        }
+
+        LocalTime windowStart = TimeUtil.parseHhMm(req.windowStart());
+        LocalTime windowEnd   = TimeUtil.parseHhMm(req.windowEnd());
+        if (windowStart == null || windowEnd == null || !windowStart.isBefore(windowEnd)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "희망 시간대 시작은 끝보다 빨라야 합니다."
+            );
+        }
+
+        List<UUID> serviceIds = req.serviceIds();
+        if (serviceIds == null || serviceIds.isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "최소 1개 이상의 서비스를 선택해야 합니다."
+            );
+        }
+
+        List<StudioService> services =
+                studioServiceRepository.findAllByStudioAndIds(req.studioId(), serviceIds);
+        if (services.size() != serviceIds.size()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "선택한 서비스 중 일부는 이 헤어샵에 존재하지 않습니다."
+            );
+        }
+
+        int durationMin = services.stream().mapToInt(StudioService::getDurationMin).sum();
+        if (durationMin <= 0
+                || windowStart.plusMinutes(durationMin).isAfter(windowEnd)
+                || windowStart.plusMinutes(durationMin).isBefore(windowStart)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "선택한 서비스 소요 시간이 희망 시간대보다 깁니다."
+            );
+        }
+
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .studioId(req.studioId())
+                .customerId(req.customerId())
+                .designerId(req.designerId())
+                .waitDate(req.date())
+                .windowStart(windowStart)
+                .windowEnd(windowEnd)
+                .serviceIds(new ArrayList<>(serviceIds))
+                .durationMin(durationMin)
+                .autoBook(Boolean.TRUE.equals(req.autoBook()))
+                .status(WaitlistStatus.WAITING)
+                .build();
+
+        return toDto(waitlistEntryRepository.save(entry));
+    }
+
+    // ----------------------------------------------------------------------
+    // LIST (studio + date)
+    // ----------------------------------------------------------------------
+    @Transactional(readOnly = true)
+    public List<WaitlistRes> listForStudio(UUID studioId, LocalDate date) {
+        return waitlistEntryRepository
+                .findByStudioIdAndWaitDateAndDeletedAtIsNullOrderByCreatedAtAsc(studioId, date)
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    // ----------------------------------------------------------------------
+    // LIST (현재 고객, 오늘 이후)
+    // ----------------------------------------------------------------------
+    @Transactional(readOnly = true)
+    public List<WaitlistRes> listMine(LocalDate fromDate) {
+        return waitlistEntryRepository
+                .findByCustomerIdAndWaitDateGreaterThanEqualAndDeletedAtIsNullOrderByWaitDateAscCreatedAtAsc(
+                        CurrentUserUtil.currentUserId(), fromDate)
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    // ----------------------------------------------------------------------
+    // ACCEPT (OFFERED → BOOKED)
+    // ----------------------------------------------------------------------
+    /**
+     * 제안된 빈자리 수락. 슬롯은 잡혀 있지 않으므로 createReservation 의 잠금/DB 확인이 최종 판단
+     * (그 사이 다른 예약이 들어왔으면 409, 제안은 기한이 지나면 WAITING 으로 돌아감).
+     */
+    public WaitlistRes accept(UUID id) {
+        WaitlistEntry entry = findOwned(id);
+        if (entry.getStatus() != WaitlistStatus.OFFERED
+                || entry.getOfferExpiresAt() == null
+                || entry.getOfferedStart() == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "수락할 수 있는 제안이 없습니다.");
+        }
+
+        if (waitlistEntryRepository.claimOffer(id, Instant.now()) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "제안 수락 기한이 지났습니다.");
+        }
+
+        LocalTime start = entry.getOfferedStart();
+        ReservationResponse booked = reservationService.createReservation(new ReservationCreateRequest(
+                entry.getServiceIds(),
+                entry.getCustomerId(),
+                entry.getDesignerId(),
+                entry.getStudioId(),
+                entry.getWaitDate(),
+                TimeUtil.formatHhMm(start),
+                TimeUtil.formatHhMm(start.plusMinutes(entry.getDurationMin())),
+                "예약 대기 제안 수락"
+        ));
+
+        WaitlistEntry fresh = waitlistEntryRepository.findById(id).orElseThrow();
+        fresh.setReservationId(booked.id());
+        fresh.setOfferExpiresAt(null);
+        return toDto(fresh);
+    }
+
+    // ----------------------------------------------------------------------
+    // CANCEL
+    // ----------------------------------------------------------------------
+    public WaitlistRes cancel(UUID id) {
+        WaitlistEntry entry = findOwned(id);
+        if (entry.getStatus() == WaitlistStatus.BOOKED) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "이미 예약이 완료된 대기입니다. 예약을 취소해 주세요."
+            );
+        }
+        entry.setStatus(WaitlistStatus.CANCELED);
+        return toDto(entry);
+    }
+
+    /** 고객(CUSTOMER) 은 본인 대기만 — 다른 고객의 ID 는 존재 여부도 알리지 않음 */
+    private WaitlistEntry findOwned(UUID id) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(id)
+                .filter(e -> e.getDeletedAt() == null)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "해당 ID의 예약 대기를 찾을 수 없습니다: " + id
+                ));
+        if (isCustomerOnly() && !entry.getCustomerId().equals(CurrentUserUtil.currentUserId())) {
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    "해당 ID의 예약 대기를 찾을 수 없습니다: " + id
+            );
+        }
+        return entry;
+    }
+
+    private boolean isCustomerOnly() {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return false;
+        var roles = auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+        return roles.contains("ROLE_CUSTOMER")
+                && !roles.contains("ROLE_HAIR_STUDIO")
+                && !roles.contains("ROLE_DESIGNER");
+    }
+
+    private WaitlistRes toDto(WaitlistEntry e) {
+        return new WaitlistRes(
+                e.getId(),
+                e.getStudioId(),
+                e.getCustomerId(),
+                e.getDesignerId(),
+                e.getWaitDate(),
+                TimeUtil.formatHhMm(e.getWindowStart()),
+                TimeUtil.formatHhMm(e.getWindowEnd()),
+                e.getServiceIds(),
+                e.getDurationMin(),
+                e.isAutoBook(),
+                e.getStatus(),
+                TimeUtil.formatHhMm(e.getOfferedStart()),
+                e.getOfferExpiresAt(),
+                e.getReservationId(),
+                e.getCreatedAt()
+        );
+    }
+}
@@ -5,6 +5,7 @@ import com.moden.modenapi.common.enums.CouponStatus;
 import com.moden.modenapi.common.enums.PointType;
 import com.moden.modenapi.common.enums.ReservationStatus;
 import com.moden.modenapi.common.response.ResponseMessage;
+import com.moden.modenapi.common.service.StudioContextService;
 import com.moden.modenapi.common.utils.CurrentUserUtil;
 import com.moden.modenapi.modules.consultation.dto.ConsultationRes;
 import com.moden.modenapi.modules.consultation.service.ConsultationService;
@@ -20,7 +21,7 @@ import com.moden.modenapi.modules.designer.dto.DesignerCreateDto;
 import com.moden.modenapi.modules.designer.dto.DesignerResponse;
 import com.moden.modenapi.modules.designer.dto.DesignerUpdateReq;
 import com.moden.modenapi.modules.designer.service.DesignerService;
-import com.moden.modenapi.modules.point.dto.PointCustomerRes;
+import com.moden.modenapi.modules.point.dto.PointCustomerPageRes;
 import com.moden.modenapi.modules.point.service.PointService;
 import com.moden.modenapi.modules.reservation.dto.ReservationPageRes;
 import com.moden.modenapi.modules.reservation.service.ReservationService;
@@ -29,6 +30,7 @@ import com.moden.modenapi.modules.studio.dto.StudioPrivacyPolicyRequest;
 import com.moden.modenapi.modules.studio.dto.StudioRes;
 import com.moden.modenapi.modules.studio.dto.StudioUpdateReq;
 import com.moden.modenapi.modules.studio.service.HairStudioService;
+import com.moden.modenapi.modules.studio.service.StudioCalendarStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -40,6 +42,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -58,6 +61,8 @@ public class StudioAdminController {
     private final ConsultationService consultationService;
     private final CouponService couponService;
     private final PointService pointService;
+    private final StudioContextService studioContextService;
+    private final StudioCalendarStreamService studioCalendarStreamService;
 
     @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
     @PostMapping("/customers/register")
@@ -231,12 +236,14 @@ public class StudioAdminController {
 
     @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
     @GetMapping("/customer/point/list/{customerId}")
-    public ResponseEntity<ResponseMessage<List<PointCustomerRes>>> listPointsForCustomer(
+    public ResponseEntity<ResponseMessage<PointCustomerPageRes>> listPointsForCustomer(
             @PathVariable UUID customerId,
             @RequestParam(required = false) PointType type,
-            @RequestParam(required = false, defaultValue = "ALL") String period
+            @RequestParam(required = false, defaultValue = "ALL") String period,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
     ) {
-        var list = pointService.listForCustomer(customerId, type, period);
+        var list = pointService.listForCustomer(customerId, type, period, cursor, size);
         return ResponseEntity.ok(ResponseMessage.success("OK", list));
     }
 
@@ -293,7 +300,8 @@ public class StudioAdminController {
             LocalDate toDate,
 
             @RequestParam(required = false, defaultValue = "1") Integer page,
-            @RequestParam(required = false, defaultValue = "10") Integer size
+            @RequestParam(required = false, defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         var list = reservationService.searchDynamic(
                 designerId,
@@ -303,7 +311,8 @@ public class StudioAdminController {
                 fromDate,
                 toDate,
                 page,
-                size
+                size,
+                cursor
         );
         return ResponseEntity.ok(
                 ResponseMessage.success("Reservation filtered list (paged).", list)
@@ -311,6 +320,17 @@ public class StudioAdminController {
     }
 
 
+    @PreAuthorize("hasAnyRole('HAIR_STUDIO','DESIGNER')")
+    @Operation(summary = "Reservation / payment live stream (SSE) for dashboards")
+    @GetMapping(value = "/reservation/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter reservationStream(
+            @RequestParam(required = false) UUID designerId
+    ) {
+        UUID studioId = studioContextService.resolveStudioIdForCurrentUser();
+        return studioCalendarStreamService.subscribe(studioId, designerId);
+    }
+
+
     // ----------------------------------------------------------------------
     // 🔹 Studio: 고객 정보 수정
     // ----------------------------------------------------------------------
@@ -0,0 +1,38 @@
+package com.moden.modenapi.modules.studio.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "대시보드 실시간 이벤트 (SSE data)")
+public record CalendarStreamEvent(
+
+        @Schema(description = "RESERVATION_CREATED / RESERVATION_UPDATED / RESERVATION_CANCELED / PAYMENT_CONFIRMED")
+        String type,
+
+        UUID reservationId,
+
+        @Schema(description = "PAYMENT_CONFIRMED 일 때만")
+        UUID paymentId,
+
+        UUID designerId,
+        UUID customerId,
+        LocalDate date,
+
+        @Schema(description = "HH:mm")
+        String startTime,
+
+        @Schema(description = "HH:mm")
+        String endTime,
+
+        @Schema(description = "예약 상태 또는 결제 상태")
+        String status,
+
+        @Schema(description = "PAYMENT_CONFIRMED 일 때만")
+        BigDecimal totalAmount,
+
+        Instant at
+) {}
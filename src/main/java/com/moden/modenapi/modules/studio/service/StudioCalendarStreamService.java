@@ -0,0 +1,168 @@
+package com.moden.modenapi.modules.studio.service;
+
+import com.moden.modenapi.common.utils.TimeUtil;
+import com.moden.modenapi.modules.payment.event.PaymentConfirmedEvent;
+import com.moden.modenapi.modules.reservation.event.ReservationChangedEvent;
+import com.moden.modenapi.modules.studio.dto.CalendarStreamEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤어샵 대시보드 실시간 스트림 (SSE).
+ *
+ * - 연결은 SseEmitter (async servlet) 로 유지 → 대기 중인 연결은 스레드를 점유하지 않음
+ * - ReservationService / PaymentService 가 발행한 이벤트를 커밋 이후 async 스레드에서 해당 헤어샵 구독자에게 push
+ * - designerId 로 구독하면 그 디자이너 이벤트만 받음 (디자이너 대시보드)
+ * - 프록시/로드밸런서 idle timeout 대비 주기적으로 heartbeat comment 전송
+ */
+@Slf4j
+@Service
+public class StudioCalendarStreamService {
+
+    // 30분 후 만료 → 클라이언트(EventSource)가 자동 재연결
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final Map<UUID, Set<Subscriber>> subscribersByStudio = new ConcurrentHashMap<>();
+    private final AtomicLong eventSeq = new AtomicLong();
+
+    private record Subscriber(SseEmitter emitter, UUID designerId) {
+        boolean accepts(UUID eventDesignerId) {
+            return designerId == null || designerId.equals(eventDesignerId);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // SUBSCRIBE
+    // ----------------------------------------------------------------------
+    public SseEmitter subscribe(UUID studioId, UUID designerId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(emitter, designerId);
+
+        Set<Subscriber> subscribers =
+                subscribersByStudio.computeIfAbsent(studioId, k -> ConcurrentHashMap.newKeySet());
+        subscribers.add(subscriber);
+
+        Runnable remove = () -> removeSubscriber(studioId, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(() -> {
+            remove.run();
+            emitter.complete();
+        });
+        emitter.onError(e -> remove.run());
+
+        try {
+            // 연결 직후 한 번 보내서 응답 헤더를 바로 flush
+            emitter.send(SseEmitter.event().name("connected").data("ok"));
+        } catch (IOException e) {
+            remove.run();
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribersByStudio.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // ----------------------------------------------------------------------
+    // EVENT → PUSH
+    // ----------------------------------------------------------------------
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        CalendarStreamEvent data = new CalendarStreamEvent(
+                "RESERVATION_" + event.type().name(),
+                event.reservationId(),
+                null,
+                event.designerId(),
+                event.customerId(),
+                event.reservationDate(),
+                TimeUtil.formatHhMm(event.startTime()),
+                TimeUtil.formatHhMm(event.endTime()),
+                event.status() != null ? event.status().name() : null,
+                null,
+                Instant.now()
+        );
+        broadcast(event.studioId(), event.designerId(), data);
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPaymentConfirmed(PaymentConfirmedEvent event) {
+        CalendarStreamEvent data = new CalendarStreamEvent(
+                "PAYMENT_CONFIRMED",
+                event.reservationId(),
+                event.paymentId(),
+                event.designerId(),
+                event.customerId(),
+                event.reservationDate(),
+                null,
+                null,
+                event.paymentStatus() != null ? event.paymentStatus().name() : null,
+                event.totalAmount(),
+                Instant.now()
+        );
+        broadcast(event.studioId(), event.designerId(), data);
+    }
+
+    private void broadcast(UUID studioId, UUID designerId, CalendarStreamEvent data) {
+        if (studioId == null) {
+            return;
+        }
+        Set<Subscriber> subscribers = subscribersByStudio.get(studioId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        String eventId = Long.toString(eventSeq.incrementAndGet());
+        for (Subscriber s : subscribers) {
+            if (!s.accepts(designerId)) {
+                continue;
+            }
+            // SseEventBuilder 는 재사용 불가 → 구독자마다 새로 생성
+            send(studioId, s, SseEmitter.event().id(eventId).name(data.type()).data(data));
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // HEARTBEAT (끊어진 연결 정리 겸용)
+    // ----------------------------------------------------------------------
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        subscribersByStudio.forEach((studioId, subscribers) -> {
+            for (Subscriber s : subscribers) {
+                send(studioId, s, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    private void send(UUID studioId, Subscriber s, SseEmitter.SseEventBuilder event) {
+        try {
+            s.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE subscriber dropped (studioId={}): {}", studioId, e.getMessage());
+            removeSubscriber(studioId, s);
+            s.emitter().completeWithError(e);
+        }
+    }
+
+    private void removeSubscriber(UUID studioId, Subscriber subscriber) {
+        subscribersByStudio.computeIfPresent(studioId, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
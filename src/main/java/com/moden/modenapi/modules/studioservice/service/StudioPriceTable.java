@@ -0,0 +1,138 @@
+package com.moden.modenapi.modules.studioservice.service;
+
+import com.moden.modenapi.modules.payment.service.Money;
+import com.moden.modenapi.modules.payment.service.PaymentCalculator;
+import com.moden.modenapi.modules.product.model.StudioProduct;
+import com.moden.modenapi.modules.studioservice.model.StudioService;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 한 스튜디오의 서비스 / 상품 가격표 (불변 스냅샷).
+ * StudioPriceTableCache 가 로딩해서 예약 생성 ~ 결제 확정까지 같이 쓴다.
+ * 서비스 Tip 은 가격·비율로 정해지므로 로딩 시 미리 계산해 둔다.
+ * 금액은 Money, 비율은 basis point 로 미리 바꿔 둬서 결제 계산에서 BigDecimal 을 만들지 않는다.
+ * (tipPercent 원본은 결제 항목 내역 저장용)
+ */
+public final class StudioPriceTable {
+
+    public record ServicePrice(
+            UUID id,
+            String name,
+            Money price,
+            BigDecimal tipPercent,
+            Money tip,
+            int durationMin
+    ) {}
+
+    public record ProductPrice(
+            UUID id,
+            String name,
+            Money price,
+            BigDecimal tipPercent,
+            long tipPercentBp
+    ) {}
+
+    private final UUID studioId;
+    private final Map<UUID, ServicePrice> services;
+    private final Map<UUID, ProductPrice> products;
+
+    private StudioPriceTable(UUID studioId,
+                             Map<UUID, ServicePrice> services,
+                             Map<UUID, ProductPrice> products) {
+        this.studioId = studioId;
+        this.services = services;
+        this.products = products;
+    }
+
+    static StudioPriceTable of(UUID studioId,
+                               List<StudioService> serviceRows,
+                               List<StudioProduct> productRows) {
+        Map<UUID, ServicePrice> services = new HashMap<>(serviceRows.size() * 2);
+        for (StudioService s : serviceRows) {
+            if (s.getDeletedAt() != null) continue;
+            Money price = Money.of(s.getServicePrice());
+            services.put(s.getId(), new ServicePrice(
+                    s.getId(),
+                    s.getServiceName(),
+                    price,
+                    s.getDesignerTipPercent(),
+                    PaymentCalculator.serviceTip(price, PaymentCalculator.basisPoints(s.getDesignerTipPercent())),
+                    s.getDurationMin()
+            ));
+        }
+
+        Map<UUID, ProductPrice> products = new HashMap<>(productRows.size() * 2);
+        for (StudioProduct p : productRows) {
+            if (p.getDeletedAt() != null) continue;
+            products.put(p.getId(), new ProductPrice(
+                    p.getId(),
+                    p.getProductName(),
+                    Money.of(p.getPrice()),
+                    p.getDesignerTipPercent(),
+                    PaymentCalculator.basisPoints(p.getDesignerTipPercent())
+            ));
+        }
+
+        return new StudioPriceTable(
+                studioId,
+                Collections.unmodifiableMap(services),
+                Collections.unmodifiableMap(products)
+        );
+    }
+
+    public UUID studioId() {
+        return studioId;
+    }
+
+    public ServicePrice service(UUID serviceId) {
+        return services.get(serviceId);
+    }
+
+    public ProductPrice product(UUID productId) {
+        return products.get(productId);
+    }
+
+    /**
+     * serviceIds 순서대로, 이 스튜디오에 있는 서비스만 (중복 id 는 한 번만).
+     * 결과 개수가 serviceIds 와 다르면 없는 서비스 / 중복이 섞여 있는 것.
+     */
+    public List<ServicePrice> servicesOf(List<UUID> serviceIds) {
+        if (serviceIds == null || serviceIds.isEmpty()) {
+            return List.of();
+        }
+        List<ServicePrice> result = new ArrayList<>(serviceIds.size());
+        for (UUID id : serviceIds) {
+            ServicePrice s = services.get(id);
+            if (s != null && !result.contains(s)) {
+                result.add(s);
+            }
+        }
+        return result;
+    }
+
+    public static Money totalPrice(List<ServicePrice> services) {
+        Money total = Money.ZERO;
+        for (ServicePrice s : services) {
+            total = total.plus(s.price());
+        }
+        return total;
+    }
+
+    public static Money totalTip(List<ServicePrice> services) {
+        Money total = Money.ZERO;
+        for (ServicePrice s : services) {
+            total = total.plus(s.tip());
+        }
+        return total;
+    }
+
+    public static int totalDuration(List<ServicePrice> services) {
+        int total = 0;
+        for (ServicePrice s : services) {
+            total += s.durationMin();
+        }
+        return total;
+    }
+}
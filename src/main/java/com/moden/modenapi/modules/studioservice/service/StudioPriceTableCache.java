@@ -0,0 +1,42 @@
+package com.moden.modenapi.modules.studioservice.service;
+
+import com.moden.modenapi.common.utils.LocalTtlCache;
+import com.moden.modenapi.modules.product.repository.StudioProductRepository;
+import com.moden.modenapi.modules.studioservice.repository.StudioServiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 스튜디오별 가격표 캐시 (in-memory).
+ *
+ *  - 처음 조회할 때 스튜디오의 서비스 / 상품을 한 번에 로딩
+ *  - StudioServiceService / StudioProductService 에서 변경 시 invalidate (커밋 후에도 한 번 더)
+ *  - 스튜디오 수 기준 LRU, 다른 인스턴스에서 수정된 값은 TTL 로 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class StudioPriceTableCache {
+
+    private final StudioServiceRepository studioServiceRepository;
+    private final StudioProductRepository studioProductRepository;
+
+    private final LocalTtlCache<UUID, StudioPriceTable> cache = new LocalTtlCache<>(2_000, Duration.ofMinutes(5));
+
+    @Transactional(readOnly = true)
+    public StudioPriceTable get(UUID studioId) {
+        return cache.get(studioId, id -> StudioPriceTable.of(
+                id,
+                studioServiceRepository.findByStudioId(id),
+                studioProductRepository.findAllByStudioIdAndDeletedAtIsNullOrderByProductNameAsc(id)
+        ));
+    }
+
+    /** 서비스 / 상품 변경 시 호출 (트랜잭션 안이면 커밋/롤백 후에도 제거) */
+    public void invalidate(UUID studioId) {
+        cache.invalidate(studioId);
+    }
+}
@@ -20,6 +20,7 @@ import java.util.UUID;
 public class StudioServiceService extends BaseService<StudioService> {
 
     private final StudioServiceRepository studioServiceRepository;
+    private final StudioPriceTableCache priceTableCache;
 
     // CREATE
     public StudioServiceRes create(UUID studioId, StudioServiceCreateRequest req) {
@@ -33,6 +34,7 @@ public class StudioServiceService extends BaseService<StudioService> {
                 .build();
 
         StudioService saved = studioServiceRepository.save(entity);
+        priceTableCache.invalidate(studioId);
         return toRes(saved);
     }
 
@@ -50,6 +52,7 @@ public class StudioServiceService extends BaseService<StudioService> {
         entity.setDurationMin(req.durationMin());
         entity.setServicePrice(req.servicePrice());
         entity.setDesignerTipPercent(req.designerTipPercent());
+        priceTableCache.invalidate(studioId);
 
         return toRes(entity);
     }
@@ -64,6 +67,7 @@ public class StudioServiceService extends BaseService<StudioService> {
         }
 
         studioServiceRepository.delete(entity);
+        priceTableCache.invalidate(studioId);
     }
 
     // DETAIL
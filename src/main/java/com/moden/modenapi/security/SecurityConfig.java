@@ -1,5 +1,6 @@
 package com.moden.modenapi.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +39,9 @@ public class SecurityConfig {
                         // Preflight
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // SSE(async) 완료/타임아웃 dispatch — 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger 전체 허용 (springdoc 설정이 /docs 사용)
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -0,0 +1,57 @@
+package com.moden.modenapi.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalTtlCacheTest {
+
+    @Test
+    void cachesNullAsNegativeEntry() {
+        LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("a", k -> { loads.incrementAndGet(); return null; }));
+        assertNull(cache.get("a", k -> { loads.incrementAndGet(); return null; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.negativeHits());
+    }
+
+    @Test
+    void invalidateDuringLoadDiscardsOnlyThatKey() {
+        LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofMinutes(1));
+
+        // "a" 로딩 중에 "a" 와 "b" 가 invalidate 된 상황
+        cache.get("a", k -> { cache.invalidate("a"); cache.invalidate("b"); return "stale"; });
+        cache.get("c", k -> { cache.invalidate("b"); return "c1"; });
+
+        assertNull(cache.getIfPresent("a"));
+        assertEquals("c1", cache.getIfPresent("c"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        LocalTtlCache<Integer, Integer> cache = new LocalTtlCache<>(2, Duration.ofMinutes(1));
+        cache.get(1, k -> k);
+        cache.get(2, k -> k);
+        cache.get(1, k -> k);   // 1 을 최근 사용으로
+        cache.get(3, k -> k);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+    }
+
+    @Test
+    void stillValidFalseReloads() {
+        LocalTtlCache<String, Integer> cache = new LocalTtlCache<>(10, Duration.ofMinutes(1));
+        cache.get("a", k -> 1);
+
+        assertEquals(2, cache.get("a", k -> 2, v -> v > 1));
+        assertEquals(2, cache.getIfPresent("a"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.moden.modenapi.modules.coupon.repository;
+
+import com.moden.modenapi.common.enums.CouponStatus;
+import com.moden.modenapi.modules.coupon.model.Coupon;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:couponredeem;MODE=MSSQLServer;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=40",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CouponRepositoryRedeemTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 22);
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentRedeemsOfOneCouponSucceedExactlyOnce() throws Exception {
+        UUID couponId = saveCoupon(TODAY.minusDays(1), TODAY.plusDays(30)).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        int attempts = 100;
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wins = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < attempts; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                Integer updated = tx.execute(status ->
+                        couponRepository.redeemIfAvailable(couponId, TODAY, Instant.now()));
+                if (updated != null && updated == 1) {
+                    wins.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        Coupon saved = couponRepository.findById(couponId).orElseThrow();
+        assertEquals(1, wins.get());
+        assertEquals(CouponStatus.USED, saved.getStatus());
+        assertEquals(TODAY, saved.getUsedDate());
+    }
+
+    @Test
+    void redeemOutsideValidityPeriodUpdatesNothing() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        UUID notStarted = saveCoupon(TODAY.plusDays(1), null).getId();
+        UUID expired = saveCoupon(null, TODAY.minusDays(1)).getId();
+
+        assertEquals(Integer.valueOf(0), tx.execute(s -> couponRepository.redeemIfAvailable(notStarted, TODAY, Instant.now())));
+        assertEquals(Integer.valueOf(0), tx.execute(s -> couponRepository.redeemIfAvailable(expired, TODAY, Instant.now())));
+        assertEquals(CouponStatus.AVAILABLE, couponRepository.findById(expired).orElseThrow().getStatus());
+    }
+
+    private Coupon saveCoupon(LocalDate startDate, LocalDate expiryDate) {
+        return couponRepository.save(Coupon.builder()
+                .studioId(UUID.randomUUID())
+                .name("campaign")
+                .discountAmount(BigDecimal.valueOf(5000))
+                .startDate(startDate)
+                .expiryDate(expiryDate)
+                .build());
+    }
+}
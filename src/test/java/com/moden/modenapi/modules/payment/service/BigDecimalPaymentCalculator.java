@@ -0,0 +1,51 @@
+package com.moden.modenapi.modules.payment.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money 도입 전 PaymentCalculator (BigDecimal) 그대로.
+ * 동치 테스트와 JMH 비교의 기준값으로만 사용.
+ */
+final class BigDecimalPaymentCalculator {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private BigDecimalPaymentCalculator() {
+    }
+
+    static BigDecimal percentOf(BigDecimal amount, BigDecimal percent) {
+        return amount
+                .multiply(percent)
+                .divide(HUNDRED, 0, RoundingMode.FLOOR);
+    }
+
+    static BigDecimal couponDiscount(BigDecimal base, BigDecimal rate, BigDecimal amount) {
+        if (base == null || base.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal rateDiscount = (rate != null) ? percentOf(base, rate) : BigDecimal.ZERO;
+        BigDecimal amountDiscount = (amount != null) ? amount : BigDecimal.ZERO;
+
+        BigDecimal totalDiscount = rateDiscount.add(amountDiscount);
+
+        if (totalDiscount.compareTo(base) > 0) {
+            totalDiscount = base;
+        }
+        if (totalDiscount.compareTo(BigDecimal.ZERO) < 0) {
+            totalDiscount = BigDecimal.ZERO;
+        }
+
+        return totalDiscount;
+    }
+
+    static BigDecimal serviceTip(BigDecimal price, BigDecimal percent) {
+        if (price == null || percent == null
+                || price.compareTo(BigDecimal.ZERO) <= 0
+                || percent.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return percentOf(price, percent);
+    }
+}
@@ -0,0 +1,213 @@
+package com.moden.modenapi.modules.payment.service;
+
+import com.moden.modenapi.common.enums.PaymentMethod;
+import com.moden.modenapi.common.enums.PaymentStatus;
+import com.moden.modenapi.common.enums.ReservationStatus;
+import com.moden.modenapi.common.enums.SettlementStatus;
+import com.moden.modenapi.modules.payment.model.DesignerSettlement;
+import com.moden.modenapi.modules.payment.model.Payment;
+import com.moden.modenapi.modules.payment.model.SettlementRun;
+import com.moden.modenapi.modules.payment.repository.DesignerSettlementRepository;
+import com.moden.modenapi.modules.payment.repository.PaymentRepository;
+import com.moden.modenapi.modules.payment.repository.SettlementRunRepository;
+import com.moden.modenapi.modules.payment.repository.SettlementStudioProgressRepository;
+import com.moden.modenapi.modules.reservation.model.Reservation;
+import com.moden.modenapi.modules.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:settlement;MODE=MSSQLServer;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DesignerSettlementServiceTest {
+
+    @Autowired private PaymentRepository paymentRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private DesignerSettlementRepository settlementRepository;
+    @Autowired private SettlementRunRepository runRepository;
+    @Autowired private SettlementStudioProgressRepository progressRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private DesignerSettlementService service;
+
+    // 테스트마다 다른 달 / 다른 스튜디오를 써서 서로 간섭하지 않음
+    private final UUID studioA = UUID.randomUUID();
+    private final UUID studioB = UUID.randomUUID();
+    private final UUID designerA1 = UUID.randomUUID();
+    private final UUID designerA2 = UUID.randomUUID();
+    private final UUID designerB1 = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new DesignerSettlementService(
+                paymentRepository, settlementRepository, runRepository, progressRepository, transactionManager);
+    }
+
+    @Test
+    void settlesPaidPaymentsOfTheMonthPerDesigner() {
+        YearMonth month = YearMonth.of(2025, 3);
+        seedMonth(month);
+
+        service.settle(month);
+
+        List<DesignerSettlement> a = rowsOf(studioA, month);
+        assertEquals(2, a.size());
+        assertEquals(designerA1, a.get(0).getDesignerId());
+        assertEquals(2, a.get(0).getPaymentCount());
+        assertEquals(0, new BigDecimal("300").compareTo(a.get(0).getSalesTotal()));
+        assertEquals(0, new BigDecimal("30").compareTo(a.get(0).getTipTotal()));
+        assertEquals(1, a.get(1).getPaymentCount());
+
+        assertEquals(1, rowsOf(studioB, month).size());
+
+        SettlementRun run = runRepository.findByPeriodStart(month.atDay(1)).orElseThrow();
+        assertEquals(SettlementStatus.COMPLETED, run.getStatus());
+        assertEquals(2, run.getStudioCount());
+
+        // 다음 달 결제 / 미결제는 정산 대상 아님
+        assertEquals(2, paymentRepository.findAll().stream()
+                .filter(p -> studioPayment(p, studioA) && p.getSettledPeriod() == null)
+                .count());
+    }
+
+    @Test
+    void rerunOfCompletedMonthChangesNothing() {
+        YearMonth month = YearMonth.of(2025, 4);
+        seedMonth(month);
+        service.settle(month);
+        long rowsBefore = settlementRepository.count();
+
+        // 정산 후 들어온 같은 달 결제도 완료된 달에는 반영되지 않음
+        savePaid(studioA, designerA1, month.atDay(20).atTime(12, 0), "999", "9");
+        service.settle(month);
+
+        assertEquals(rowsBefore, settlementRepository.count());
+        assertEquals(2, rowsOf(studioA, month).get(0).getPaymentCount());
+    }
+
+    @Test
+    void interruptedRunResumesOnlyUnfinishedStudios() {
+        YearMonth month = YearMonth.of(2025, 5);
+        seedMonth(month);
+        service.settle(month);
+
+        // 스튜디오 B 처리 중에 죽은 상태로 되돌림 (B 트랜잭션은 롤백, 실행 row 는 RUNNING)
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            settlementRepository.deleteAll(rowsOf(studioB, month));
+            progressRepository.findAll().stream()
+                    .filter(p -> p.getStudioId().equals(studioB))
+                    .forEach(progressRepository::delete);
+            // settledPeriod 는 엔티티로 수정되지 않는 컬럼 → SQL 로 되돌림
+            jdbcTemplate.update("update payment set settled_period = null "
+                    + "where reservation_id in (select id from reservation where studio_id = ?)", studioB);
+            SettlementRun run = runRepository.findByPeriodStart(month.atDay(1)).orElseThrow();
+            run.setStatus(SettlementStatus.RUNNING);
+            run.setFinishedAt(null);
+        });
+        List<UUID> rowIdsOfA = rowsOf(studioA, month).stream().map(DesignerSettlement::getId).toList();
+
+        service.settle(month);
+
+        assertEquals(rowIdsOfA, rowsOf(studioA, month).stream().map(DesignerSettlement::getId).toList());
+        assertEquals(1, rowsOf(studioB, month).size());
+        SettlementRun run = runRepository.findByPeriodStart(month.atDay(1)).orElseThrow();
+        assertEquals(SettlementStatus.COMPLETED, run.getStatus());
+        assertEquals(2, run.getStudioCount());
+    }
+
+    @Test
+    void rangeRejectsUnfinishedMonths() {
+        YearMonth current = YearMonth.now(SalesRollupService.SALES_ZONE);
+        assertThrows(ResponseStatusException.class, () -> service.settleRange(current.minusMonths(1), current));
+    }
+
+    // ----------------------------------------------------------------------
+
+    /** A: 디자이너1 2건 + 디자이너2 1건, B: 1건, 그 외 다음 달 1건 / 미결제 1건 */
+    private void seedMonth(YearMonth month) {
+        savePaid(studioA, designerA1, month.atDay(1).atTime(10, 0), "100", "10");
+        savePaid(studioA, designerA1, month.atEndOfMonth().atTime(18, 0), "200", "20");
+        savePaid(studioA, designerA2, month.atDay(15).atTime(12, 0), "50", "5");
+        savePaid(studioB, designerB1, month.atDay(10).atTime(12, 0), "70", "7");
+        savePaid(studioA, designerA1, month.plusMonths(1).atDay(1).atTime(10, 0), "500", "50");
+
+        Reservation pending = saveReservation(studioA, designerA2, month.atDay(3).atTime(11, 0));
+        paymentRepository.save(Payment.builder()
+                .reservationId(pending.getId())
+                .paymentStatus(PaymentStatus.PENDING)
+                .serviceTotal(new BigDecimal("80"))
+                .productTotal(BigDecimal.ZERO)
+                .pointsUsed(BigDecimal.ZERO)
+                .totalAmount(new BigDecimal("80"))
+                .designerTipAmount(BigDecimal.ZERO)
+                .build());
+    }
+
+    private void savePaid(UUID studioId, UUID designerId, LocalDateTime at, String total, String tip) {
+        Reservation r = saveReservation(studioId, designerId, at);
+        paymentRepository.save(Payment.builder()
+                .reservationId(r.getId())
+                .paymentStatus(PaymentStatus.PAID)
+                .paymentMethod(PaymentMethod.CARD)
+                .serviceTotal(new BigDecimal(total))
+                .productTotal(BigDecimal.ZERO)
+                .pointsUsed(BigDecimal.ZERO)
+                .totalAmount(new BigDecimal(total))
+                .designerTipAmount(new BigDecimal(tip))
+                .paidAt(at.atZone(SalesRollupService.SALES_ZONE).toInstant())
+                .build());
+    }
+
+    private Reservation saveReservation(UUID studioId, UUID designerId, LocalDateTime at) {
+        return reservationRepository.save(Reservation.builder()
+                .studioId(studioId)
+                .customerId(UUID.randomUUID())
+                .designerId(designerId)
+                .reservationDate(at.toLocalDate())
+                .startTime(at.toLocalTime())
+                .endTime(at.toLocalTime().plusMinutes(30).isBefore(LocalTime.of(23, 0))
+                        ? at.toLocalTime().plusMinutes(30) : LocalTime.of(23, 59))
+                .status(ReservationStatus.COMPLETED)
+                .build());
+    }
+
+    private List<DesignerSettlement> rowsOf(UUID studioId, YearMonth month) {
+        return settlementRepository.findAllByStudioIdAndPeriodStartOrderByTipTotalDesc(studioId, month.atDay(1));
+    }
+
+    private boolean studioPayment(Payment p, UUID studioId) {
+        return reservationRepository.findById(p.getReservationId())
+                .map(r -> r.getStudioId().equals(studioId))
+                .orElse(false);
+    }
+}
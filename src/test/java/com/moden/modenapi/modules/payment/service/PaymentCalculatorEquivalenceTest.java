@@ -0,0 +1,190 @@
+package com.moden.modenapi.modules.payment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Money / basis point 계산이 기존 BigDecimal 계산과 같은 값을 내는지 (임의 입력, 고정 seed).
+ * 금액 범위는 decimal(12,2), 비율은 decimal(5,2) 컬럼 범위 안.
+ */
+class PaymentCalculatorEquivalenceTest {
+
+    private static final long SEED = 20_240_611L;
+    private static final int CASES = 200_000;
+
+    /** decimal(12,2) 최대값 (minor) */
+    private static final long MAX_MINOR = 999_999_999_999L;
+    /** decimal(5,2) 최대값 (bp) */
+    private static final long MAX_BP = 99_999L;
+
+    private final Random random = new Random(SEED);
+
+    @Test
+    void percentOfMatchesBigDecimal() {
+        for (int i = 0; i < CASES; i++) {
+            long amount = signed(randomMinor());
+            long bp = signed(randomBp());
+
+            BigDecimal expected = BigDecimalPaymentCalculator.percentOf(decimal(amount), decimal(bp));
+            Money actual = PaymentCalculator.percentOf(new Money(amount), bp);
+
+            assertSame(expected, actual, "percentOf(" + decimal(amount) + ", " + decimal(bp) + ")");
+        }
+    }
+
+    @Test
+    void couponDiscountMatchesBigDecimal() {
+        for (int i = 0; i < CASES; i++) {
+            long base = signed(randomMinor());
+            Long rate = random.nextInt(4) == 0 ? null : randomBp();
+            Long amount = random.nextInt(4) == 0 ? null : randomMinor();
+
+            BigDecimal expected = BigDecimalPaymentCalculator.couponDiscount(
+                    decimal(base),
+                    rate == null ? null : decimal(rate),
+                    amount == null ? null : decimal(amount)
+            );
+            Money actual = PaymentCalculator.couponDiscount(
+                    new Money(base),
+                    rate == null ? 0L : rate,
+                    amount == null ? Money.ZERO : new Money(amount)
+            );
+
+            assertSame(expected, actual, "couponDiscount(" + decimal(base) + ", " + rate + ", " + amount + ")");
+        }
+    }
+
+    @Test
+    void serviceTipMatchesBigDecimal() {
+        for (int i = 0; i < CASES; i++) {
+            long price = signed(randomMinor());
+            long bp = signed(randomBp());
+
+            BigDecimal expected = BigDecimalPaymentCalculator.serviceTip(decimal(price), decimal(bp));
+            Money actual = PaymentCalculator.serviceTip(new Money(price), bp);
+
+            assertSame(expected, actual, "serviceTip(" + decimal(price) + ", " + decimal(bp) + ")");
+        }
+    }
+
+    /** confirmPayment 의 합계 / 포인트 / 쿠폰 / tip 계산 전체 */
+    @Test
+    void checkoutTotalsMatchBigDecimal() {
+        for (int i = 0; i < CASES / 10; i++) {
+            int serviceCount = 1 + random.nextInt(4);
+            int productCount = random.nextInt(4);
+
+            BigDecimal subTotalD = BigDecimal.ZERO;
+            BigDecimal tipD = BigDecimal.ZERO;
+            Money subTotal = Money.ZERO;
+            Money tip = Money.ZERO;
+
+            for (int s = 0; s < serviceCount; s++) {
+                long price = randomPrice();
+                long bp = randomBp();
+                subTotalD = subTotalD.add(decimal(price));
+                tipD = tipD.add(BigDecimalPaymentCalculator.serviceTip(decimal(price), decimal(bp)));
+                subTotal = subTotal.plus(new Money(price));
+                tip = tip.plus(PaymentCalculator.serviceTip(new Money(price), bp));
+            }
+            for (int p = 0; p < productCount; p++) {
+                long price = randomPrice();
+                long bp = randomBp();
+                int qty = 1 + random.nextInt(20);
+
+                BigDecimal lineTotalD = decimal(price).multiply(BigDecimal.valueOf(qty));
+                subTotalD = subTotalD.add(lineTotalD);
+                if (bp > 0) {
+                    tipD = tipD.add(BigDecimalPaymentCalculator.percentOf(lineTotalD, decimal(bp)));
+                }
+
+                Money lineTotal = new Money(price).times(qty);
+                subTotal = subTotal.plus(lineTotal);
+                if (bp > 0) {
+                    tip = tip.plus(PaymentCalculator.percentOf(lineTotal, bp));
+                }
+            }
+
+            long points = random.nextInt(3) == 0 ? 0L : Math.floorMod(random.nextLong(), subTotal.minor() + 10_000L);
+            BigDecimal afterPointD = subTotalD.subtract(decimal(points)).max(BigDecimal.ZERO);
+            Money afterPoint = subTotal.minus(new Money(points)).atLeastZero();
+
+            long rate = randomBp() % 10_001L;
+            long amount = randomPrice();
+            BigDecimal discountD = BigDecimalPaymentCalculator.couponDiscount(subTotalD, decimal(rate), decimal(amount));
+            Money discount = PaymentCalculator.couponDiscount(subTotal, rate, new Money(amount));
+
+            BigDecimal finalD = afterPointD.subtract(discountD).max(BigDecimal.ZERO);
+            Money finalAmount = afterPoint.minus(discount).atLeastZero();
+
+            assertSame(subTotalD, subTotal, "subTotal, case " + i);
+            assertSame(tipD, tip, "tip, case " + i);
+            assertSame(discountD, discount, "couponDiscount, case " + i);
+            assertSame(finalD, finalAmount, "finalAmount, case " + i);
+        }
+    }
+
+    @Test
+    void moneyRoundTripsStoredValues() {
+        for (int i = 0; i < CASES; i++) {
+            long minor = signed(randomMinor());
+            BigDecimal stored = decimal(minor);
+
+            assertEquals(minor, Money.of(stored).minor());
+            assertEquals(stored, Money.of(stored).toBigDecimal());
+            assertEquals(minor, Money.of(stored.setScale(4)).minor());
+        }
+        assertEquals(Money.ZERO, Money.of(null));
+        assertEquals(0L, PaymentCalculator.basisPoints(null));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("10.005")));
+        assertThrows(ArithmeticException.class, () -> PaymentCalculator.basisPoints(new BigDecimal("7.125")));
+        assertThrows(ArithmeticException.class, () -> new Money(Long.MAX_VALUE).plus(new Money(1L)));
+    }
+
+    // ------------------------------------------------------------------
+    // 입력 생성
+    // ------------------------------------------------------------------
+
+    /** 대부분 원 단위 (100 의 배수), 일부는 소수 / 경계값 */
+    private long randomMinor() {
+        return switch (random.nextInt(10)) {
+            case 0 -> 0L;
+            case 1 -> MAX_MINOR;
+            case 2, 3 -> Math.floorMod(random.nextLong(), MAX_MINOR + 1);
+            default -> Math.floorMod(random.nextLong(), 10_000_000L) * 100L;
+        };
+    }
+
+    /** 실제 가격대 (0 ~ 100만원, 원 단위) */
+    private long randomPrice() {
+        return random.nextInt(1_000_001) * 100L;
+    }
+
+    /** 0 ~ 999.99% (대부분 정수 %, 일부 7.5% 같은 소수) */
+    private long randomBp() {
+        return switch (random.nextInt(6)) {
+            case 0 -> 0L;
+            case 1 -> Math.floorMod(random.nextLong(), MAX_BP + 1);
+            case 2 -> random.nextInt(101) * 100L + 50L;
+            default -> random.nextInt(101) * 100L;
+        };
+    }
+
+    private long signed(long v) {
+        return random.nextInt(8) == 0 ? -v : v;
+    }
+
+    private static BigDecimal decimal(long minor) {
+        return BigDecimal.valueOf(minor, 2);
+    }
+
+    private static void assertSame(BigDecimal expected, Money actual, String message) {
+        assertEquals(0, expected.compareTo(actual.toBigDecimal()),
+                () -> message + " → expected " + expected + " but was " + actual);
+    }
+}
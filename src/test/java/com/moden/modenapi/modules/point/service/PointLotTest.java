@@ -0,0 +1,173 @@
+package com.moden.modenapi.modules.point.service;
+
+import com.moden.modenapi.common.enums.PointType;
+import com.moden.modenapi.modules.point.model.Point;
+import com.moden.modenapi.modules.point.repository.PointBalanceRepository;
+import com.moden.modenapi.modules.point.repository.PointRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 포인트 lot (EARNED.remaining_amount) 금액 로직: FIFO 차감, lot 도입 전 적립분 채우기, USED 정정, 만료.
+ * 모든 시나리오 끝에 잔액 = lot 잔여 합계 인지 확인.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PointBalanceService.class, PointExpirySweeper.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pointlot;MODE=MSSQLServer;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointLotTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Autowired private PointBalanceService balanceService;
+    @Autowired private PointExpirySweeper sweeper;
+    @Autowired private PointRepository pointRepository;
+    @Autowired private PointBalanceRepository balanceRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void debitConsumesOldestLotsFirst() {
+        UUID userId = UUID.randomUUID();
+        UUID older = earn(userId, "100", "100", null, 1);
+        UUID newer = earn(userId, "50", "50", null, 2);
+
+        debit(userId, "120");
+
+        assertRemaining(older, "0");
+        assertRemaining(newer, "30");
+        assertBalanceMatchesLots(userId, "30");
+    }
+
+    @Test
+    void legacyLotsAreFilledFromBalanceBeforeFirstDebit() {
+        UUID userId = UUID.randomUUID();
+        // lot 도입 전: 적립 100 + 50, 사용 70 → 잔액 80 (오래된 적립분부터 쓴 것으로 간주)
+        UUID older = earn(userId, "100", null, null, 1);
+        UUID newer = earn(userId, "50", null, null, 2);
+        save(userId, PointType.USED, "70", null, null, 3);
+
+        debit(userId, "30");
+
+        // 채우기: 최신 50 → 50, 오래된 100 → 30 / 차감 30 은 오래된 것부터
+        assertRemaining(older, "0");
+        assertRemaining(newer, "50");
+        assertBalanceMatchesLots(userId, "50");
+    }
+
+    @Test
+    void reversingUsedPointGivesAmountBackToLots() {
+        UUID userId = UUID.randomUUID();
+        UUID older = earn(userId, "100", "100", null, 1);
+        UUID newer = earn(userId, "50", "50", null, 2);
+        UUID used = debit(userId, "120");
+
+        tx().executeWithoutResult(status -> {
+            Point point = pointRepository.findById(used).orElseThrow();
+            point.setDeletedAt(Instant.now());
+            balanceService.reverse(userId, PointType.USED, point.getAmount());
+        });
+
+        assertRemaining(older, "100");
+        assertRemaining(newer, "50");
+        assertBalanceMatchesLots(userId, "150");
+
+        // 되돌린 뒤 다시 사용해도 lot 이 모자라지 않음
+        debit(userId, "150");
+        assertBalanceMatchesLots(userId, "0");
+    }
+
+    @Test
+    void sweepExpiresOnlyRemainingOfPastDueLots() {
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        UUID expiring = earn(userId, "100", "100", now.minus(Duration.ofDays(1)), 1);
+        UUID fresh = earn(userId, "50", "50", now.plus(Duration.ofDays(30)), 2);
+        debit(userId, "60");   // 만료될 lot 에서 60 먼저 사용 → 남은 40 만 만료
+
+        sweeper.sweep();
+
+        assertRemaining(expiring, "0");
+        assertRemaining(fresh, "50");
+        assertBalanceMatchesLots(userId, "50");
+        assertEquals(0, new BigDecimal("40").compareTo(pointRepository.sumExpiredByUser(userId)));
+        assertEquals(0, new BigDecimal("40").compareTo(
+                balanceRepository.findByUserId(userId).orElseThrow().getExpiredTotal()));
+    }
+
+    private UUID earn(UUID userId, String amount, String remaining, Instant expiresAt, int minute) {
+        return save(userId, PointType.EARNED, amount, remaining, expiresAt, minute);
+    }
+
+    /** 원장 INSERT (created_at 은 순서가 분명하도록 직접 지정) */
+    private UUID save(UUID userId, PointType type, String amount, String remaining, Instant expiresAt, int minute) {
+        UUID id = pointRepository.save(Point.builder()
+                .userId(userId)
+                .title("test")
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .remainingAmount(remaining == null ? null : new BigDecimal(remaining))
+                .expiresAt(expiresAt)
+                .build()).getId();
+        jdbcTemplate.update("UPDATE point SET created_at = ? WHERE id = ?",
+                Timestamp.from(T0.plus(Duration.ofMinutes(minute))), id);
+        return id;
+    }
+
+    /** PaymentService 와 같은 순서: ensureRow → USED INSERT → debit */
+    private UUID debit(UUID userId, String amount) {
+        return tx().execute(status -> {
+            balanceService.ensureRow(userId);
+            UUID id = pointRepository.save(Point.builder()
+                    .userId(userId)
+                    .title("use")
+                    .type(PointType.USED)
+                    .amount(new BigDecimal(amount))
+                    .build()).getId();
+            balanceService.debit(userId, new BigDecimal(amount));
+            return id;
+        });
+    }
+
+    private void assertRemaining(UUID lotId, String expected) {
+        BigDecimal remaining = pointRepository.findById(lotId).orElseThrow().getRemainingAmount();
+        assertEquals(0, new BigDecimal(expected).compareTo(remaining), "lot " + lotId + " remaining=" + remaining);
+    }
+
+    private void assertBalanceMatchesLots(UUID userId, String expected) {
+        BigDecimal balance = balanceRepository.findBalanceValue(userId).orElseThrow();
+        assertEquals(0, new BigDecimal(expected).compareTo(balance), "balance=" + balance);
+        assertEquals(0, balance.compareTo(pointRepository.sumLotRemainingByUser(userId)),
+                "lots=" + pointRepository.sumLotRemainingByUser(userId));
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
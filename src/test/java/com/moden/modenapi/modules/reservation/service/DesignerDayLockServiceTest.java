@@ -0,0 +1,136 @@
+package com.moden.modenapi.modules.reservation.service;
+
+import com.moden.modenapi.common.enums.DesignerStatus;
+import com.moden.modenapi.common.enums.ReservationStatus;
+import com.moden.modenapi.modules.designer.model.DesignerDetail;
+import com.moden.modenapi.modules.designer.repository.DesignerDetailRepository;
+import com.moden.modenapi.modules.reservation.dto.ReservationCreateRequest;
+import com.moden.modenapi.modules.reservation.model.Reservation;
+import com.moden.modenapi.modules.reservation.repository.ReservationRepository;
+import com.moden.modenapi.modules.studio.model.HairStudioDetail;
+import com.moden.modenapi.modules.studio.repository.HairStudioDetailRepository;
+import com.moden.modenapi.modules.studioservice.model.StudioService;
+import com.moden.modenapi.modules.studioservice.repository.StudioServiceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 디자이너/날짜에 동시에 들어온 예약 요청을 ReservationService.createReservation 으로 실행.
+ * 그 날 첫 예약(잠금 row 생성) 도 포함, connection pool 은 기본 크기 그대로.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:daylock;MODE=MSSQLServer;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "kakao.rest-api-key=test",
+        "kakao.redirect-uri=test",
+        "app.admin.password=test"
+})
+class DesignerDayLockServiceTest {
+
+    private static final LocalTime[][] SLOTS = {
+            {LocalTime.of(10, 0), LocalTime.of(11, 0)},
+            {LocalTime.of(11, 0), LocalTime.of(12, 0)},
+            {LocalTime.of(13, 0), LocalTime.of(14, 30)},
+            {LocalTime.of(15, 0), LocalTime.of(15, 30)}
+    };
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private DesignerDetailRepository designerDetailRepository;
+    @Autowired private HairStudioDetailRepository hairStudioDetailRepository;
+    @Autowired private StudioServiceRepository studioServiceRepository;
+
+    @Test
+    void concurrentBookingsForOneDesignerResolveToOneWinnerPerSlot() throws Exception {
+        UUID studioId = UUID.randomUUID();
+        UUID designerId = UUID.randomUUID();
+        LocalDate date = LocalDate.of(2025, 12, 22);
+
+        hairStudioDetailRepository.save(HairStudioDetail.builder()
+                .userId(studioId)
+                .businessNo("000-00-00000")
+                .build());
+        designerDetailRepository.save(DesignerDetail.builder()
+                .userId(designerId)
+                .hairStudioId(studioId)
+                .status(DesignerStatus.WORKING)
+                .daysOff(new ArrayList<>())
+                .build());
+        UUID serviceId = studioServiceRepository.save(StudioService.builder()
+                .studioId(studioId)
+                .serviceName("Cut")
+                .durationMin(30)
+                .servicePrice(new BigDecimal("100"))
+                .build()).getId();
+
+        int attempts = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wins = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < attempts; i++) {
+            LocalTime[] slot = SLOTS[i % SLOTS.length];
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    reservationService.createReservation(new ReservationCreateRequest(
+                            List.of(serviceId),
+                            UUID.randomUUID(),
+                            designerId,
+                            studioId,
+                            date,
+                            slot[0].toString(),
+                            slot[1].toString(),
+                            null
+                    ));
+                    wins.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        List<Reservation> saved = reservationRepository.findByDesignerIdAndReservationDateAndStatus(
+                designerId, date, ReservationStatus.RESERVED);
+
+        Map<LocalTime, Long> perSlot = saved.stream()
+                .collect(Collectors.groupingBy(Reservation::getStartTime, Collectors.counting()));
+
+        assertEquals(SLOTS.length, wins.get());
+        assertEquals(SLOTS.length, saved.size());
+        for (LocalTime[] slot : SLOTS) {
+            assertEquals(1L, perSlot.get(slot[0]), "slot " + slot[0]);
+        }
+    }
+}